@@ -17,6 +17,7 @@
 import ballerina/crypto;
 import ballerina/jballerina.java;
 import ballerina/sql;
+import ballerina/time;
 
 public isolated client class Client {
     *sql:Client;
@@ -44,7 +45,25 @@ public isolated client class Client {
             options: options,
             connectionPool: connectionPool
         };
-        return createClient(self, clientConfig, sql:getGlobalConnectionPool());
+        ReadReplica? readReplica = options?.readReplica;
+        if readReplica is ReadReplica {
+            decimal? maxLag = readReplica?.maxLag;
+            if (maxLag is decimal && maxLag < 0d) || readReplica.lagCheckInterval < 0d {
+                return error sql:ApplicationError(
+                    "Read replica options 'maxLag' and 'lagCheckInterval' cannot be negative.");
+            }
+        }
+        check createClient(self, clientConfig, sql:getGlobalConnectionPool());
+        if readReplica is () {
+            return;
+        }
+        Client|sql:Error replicaClient = new (readReplica.host, user, password, readReplica.database ?: database,
+            readReplica.port, getReplicaOptions(<Options>options, readReplica), readReplica.connectionPool);
+        if replicaClient is sql:Error {
+            check self.close();
+            return replicaClient;
+        }
+        attachReadReplica(self, replicaClient, readReplica);
     }
 
     # Queries the database with the query provided by the user, and returns the result as stream.
@@ -72,18 +91,78 @@ public isolated client class Client {
         name: "nativeQueryRow"
     } external;
 
+    # Queries the database with the provided query and returns the value of the single column of the single row
+    # retrieved by the query. This is intended for lookups such as `COUNT(*)` and other aggregations.
+    #
+    # + sqlQuery - The query to be executed as a `sql:ParameterizedQuery` which returns one row with one column
+    # + returnType - The `typedesc` of the value that should be returned as a result. Record types are not allowed
+    # + return - Result in the type of `returnType`, a `sql:NoRowsError` if no rows are retrieved, or an
+    #            `sql:Error` if the query retrieves more than one row or column
+    remote isolated function queryScalar(sql:ParameterizedQuery sqlQuery, typedesc<anydata> returnType = <>)
+    returns returnType|sql:Error = @java:Method {
+        'class: "io.ballerina.stdlib.oracledb.nativeimpl.QueryProcessor",
+        name: "nativeQueryScalar"
+    } external;
+
+    # Executes the query as several partitions on separate pooled connections and returns the rows of all the
+    # partitions as a single stream. The order of the rows across partitions is not defined.
+    #
+    # + sqlQuery - The query to be executed as a `sql:ParameterizedQuery` which returns multiple rows
+    # + options - The partitioning of the query and the number of partitions executed concurrently
+    # + rowType - The `typedesc` of the record that should be returned as a result. If this is not provided, the default
+    #             column names of the query result set will be used for the record attributes
+    # + return - Stream of records in the type of `rowType`
+    remote isolated function queryParallel(sql:ParameterizedQuery sqlQuery, ParallelQueryOptions options,
+                                           typedesc<record {}> rowType = <>)
+    returns stream <rowType, sql:Error?> = @java:Method {
+        'class: "io.ballerina.stdlib.oracledb.nativeimpl.QueryProcessor",
+        name: "nativeQueryParallel"
+    } external;
+
+    # Executes the query and writes the retrieved rows to a file without creating a record for each row.
+    #
+    # + sqlQuery - The query to be executed as a `sql:ParameterizedQuery` which returns multiple rows
+    # + path - Path of the file to be written. An existing file is replaced
+    # + format - Format of the file, which is either `CSV` or newline delimited JSON (`NDJSON`)
+    # + options - The delimiter, header, compression and buffering of the export
+    # + return - Number of rows written to the file or an `sql:Error`
+    remote isolated function exportQuery(sql:ParameterizedQuery sqlQuery, string path, ExportFormat format = CSV,
+                                         ExportOptions options = {}) returns int|sql:Error = @java:Method {
+        'class: "io.ballerina.stdlib.oracledb.nativeimpl.QueryProcessor",
+        name: "nativeExportQuery"
+    } external;
 
     # Executes the DDL or DML SQL queries provided by the user and returns a summary of the execution.
     #
     # + sqlQuery - The DDL or DML query such as INSERT, DELETE, UPDATE, etc. as an `sql:ParameterizedQuery`
+    # + commitMode - The commit mode used to commit the query instead of the `commitMode` of the client. This applies
+    #                only when the client is in autocommit mode and is not supported within a transaction
     # + return - Summary of the SQL update query as an `sql:ExecutionResult` or returns an `sql:Error`
     #            if any error occurred when executing the query
-    remote isolated function execute(sql:ParameterizedQuery sqlQuery)
+    remote isolated function execute(sql:ParameterizedQuery sqlQuery, CommitMode? commitMode = ())
     returns sql:ExecutionResult|sql:Error = @java:Method {
         'class: "io.ballerina.stdlib.oracledb.nativeimpl.ExecuteProcessor",
          name: "nativeExecute"
     } external;
 
+    # Executes an `INSERT`, `UPDATE` or `DELETE` query, or a batch of identical queries with different values, and
+    # returns the values of the given columns of the affected rows, such as keys generated by sequences or columns
+    # computed by the database, without querying them again. A `RETURNING ... INTO` clause for the columns is appended
+    # to the query.
+    #
+    # + sqlQuery - The DML query as an `sql:ParameterizedQuery`, or an array of DML queries with the same SQL string.
+    #              The queries of an array are committed together if the client is in autocommit mode
+    # + returning - The types of the returned values, keyed by the names of the columns, in the order the columns are
+    #               returned
+    # + return - The affected row count and the returned values as an `oracledb:ReturningExecutionResult` or an
+    #            `sql:Error`
+    remote isolated function executeReturning(sql:ParameterizedQuery|sql:ParameterizedQuery[] sqlQuery,
+                                              map<typedesc<ReturnedValue>> returning)
+    returns ReturningExecutionResult|sql:Error = @java:Method {
+        'class: "io.ballerina.stdlib.oracledb.nativeimpl.ExecuteProcessor",
+         name: "nativeExecuteReturning"
+    } external;
+
     # Executes a provided batch of parameterized DDL or DML SQL queries
     # and returns the summary of the execution.
     #
@@ -102,6 +181,53 @@ public isolated client class Client {
         return nativeBatchExecute(self, sqlQueries);
     }
 
+    # Executes a provided batch of parameterized DDL or DML SQL queries in chunks, optionally in parallel on separate
+    # pooled connections, and returns a compact summary of the execution. Rows that fail are skipped and reported by
+    # their index instead of failing the whole batch.
+    #
+    # + sqlQueries - The DDL or DML queries such as `INSERT`, `DELETE`, `UPDATE`, etc. as a `sql:ParameterizedQuery`
+    #                with an array of values passed in. All queries should have the same SQL string
+    # + options - The chunk size, commit policy and parallelism of the execution
+    # + return - Summary of the execution as an `oracledb:BatchExecutionSummary` or an `sql:Error` if the execution
+    #            failed with an error other than a row level failure
+    remote isolated function chunkedBatchExecute(sql:ParameterizedQuery[] sqlQueries, BatchOptions options = {})
+    returns BatchExecutionSummary|sql:Error {
+        if (sqlQueries.length() == 0) {
+            return error sql:ApplicationError("Parameter 'sqlQueries' cannot be an empty array");
+        }
+        return nativeChunkedBatchExecute(self, sqlQueries, options);
+    }
+
+    # Inserts the records of a delimited file into a table. The file is memory mapped and its segments are parsed and
+    # inserted in batches, optionally in parallel on separate pooled connections.
+    #
+    # + path - Path of the file to be loaded. Fields may be enclosed in double quotes, and empty unquoted fields are
+    #          inserted as `NULL`. Empty lines are skipped, except when a single column is loaded, in which case they
+    #          are empty fields. Numbers are expected in plain or scientific notation and dates as ISO 8601 values
+    # + tableName - Name of the table into which the records are inserted
+    # + columns - Columns of the table in the order of the fields of each record
+    # + options - The delimiter, header, batch size and parallelism of the import
+    # + return - Number of rows inserted or an `sql:Error`
+    remote isolated function importFile(string path, string tableName, string[] columns, ImportOptions options = {})
+    returns int|sql:Error = @java:Method {
+        'class: "io.ballerina.stdlib.oracledb.nativeimpl.ExecuteProcessor",
+        name: "nativeImportFile"
+    } external;
+
+    # Inserts the given rows into a table or updates the rows of the table with the same keys. A single `MERGE`
+    # statement is generated for each table and set of columns, and is executed with array binding in chunks.
+    #
+    # + tableName - Name of the table into which the rows are upserted
+    # + keyColumns - Columns which identify a row of the table. These should be fields of the rows
+    # + rows - Rows to be inserted or updated. Each row should have the same fields, which are the columns of the table
+    # + options - The chunk size of the execution
+    # + return - Numbers of the inserted and updated rows or an `sql:Error`
+    remote isolated function upsert(string tableName, string[] keyColumns, map<UpsertValue>[] rows,
+                                    UpsertOptions options = {}) returns UpsertResult|sql:Error = @java:Method {
+        'class: "io.ballerina.stdlib.oracledb.nativeimpl.ExecuteProcessor",
+        name: "nativeUpsert"
+    } external;
+
     # Executes a SQL stored procedure and returns the result as a stream and the execution summary.
     #
     # + sqlQuery - The query to execute the SQL stored procedure as an `sql:ParameterizedQuery`
@@ -114,6 +240,38 @@ public isolated client class Client {
         name: "nativeCall"
     } external;
 
+    # Prepares the provided query for repeated execution. The SQL string and the parameter bind plan are generated only
+    # once, and the statement handle is reused through the statement cache of each pooled connection.
+    #
+    # + sqlQuery - The query to be prepared as an `sql:ParameterizedQuery`. The values inserted in the query only
+    #              define the parameter positions and are not used for the executions
+    # + return - An `oracledb:PreparedQuery` which can be executed with different parameter values or an `sql:Error`
+    public isolated function prepare(sql:ParameterizedQuery sqlQuery) returns PreparedQuery|sql:Error {
+        PreparedQuery preparedQuery = new (self, sqlQuery.strings);
+        check initPreparedQuery(preparedQuery, sqlQuery);
+        return preparedQuery;
+    }
+
+    # Returns a client which makes its calls in the given workload class. The calls wait for their turn to acquire a
+    # connection as configured for the class in the `workloadClasses` option.
+    #
+    # + name - Name of the workload class
+    # + return - An `oracledb:WorkloadClient` or an `sql:Error` if the class is not defined
+    public isolated function workload(string name) returns WorkloadClient|sql:Error {
+        WorkloadClient workloadClient = new (self, name);
+        check initWorkloadClient(workloadClient);
+        return workloadClient;
+    }
+
+    # Returns the live statistics of the connection pool of the client. Clients that share a connection pool report
+    # the statistics of the shared pool.
+    #
+    # + return - Statistics of the connection pool or an `sql:Error`
+    public isolated function getPoolStats() returns PoolStatistics|sql:Error = @java:Method {
+        'class: "io.ballerina.stdlib.oracledb.nativeimpl.ClientProcessor",
+        name: "getPoolStats"
+    } external;
+
     # Close the SQL client.
     #
     # + return - Possible error during closing the client
@@ -123,6 +281,288 @@ public isolated client class Client {
     } external;
 }
 
+# Represents a query prepared with `oracledb:Client.prepare()`, which can be executed repeatedly with different
+# parameter values.
+public isolated client class PreparedQuery {
+    private final Client dbClient;
+    private final string[] & readonly strings;
+
+    isolated function init(Client dbClient, string[] & readonly strings) {
+        self.dbClient = dbClient;
+        self.strings = strings;
+    }
+
+    # Executes the prepared query with the provided parameters and returns the result as a stream.
+    #
+    # + params - The values of the query parameters in the order they appear in the prepared query
+    # + rowType - The `typedesc` of the record that should be returned as a result. If this is not provided, the
+    #             default column names of the query result set will be used for the record attributes
+    # + return - Stream of records in the type of `rowType`
+    remote isolated function query(sql:Value[] params = [], typedesc<record {}> rowType = <>)
+    returns stream <rowType, sql:Error?> = @java:Method {
+        'class: "io.ballerina.stdlib.oracledb.nativeimpl.PreparedQueryProcessor",
+        name: "nativeQuery"
+    } external;
+
+    # Executes the prepared query with the provided parameters and returns the first row as a record if the expected
+    # return type is a record. If the expected return type is not a record, then a single value is returned.
+    #
+    # + params - The values of the query parameters in the order they appear in the prepared query
+    # + returnType - The `typedesc` of the record/type that should be returned as a result. If this is not provided,
+    #                the default column names/type of the query result set will be used
+    # + return - Result in the type of `returnType`
+    remote isolated function queryRow(sql:Value[] params = [], typedesc<anydata> returnType = <>)
+    returns returnType|sql:Error = @java:Method {
+        'class: "io.ballerina.stdlib.oracledb.nativeimpl.PreparedQueryProcessor",
+        name: "nativeQueryRow"
+    } external;
+
+    # Executes the prepared DDL or DML statement with the provided parameters and returns a summary of the execution.
+    #
+    # + params - The values of the statement parameters in the order they appear in the prepared query
+    # + return - Summary of the SQL update query as an `sql:ExecutionResult` or returns an `sql:Error`
+    #            if any error occurred when executing the query
+    remote isolated function execute(sql:Value[] params = []) returns sql:ExecutionResult|sql:Error = @java:Method {
+        'class: "io.ballerina.stdlib.oracledb.nativeimpl.PreparedQueryProcessor",
+        name: "nativeExecute"
+    } external;
+}
+
+# Represents the calls of an `oracledb:Client` made in a workload class, which is obtained with
+# `oracledb:Client.workload()`. Each call waits for its turn in the workload class before it acquires a connection,
+# and holds its turn until it returns. The queries which return a stream hold their turn until all the rows are
+# fetched or the stream is closed. A bulk call which uses several connections holds a single turn. A waiting call
+# suspends its strand instead of blocking a thread. Calls made within a transaction do not wait, as the transaction
+# holds its connection already.
+public isolated client class WorkloadClient {
+    private final Client dbClient;
+    private final string workload;
+
+    isolated function init(Client dbClient, string workload) {
+        self.dbClient = dbClient;
+        self.workload = workload;
+    }
+
+    # Executes the query in the workload class and returns the result as a stream.
+    #
+    # + sqlQuery - The query, which needs to be executed as an `sql:ParameterizedQuery`
+    # + rowType - The `typedesc` of the record that should be returned as a result. If this is not provided, the default
+    #             column names of the query result set will be used for the record attributes
+    # + return - Stream of records in the type of `rowType`
+    remote isolated function query(sql:ParameterizedQuery sqlQuery, typedesc<record {}> rowType = <>)
+    returns stream <rowType, sql:Error?> = @java:Method {
+        'class: "io.ballerina.stdlib.oracledb.nativeimpl.WorkloadProcessor",
+        name: "nativeQuery"
+    } external;
+
+    # Executes the query in the workload class and returns the first row as a record if the expected return type is
+    # a record. If the expected return type is not a record, then a single value is returned.
+    #
+    # + sqlQuery - The query to be executed as an `sql:ParameterizedQuery`, which returns only one result row
+    # + returnType - The `typedesc` of the record/type that should be returned as a result. If this is not provided,
+    #                the default column names/type of the query result set will be used
+    # + return - Result in the type of `returnType`
+    remote isolated function queryRow(sql:ParameterizedQuery sqlQuery, typedesc<anydata> returnType = <>)
+    returns returnType|sql:Error = @java:Method {
+        'class: "io.ballerina.stdlib.oracledb.nativeimpl.WorkloadProcessor",
+        name: "nativeQueryRow"
+    } external;
+
+    # Executes the query in the workload class and returns the value of the single column of the single row retrieved
+    # by the query.
+    #
+    # + sqlQuery - The query to be executed as a `sql:ParameterizedQuery` which returns one row with one column
+    # + returnType - The `typedesc` of the value that should be returned as a result. Record types are not allowed
+    # + return - Result in the type of `returnType`, a `sql:NoRowsError` if no rows are retrieved, or an
+    #            `sql:Error` if the query retrieves more than one row or column
+    remote isolated function queryScalar(sql:ParameterizedQuery sqlQuery, typedesc<anydata> returnType = <>)
+    returns returnType|sql:Error = @java:Method {
+        'class: "io.ballerina.stdlib.oracledb.nativeimpl.WorkloadProcessor",
+        name: "nativeQueryScalar"
+    } external;
+
+    # Executes the query in the workload class as several partitions on separate pooled connections and returns the
+    # rows of all the partitions as a single stream.
+    #
+    # + sqlQuery - The query to be executed as a `sql:ParameterizedQuery` which returns multiple rows
+    # + options - The partitioning of the query and the number of partitions executed concurrently
+    # + rowType - The `typedesc` of the record that should be returned as a result. If this is not provided, the default
+    #             column names of the query result set will be used for the record attributes
+    # + return - Stream of records in the type of `rowType`
+    remote isolated function queryParallel(sql:ParameterizedQuery sqlQuery, ParallelQueryOptions options,
+                                           typedesc<record {}> rowType = <>)
+    returns stream <rowType, sql:Error?> = @java:Method {
+        'class: "io.ballerina.stdlib.oracledb.nativeimpl.WorkloadProcessor",
+        name: "nativeQueryParallel"
+    } external;
+
+    # Executes the query in the workload class and writes the retrieved rows to a file.
+    #
+    # + sqlQuery - The query to be executed as a `sql:ParameterizedQuery` which returns multiple rows
+    # + path - Path of the file to be written. An existing file is replaced
+    # + format - Format of the file, which is either `CSV` or newline delimited JSON (`NDJSON`)
+    # + options - The delimiter, header, compression and buffering of the export
+    # + return - Number of rows written to the file or an `sql:Error`
+    remote isolated function exportQuery(sql:ParameterizedQuery sqlQuery, string path, ExportFormat format = CSV,
+                                         ExportOptions options = {}) returns int|sql:Error {
+        boolean holdsSlot = check acquireWorkloadSlot(self);
+        int|sql:Error result = self.dbClient->exportQuery(sqlQuery, path, format, options);
+        if holdsSlot {
+            releaseWorkloadSlot(self);
+        }
+        return result;
+    }
+
+    # Executes the DDL or DML query in the workload class and returns a summary of the execution.
+    #
+    # + sqlQuery - The DDL or DML queries such as `INSERT`, `DELETE`, `UPDATE`, etc. as an `sql:ParameterizedQuery`
+    # + commitMode - The commit mode of this statement if the connection is in autocommit mode. If this is not
+    #                provided, the commit mode of the client is used
+    # + return - Summary of the SQL update query as an `sql:ExecutionResult` or an `sql:Error`
+    remote isolated function execute(sql:ParameterizedQuery sqlQuery, CommitMode? commitMode = ())
+    returns sql:ExecutionResult|sql:Error {
+        boolean holdsSlot = check acquireWorkloadSlot(self);
+        sql:ExecutionResult|sql:Error result = self.dbClient->execute(sqlQuery, commitMode);
+        if holdsSlot {
+            releaseWorkloadSlot(self);
+        }
+        return result;
+    }
+
+    # Executes the DML query, or the batch of identical DML queries, in the workload class and returns the values of
+    # the given columns of the affected rows.
+    #
+    # + sqlQuery - The DML query as an `sql:ParameterizedQuery`, or an array of DML queries with the same SQL string
+    # + returning - The types of the returned values, keyed by the names of the columns, in the order the columns are
+    #               returned
+    # + return - The affected row count and the returned values as an `oracledb:ReturningExecutionResult` or an
+    #            `sql:Error`
+    remote isolated function executeReturning(sql:ParameterizedQuery|sql:ParameterizedQuery[] sqlQuery,
+                                              map<typedesc<ReturnedValue>> returning)
+    returns ReturningExecutionResult|sql:Error {
+        boolean holdsSlot = check acquireWorkloadSlot(self);
+        ReturningExecutionResult|sql:Error result = self.dbClient->executeReturning(sqlQuery, returning);
+        if holdsSlot {
+            releaseWorkloadSlot(self);
+        }
+        return result;
+    }
+
+    # Executes the batch of parameterized DDL or DML queries in the workload class and returns the summary of the
+    # execution.
+    #
+    # + sqlQueries - The DDL or DML queries such as `INSERT`, `DELETE`, `UPDATE`, etc. as an `sql:ParameterizedQuery`
+    #                with an array of values passed in
+    # + return - Summary of the executed SQL queries as an `sql:ExecutionResult[]` or an `sql:Error`
+    remote isolated function batchExecute(sql:ParameterizedQuery[] sqlQueries)
+    returns sql:ExecutionResult[]|sql:Error {
+        if (sqlQueries.length() == 0) {
+            return error sql:ApplicationError("Parameter 'sqlQueries' cannot be an empty array");
+        }
+        boolean holdsSlot = check acquireWorkloadSlot(self);
+        sql:ExecutionResult[]|sql:Error result = self.dbClient->batchExecute(sqlQueries);
+        if holdsSlot {
+            releaseWorkloadSlot(self);
+        }
+        return result;
+    }
+
+    # Executes the batch of parameterized DDL or DML queries in chunks in the workload class and returns a compact
+    # summary of the execution.
+    #
+    # + sqlQueries - The DDL or DML queries such as `INSERT`, `DELETE`, `UPDATE`, etc. as a `sql:ParameterizedQuery`
+    #                with an array of values passed in. All queries should have the same SQL string
+    # + options - The chunk size, commit policy and parallelism of the execution
+    # + return - Summary of the execution as an `oracledb:BatchExecutionSummary` or an `sql:Error`
+    remote isolated function chunkedBatchExecute(sql:ParameterizedQuery[] sqlQueries, BatchOptions options = {})
+    returns BatchExecutionSummary|sql:Error {
+        if (sqlQueries.length() == 0) {
+            return error sql:ApplicationError("Parameter 'sqlQueries' cannot be an empty array");
+        }
+        boolean holdsSlot = check acquireWorkloadSlot(self);
+        BatchExecutionSummary|sql:Error result = self.dbClient->chunkedBatchExecute(sqlQueries, options);
+        if holdsSlot {
+            releaseWorkloadSlot(self);
+        }
+        return result;
+    }
+
+    # Inserts the records of a delimited file into a table in the workload class.
+    #
+    # + path - Path of the file to be loaded
+    # + tableName - Name of the table into which the records are inserted
+    # + columns - Columns of the table in the order of the fields of each record
+    # + options - The delimiter, header, batch size and parallelism of the import
+    # + return - Number of rows inserted or an `sql:Error`
+    remote isolated function importFile(string path, string tableName, string[] columns, ImportOptions options = {})
+    returns int|sql:Error {
+        boolean holdsSlot = check acquireWorkloadSlot(self);
+        int|sql:Error result = self.dbClient->importFile(path, tableName, columns, options);
+        if holdsSlot {
+            releaseWorkloadSlot(self);
+        }
+        return result;
+    }
+
+    # Inserts the given rows into a table or updates the rows of the table with the same keys in the workload class.
+    #
+    # + tableName - Name of the table into which the rows are upserted
+    # + keyColumns - Columns which identify a row of the table. These should be fields of the rows
+    # + rows - Rows to be inserted or updated. Each row should have the same fields, which are the columns of the table
+    # + options - The chunk size of the execution
+    # + return - Numbers of the inserted and updated rows or an `sql:Error`
+    remote isolated function upsert(string tableName, string[] keyColumns, map<UpsertValue>[] rows,
+                                    UpsertOptions options = {}) returns UpsertResult|sql:Error {
+        boolean holdsSlot = check acquireWorkloadSlot(self);
+        UpsertResult|sql:Error result = self.dbClient->upsert(tableName, keyColumns, rows, options);
+        if holdsSlot {
+            releaseWorkloadSlot(self);
+        }
+        return result;
+    }
+
+    # Executes a SQL stored procedure in the workload class and returns the result as a stream and the execution
+    # summary. The turn of the call is released when it returns, before the returned result is closed.
+    #
+    # + sqlQuery - The query to execute the SQL stored procedure as an `sql:ParameterizedQuery`
+    # + rowTypes - The array of `typedesc` of the records that should be returned as a result. If this is not provided,
+    #              the default column names of the query result set will be used for the record attributes
+    # + return - Summary of the execution is returned in a `sql:ProcedureCallResult` or an `sql:Error`
+    remote isolated function call(sql:ParameterizedCallQuery sqlQuery, typedesc<record {}>[] rowTypes = [])
+    returns sql:ProcedureCallResult|sql:Error {
+        boolean holdsSlot = check acquireWorkloadSlot(self);
+        sql:ProcedureCallResult|sql:Error result = self.dbClient->call(sqlQuery, rowTypes);
+        if holdsSlot {
+            releaseWorkloadSlot(self);
+        }
+        return result;
+    }
+}
+
+# A query marked with `oracledb:onPrimary()` to be made on the primary database of a client with a read replica.
+public class PrimaryQuery {
+    *sql:ParameterizedQuery;
+    public final string[] & readonly strings;
+    public sql:Value[] insertions;
+
+    isolated function init(string[] & readonly strings, sql:Value[] insertions) {
+        self.strings = strings;
+        self.insertions = insertions;
+    }
+}
+
+# The parameterized query created for each execution of an `oracledb:PreparedQuery`.
+class PreparedQueryTemplate {
+    *sql:ParameterizedQuery;
+    public final string[] & readonly strings;
+    public sql:Value[] insertions;
+
+    isolated function init(string[] & readonly strings, sql:Value[] insertions) {
+        self.strings = strings;
+        self.insertions = insertions;
+    }
+}
+
 # SSL Configuration to be used when connecting to the Oracle database server.
 #
 # + key - Keystore configuration of the client certificates
@@ -139,14 +579,448 @@ public type SecureSocket record {|
 # + autoCommit - If true commits automatically when the statement is complete
 # + connectTimeout - Time duration for a connection in seconds
 # + socketTimeout - Timeout duration for reading from a socket in seconds
+# + statementCacheSize - Number of prepared statements cached per connection by the driver. Statements executed
+#                        again on the same connection reuse the cached statement instead of being parsed again
+# + commitMode - The commit mode used for all commits of the client, including autocommits and transaction commits
+# + sessionInit - Statements such as `ALTER SESSION` that are run once when a connection is created by the pool.
+#                 Session settings changed later by any statement of the client, including PL/SQL blocks and
+#                 procedure calls, are restored before the next use of the connection. The NLS parameters, time zone,
+#                 current schema, package states, and client identifier are restored in place, while a connection
+#                 with other changed settings is replaced. Changes made within a transaction are kept until the
+#                 transaction ends. Clients with different statements do not share a connection pool
+# + bindNormalization - If true, string parameters are bound with a stable maximum length and nil parameters with a
+#                       stable type, so that the executions of a query share a single child cursor in the database
+#                       instead of creating one for each combination of bind lengths and types
+# + warmup - Connections created when the client is initialized, so that the first requests do not wait for them
+# + workloadClasses - Workload classes keyed by their names, in which calls can be made with `oracledb:Client.workload()`
+#                     so that each class uses a limited share of the connection pool
+# + concurrencyLimit - Adaptive limit of the calls of the client in flight, beyond which calls fail right away instead
+#                      of waiting for a connection
+# + addressList - Listener addresses of the database, such as the SCAN listeners of a RAC database, used instead of
+#                 the `host` and `port` of the client
+# + connectDescriptor - Full TNS connect descriptor or EZConnect string of the database, which is used as it is instead
+#                       of the `host`, `port` and `database` of the client and the `addressList` option. With the
+#                       `drcp` option, the pooled server type is added to its connect data
+# + readReplica - Read-only standby database, such as an Active Data Guard standby, on which the queries of the client
+#                 are made outside transactions
+# + network - Tuning of the network connections to the database, such as the session data unit and socket buffer
+#             sizes for large fetches over high latency links
+# + drcp - Database Resident Connection Pooling (DRCP) options. If provided, the connections are made to pooled servers
+#          of the database, which are shared with the other clients using the same connection class
+# + poolProvider - Name of the provider of the connections of the connection pool. The `default` provider creates the
+#                  connections directly, and the `ucp` provider borrows them from the Oracle Universal Connection Pool
+#                  when its library is on the classpath. Other providers can be added to the classpath as services
+# + ucp - Options of the `ucp` connection pool provider
 public type Options record {|
    SecureSocket ssl?;
    decimal loginTimeout = 0;
    boolean autoCommit = true;
    decimal connectTimeout = 30;
    decimal socketTimeout?;
+   int statementCacheSize = 10;
+   CommitMode commitMode = IMMEDIATE_WAIT;
+   string[] sessionInit?;
+   boolean bindNormalization = false;
+   WarmupOptions warmup?;
+   map<WorkloadClass> workloadClasses?;
+   ConcurrencyLimit concurrencyLimit?;
+   AddressList addressList?;
+   string connectDescriptor?;
+   ReadReplica readReplica?;
+   NetworkOptions network?;
+   DrcpOptions drcp?;
+   string poolProvider = "default";
+   UcpOptions ucp?;
+|};
+
+# Options of the Oracle Universal Connection Pool (UCP), from which the connections of the client are borrowed when
+# the `ucp` pool provider is selected. UCP balances the connections across the instances of a RAC database with the
+# runtime load balancing advisories of the database, which apply when a connection is borrowed. Hence, the connection
+# pool of the client keeps no idle connections and returns its connections to UCP within 60 seconds, or within the
+# `maxConnectionLifeTime` of its `sql:ConnectionPool` if that is shorter, so that they are rebalanced. The connection
+# pool of the client is not shared with other clients.
+#
+# + fastConnectionFailover - If true, the connections to a failed instance of the database are aborted as soon as the
+#                            database reports the failure, so that they are replaced by the connection pool. This needs
+#                            the Oracle Notification Service (ONS) library on the classpath. By default, it is enabled
+#                            when the ONS library is on the classpath
+# + onsConfiguration - Remote Oracle Notification Service (ONS) configuration from which the failure events are
+#                      received, such as `nodes=racnode1:6200,racnode2:6200`. By default, it is read from the database
+public type UcpOptions record {|
+    boolean fastConnectionFailover?;
+    string onsConfiguration?;
+|};
+
+# Options for connecting to the pooled servers of Database Resident Connection Pooling (DRCP). A pooled server is held
+# by a connection while it is open, so the connection pool of the client should keep few idle connections, such as with
+# a low `minIdleConnections`, for the pooled servers to be shared across clients. DRCP should be started in the
+# database with `DBMS_CONNECTION_POOL.START_POOL`.
+#
+# + connectionClass - Name which identifies the clients that can share the sessions of the pooled servers, such as the
+#                     name of the application. Clients of different connection classes do not share sessions
+# + purity - Whether a connection reuses a session of its connection class, or gets a new session
+public type DrcpOptions record {|
+    string connectionClass;
+    DrcpPurity purity = PURITY_SELF;
+|};
+
+# Purity of the sessions of the connections to DRCP pooled servers.
+#
+# + PURITY_SELF - The connection may reuse a session left by a previous connection of the same connection class
+# + PURITY_NEW - The connection gets a new session without any state of a previous connection
+public enum DrcpPurity {
+    PURITY_SELF = "SELF",
+    PURITY_NEW = "NEW"
+}
+
+# Options for tuning the network connections to the database. The session data unit and buffer sizes are added to the
+# connect descriptor built by the client, and are not applied to a `connectDescriptor` provided in the options.
+#
+# + sessionDataUnit - Size in bytes of the session data unit (SDU) in which data is sent over the network, which should
+#                     be between 512 and 2097152. The size used is negotiated with the database
+# + sendBufferSize - Size in bytes of the socket send buffer
+# + receiveBufferSize - Size in bytes of the socket receive buffer
+# + tcpNoDelay - If true, Nagle's algorithm is disabled so that small packets are sent without delay
+# + compression - Compression of the data sent over the network, which should also be enabled in the database
+# + compressionThreshold - Minimum size in bytes of the data which is compressed, which should be at least 200
+public type NetworkOptions record {|
+    int sessionDataUnit?;
+    int sendBufferSize?;
+    int receiveBufferSize?;
+    boolean tcpNoDelay = true;
+    NetworkCompression compression = COMPRESSION_OFF;
+    int compressionThreshold = 1024;
+|};
+
+# Modes of the compression of the data sent over the network.
+#
+# + COMPRESSION_OFF - The data is not compressed
+# + COMPRESSION_ON - The data is compressed if the database supports it
+# + COMPRESSION_AUTO - The data is compressed if the database supports it and requires it
+public enum NetworkCompression {
+    COMPRESSION_OFF = "off",
+    COMPRESSION_ON = "on",
+    COMPRESSION_AUTO = "auto"
+}
+
+# Configuration of the read replica of a client. The replica is connected with its own connection pool, using the
+# user, password and other options of the client. The queries made with `query()`, `queryRow()`, `queryScalar()`,
+# `queryParallel()` and `exportQuery()` are routed to the replica, unless they are made within a transaction or
+# marked with `oracledb:onPrimary()`. All other calls are made on the primary database.
+#
+# + host - Hostname of the replica
+# + port - Port number of the replica
+# + database - Service name of the replica. If this is not provided, the database of the client is used
+# + addressList - Listener addresses of the replica, used instead of the `host` and `port`
+# + connectDescriptor - Full TNS connect descriptor or EZConnect string of the replica
+# + connectionPool - The connection pool of the replica. If this is not provided, the global connection pool is used
+# + maxLag - Maximum apply lag of the replica in seconds. While the lag reported by the replica exceeds this, or cannot
+#            be retrieved, queries are made on the primary database. If this is not provided, the lag is not checked
+# + lagCheckInterval - Minimum time in seconds between two checks of the apply lag of the replica
+public type ReadReplica record {|
+    string host;
+    int port = 1521;
+    string? database = ();
+    AddressList addressList?;
+    string connectDescriptor?;
+    sql:ConnectionPool connectionPool?;
+    decimal maxLag?;
+    decimal lagCheckInterval = 5;
+|};
+
+# Listener address of the database.
+#
+# + host - Hostname of the listener
+# + port - Port of the listener
+public type Address record {|
+    string host;
+    int port = 1521;
+|};
+
+# List of listener addresses of the database.
+#
+# + addresses - Addresses of the listeners
+# + loadBalance - If true, new connections are distributed randomly across the addresses. Otherwise, the addresses are
+#                 tried in order
+# + failover - If true, a connection attempt which fails on an address is tried on the next address
+# + retryCount - Number of times the whole list of addresses is tried again when no connection could be established
+# + retryDelay - Delay in seconds between the retries of the list of addresses
+public type AddressList record {|
+    Address[] addresses;
+    boolean loadBalance = true;
+    boolean failover = true;
+    int retryCount = 0;
+    int retryDelay = 1;
+|};
+
+# Configuration of the adaptive concurrency limit of a client. The limit grows by one for each limit's worth of calls
+# completed within the latency threshold, and shrinks by the backoff ratio for each call slower than the threshold.
+# Streaming queries are limited while the query is executed. Bulk calls such as exports, imports, upserts, chunked
+# batches and procedure calls take a slot of the limit, but do not adapt it.
+#
+# + initialLimit - Number of calls allowed in flight when the client is initialized
+# + minLimit - Lower bound of the limit, which should be greater than 0
+# + maxLimit - Upper bound of the limit
+# + latencyThreshold - Latency in seconds above which a call is considered a sign of overload
+# + backoffRatio - Ratio by which the limit is multiplied on a slow call, which should be greater than 0 and less
+#                  than 1
+public type ConcurrencyLimit record {|
+    int initialLimit = 20;
+    int minLimit = 1;
+    int maxLimit = 200;
+    decimal latencyThreshold = 1;
+    decimal backoffRatio = 0.9;
+|};
+
+# Represents the error returned when a call is rejected because the client has reached its concurrency limit.
+public type ConcurrencyLimitError distinct sql:ApplicationError;
+
+# Configuration of a workload class. Only the calls made in workload classes are scheduled, and the calls made
+# directly through the client acquire connections without waiting for their turn.
+#
+# + maxShare - Maximum share of the connections of the pool used concurrently by the calls of the class, which should
+#              be greater than 0 and at most 1
+# + acquireTimeout - Maximum time in seconds a call of the class waits for its turn before it fails
+# + priority - When the pool is contended, calls of classes with a higher priority get connections ahead of the calls
+#              of classes with a lower priority
+public type WorkloadClass record {|
+    decimal maxShare = 1;
+    decimal acquireTimeout = 30;
+    int priority = 0;
+|};
+
+# Options for creating the connections of the pool when the client is initialized.
+#
+# + connections - Number of connections requested concurrently from the pool at initialization. This is limited to the
+#                 maximum number of open connections of the pool
+# + validationQuery - Query run once on each warm connection, such as `SELECT 1 FROM dual`
+# + lazy - If true, the client is returned without opening a connection and the connections are created in the
+#          background. Otherwise, the client is returned after the connections are created and validated, and fails
+#          if one of them cannot be created
+public type WarmupOptions record {|
+    int connections = 1;
+    string validationQuery?;
+    boolean lazy = false;
+|};
+
+# Modes in which the changes of a commit are written to the redo log.
+#
+# + IMMEDIATE_WAIT - The redo is written immediately and the commit returns after it is persisted
+# + BATCH_NOWAIT - The redo is buffered and written in batches, and the commit returns without waiting for it to be
+#                  persisted. Committed changes may be lost if the database instance fails before the redo is written
+public enum CommitMode {
+    IMMEDIATE_WAIT,
+    BATCH_NOWAIT
+}
+
+# Types of the column values that can be returned by `oracledb:Client->executeReturning`.
+public type ReturnedValue int|decimal|float|string|time:Civil;
+
+# Result of an execution with returned values.
+#
+# + affectedRowCount - Number of rows affected by the execution
+# + returnedValues - The returned values of each column, keyed by the column name, in the order of the affected rows.
+#                    Each array is typed as given in the `returning` parameter
+public type ReturningExecutionResult record {|
+    int affectedRowCount;
+    map<ReturnedValue?[]> returnedValues;
+|};
+
+# Options for executing a batch of queries in chunks.
+#
+# + chunkSize - Maximum number of queries sent to the database as a single batch
+# + commitPerChunk - If true, each chunk is committed as soon as it is executed. Otherwise, each connection commits
+#                    once after all of its chunks are executed. This is not supported within a transaction
+# + parallelism - Number of pooled connections used to execute the chunks concurrently. Use values greater than 1
+#                 only if the rows are independent of each other. This is not supported within a transaction
+public type BatchOptions record {|
+    int chunkSize = 1000;
+    boolean commitPerChunk = false;
+    int parallelism = 1;
+|};
+
+# Summary of a chunked batch execution.
+#
+# + affectedRowCount - Total number of rows affected by the batch, or nil if the driver reported queries which
+#                      succeeded without their counts
+# + failedIndexes - Indexes of the queries in the batch that failed, in ascending order
+public type BatchExecutionSummary record {|
+    int? affectedRowCount;
+    int[] failedIndexes;
+|};
+
+# Options for executing a query as several partitions.
+#
+# + partitionColumn - Column of the query result on which the partitions are defined. If `tableName` is provided,
+#                     this column should select the `ROWID` of that table. Otherwise, it should be a column of integer
+#                     values
+# + tableName - Name of the table, as stored in the data dictionary, whose extents are used as `ROWID` ranges of the
+#               partitions. The table should be in the schema of the user, or else the query is executed as a single
+#               partition. If not provided, the query is split into equal ranges of the `partitionColumn`
+# + lowerBound - Lower bound of the `partitionColumn` values. If not provided, it is queried from the database. The
+#                bounds only set the ranges of the partitions, as the first and the last partitions have no outer bound
+# + upperBound - Upper bound of the `partitionColumn` values. If not provided, it is queried from the database
+# + parallelism - Number of partitions executed concurrently, each on a separate pooled connection
+# + consistentSnapshot - If true, all the partitions read the data as of the same system change number. This needs
+#                        the execute privilege on `DBMS_FLASHBACK`, which is not granted to users by default
+public type ParallelQueryOptions record {|
+    string partitionColumn;
+    string tableName?;
+    int lowerBound?;
+    int upperBound?;
+    int parallelism = 4;
+    boolean consistentSnapshot = false;
+|};
+
+# Formats of the files written by `oracledb:Client->exportQuery`.
+#
+# + CSV - Comma separated values with an optional header record. `NULL` values are written as empty fields
+# + NDJSON - Newline delimited JSON with one object per row. `NULL` values are written as `null`
+public enum ExportFormat {
+    CSV,
+    NDJSON
+}
+
+# Options for exporting query results to a file.
+#
+# + delimiter - Field delimiter of the CSV records
+# + includeHeader - If true, a header record with the column labels is written to CSV files
+# + compress - If true, the file is compressed with GZIP
+# + bufferSize - Size of the buffer in bytes in which the rows are encoded before being written to the file
+# + fetchSize - Number of rows fetched from the database in each round trip
+public type ExportOptions record {|
+    string delimiter = ",";
+    boolean includeHeader = true;
+    boolean compress = false;
+    int bufferSize = 1048576;
+    int fetchSize = 1000;
+|};
+
+# Options for importing a delimited file into a table.
+#
+# + delimiter - Field delimiter of the records
+# + skipHeader - If true, the first line of the file is skipped
+# + batchSize - Number of records inserted as a single array DML batch
+# + parallelism - Number of file segments parsed and inserted concurrently, each on a separate pooled connection.
+#                 The connections commit together only after all the segments are inserted, and all of them roll
+#                 back if any segment fails. If a commit fails after others succeeded, the error reports the byte
+#                 ranges of the file that were committed. This is not supported within a transaction
+public type ImportOptions record {|
+    string delimiter = ",";
+    boolean skipHeader = false;
+    int batchSize = 1000;
+    int parallelism = 1;
+|};
+
+# Types of the column values that can be upserted by `oracledb:Client->upsert`.
+public type UpsertValue string|int|float|decimal|boolean|time:Civil|time:Date|time:Utc|();
+
+# Options for upserting rows.
+#
+# + chunkSize - Maximum number of rows sent to the database as a single batch
+public type UpsertOptions record {|
+    int chunkSize = 1000;
+|};
+
+# Result of an upsert.
+#
+# + insertedRowCount - Number of rows inserted into the table
+# + updatedRowCount - Number of rows of the table updated. The rows are counted by their keys before each chunk is
+#                     executed, hence rows inserted concurrently by other sessions may be counted as inserted
+public type UpsertResult record {|
+    int insertedRowCount;
+    int updatedRowCount;
+|};
+
+# Bind statistics of a query executed by the clients of the module.
+#
+# + sqlQuery - The SQL string of the query
+# + executionCount - Number of executions of the query
+# + bindSignatureCount - Number of distinct combinations of parameter types and bind length graduations seen for the
+#                        query, up to a maximum of 64. The database creates a child cursor for each of them
+# + childCursorRisk - True if the query is bound with more than one bind signature. Enabling the `bindNormalization`
+#                     option reduces the number of child cursors of such queries
+public type BindStatistics record {|
+    string sqlQuery;
+    int executionCount;
+    int bindSignatureCount;
+    boolean childCursorRisk;
 |};
 
+# Statistics of a connection pool. The connection counts are sampled by the pool at most once per second.
+#
+# + activeConnections - Number of connections in use
+# + idleConnections - Number of idle connections
+# + totalConnections - Number of open connections
+# + pendingThreads - Number of requests waiting for a connection
+# + maxConnections - Maximum number of open connections of the pool
+# + minConnections - Minimum number of idle connections of the pool
+# + acquireCount - Number of connections acquired from the pool
+# + averageAcquireTime - Average time in seconds to acquire a connection
+# + acquireTimeHistogram - Number of acquisitions in each range of acquire times
+# + connectionTimeoutCount - Number of requests that timed out while waiting for a connection
+# + createdConnectionCount - Number of connections created by the pool
+# + averageConnectionCreationTime - Average time in seconds to create a connection
+# + maxConnectionCreationTime - Longest time in seconds to create a connection
+# + closedConnectionCount - Number of connections closed by the pool as they were idle, expired or broken
+public type PoolStatistics record {|
+    int activeConnections;
+    int idleConnections;
+    int totalConnections;
+    int pendingThreads;
+    int maxConnections;
+    int minConnections;
+    int acquireCount;
+    decimal averageAcquireTime;
+    AcquireTimeBucket[] acquireTimeHistogram;
+    int connectionTimeoutCount;
+    int createdConnectionCount;
+    decimal averageConnectionCreationTime;
+    decimal maxConnectionCreationTime;
+    int closedConnectionCount;
+|};
+
+# Number of connection acquisitions with an acquire time in a range.
+#
+# + upperBound - Upper bound of the range in seconds, which includes the bound. The last range has no upper bound
+# + count - Number of acquisitions in the range
+public type AcquireTimeBucket record {|
+    decimal? upperBound;
+    int count;
+|};
+
+# Returns the bind statistics of the parameterized queries executed by the clients of the module.
+#
+# + return - Bind statistics of each query
+public isolated function getBindStatistics() returns BindStatistics[] = @java:Method {
+    'class: "io.ballerina.stdlib.oracledb.nativeimpl.ClientProcessor"
+} external;
+
+# Marks a query to be made on the primary database of a client with a read replica, such as a query which should see
+# the changes made just before it.
+#
+# + sqlQuery - The query to be made on the primary database
+# + return - The query marked for the primary database
+public isolated function onPrimary(sql:ParameterizedQuery sqlQuery) returns PrimaryQuery {
+    return new (sqlQuery.strings, sqlQuery.insertions);
+}
+
+isolated function getReplicaOptions(Options options, ReadReplica readReplica) returns Options {
+    Options replicaOptions = options.clone();
+    _ = replicaOptions.removeIfHasKey("readReplica");
+    _ = replicaOptions.removeIfHasKey("addressList");
+    _ = replicaOptions.removeIfHasKey("connectDescriptor");
+    AddressList? addressList = readReplica.addressList;
+    if addressList is AddressList {
+        replicaOptions.addressList = addressList;
+    }
+    string? connectDescriptor = readReplica.connectDescriptor;
+    if connectDescriptor is string {
+        replicaOptions.connectDescriptor = connectDescriptor;
+    }
+    return replicaOptions;
+}
+
 # Client configuration record for connection initialization.
 #
 # + host - Hostname of the Oracle server to be connected
@@ -172,7 +1046,35 @@ returns sql:Error? = @java:Method {
     'class: "io.ballerina.stdlib.oracledb.nativeimpl.ClientProcessor"
 } external;
 
+isolated function attachReadReplica(Client 'client, Client replicaClient, ReadReplica readReplica) = @java:Method {
+    'class: "io.ballerina.stdlib.oracledb.nativeimpl.ClientProcessor"
+} external;
+
 isolated function nativeBatchExecute(Client sqlClient, sql:ParameterizedQuery[] sqlQueries)
 returns sql:ExecutionResult[]|sql:Error = @java:Method {
     'class: "io.ballerina.stdlib.oracledb.nativeimpl.ExecuteProcessor"
 } external;
+
+isolated function nativeChunkedBatchExecute(Client sqlClient, sql:ParameterizedQuery[] sqlQueries,
+BatchOptions options) returns BatchExecutionSummary|sql:Error = @java:Method {
+    'class: "io.ballerina.stdlib.oracledb.nativeimpl.ExecuteProcessor"
+} external;
+
+isolated function initPreparedQuery(PreparedQuery preparedQuery, sql:ParameterizedQuery sqlQuery)
+returns sql:Error? = @java:Method {
+    'class: "io.ballerina.stdlib.oracledb.nativeimpl.PreparedQueryProcessor"
+} external;
+
+isolated function initWorkloadClient(WorkloadClient workloadClient) returns sql:Error? = @java:Method {
+    'class: "io.ballerina.stdlib.oracledb.nativeimpl.WorkloadProcessor"
+} external;
+
+isolated function acquireWorkloadSlot(WorkloadClient workloadClient) returns boolean|sql:Error = @java:Method {
+    'class: "io.ballerina.stdlib.oracledb.nativeimpl.WorkloadProcessor",
+    name: "acquire"
+} external;
+
+isolated function releaseWorkloadSlot(WorkloadClient workloadClient) = @java:Method {
+    'class: "io.ballerina.stdlib.oracledb.nativeimpl.WorkloadProcessor",
+    name: "release"
+} external;
@@ -323,3 +323,253 @@ function testWithOptionsWithSSLWithKey() returns error? {
     );
     test:assertEquals(oracledbClient.close(), (), "Initializing with ssl params fail");
 }
+
+@test:Config {
+    groups:["connection"]
+}
+isolated function testWithSessionInit() returns error? {
+    Client oracledbClient = check new(HOST, USER, PASSWORD, DATABASE, PORT,
+        {sessionInit: ["ALTER SESSION SET NLS_DATE_FORMAT = 'YYYY-MM-DD'"]}, {maxOpenConnections: 1});
+    string date = check oracledbClient->queryScalar(`SELECT TO_CHAR(DATE '2021-01-02') FROM DUAL`);
+    test:assertEquals(date, "2021-01-02");
+    _ = check oracledbClient->execute(`ALTER SESSION SET NLS_DATE_FORMAT = 'DD/MM/YYYY'`);
+    date = check oracledbClient->queryScalar(`SELECT TO_CHAR(DATE '2021-01-02') FROM DUAL`);
+    test:assertEquals(date, "2021-01-02", "Session settings should be restored after each checkout.");
+    sql:ProcedureCallResult result = check oracledbClient->call(
+        `BEGIN EXECUTE IMMEDIATE 'ALTER SESSION SET NLS_DATE_FORMAT = ''DD/MM/YYYY'''; END;`);
+    check result.close();
+    date = check oracledbClient->queryScalar(`SELECT TO_CHAR(DATE '2021-01-02') FROM DUAL`);
+    test:assertEquals(date, "2021-01-02", "Session settings changed by a call should be restored.");
+    transaction {
+        _ = check oracledbClient->execute(`ALTER SESSION SET NLS_DATE_FORMAT = 'DD/MM/YYYY'`);
+        date = check oracledbClient->queryScalar(`SELECT TO_CHAR(DATE '2021-01-02') FROM DUAL`);
+        test:assertEquals(date, "02/01/2021", "Session settings should be kept within a transaction.");
+        check commit;
+    }
+    date = check oracledbClient->queryScalar(`SELECT TO_CHAR(DATE '2021-01-02') FROM DUAL`);
+    test:assertEquals(date, "2021-01-02", "Session settings should be restored after the transaction.");
+    result = check oracledbClient->call(`BEGIN DBMS_SESSION.SET_IDENTIFIER('session-test'); END;`);
+    check result.close();
+    string? identifier = check oracledbClient->queryScalar(
+        `SELECT SYS_CONTEXT('USERENV', 'CLIENT_IDENTIFIER') FROM DUAL`);
+    test:assertEquals(identifier, (), "The client identifier set by a call should be cleared.");
+    string sessionId = check oracledbClient->queryScalar(`SELECT SYS_CONTEXT('USERENV', 'SESSIONID') FROM DUAL`);
+    _ = check oracledbClient->execute(`ALTER SESSION SET OPTIMIZER_MODE = FIRST_ROWS_10`);
+    string newSessionId = check oracledbClient->queryScalar(`SELECT SYS_CONTEXT('USERENV', 'SESSIONID') FROM DUAL`);
+    date = check oracledbClient->queryScalar(`SELECT TO_CHAR(DATE '2021-01-02') FROM DUAL`);
+    test:assertNotEquals(newSessionId, sessionId,
+        "A session with settings which cannot be restored should be replaced.");
+    test:assertEquals(date, "2021-01-02", "The replacement session should be initialized.");
+    check oracledbClient.close();
+}
+
+@test:Config {
+    groups:["connection"]
+}
+isolated function testWithSessionInitInGlobalPool() returns error? {
+    Client firstClient = check new(HOST, USER, PASSWORD, DATABASE, PORT,
+        {sessionInit: ["ALTER SESSION SET NLS_DATE_FORMAT = 'YYYY-MM-DD'"]});
+    Client secondClient = check new(HOST, USER, PASSWORD, DATABASE, PORT,
+        {sessionInit: ["ALTER SESSION SET NLS_DATE_FORMAT = 'DD/MM/YYYY'"]});
+    string firstDate = check firstClient->queryScalar(`SELECT TO_CHAR(DATE '2021-01-02') FROM DUAL`);
+    string secondDate = check secondClient->queryScalar(`SELECT TO_CHAR(DATE '2021-01-02') FROM DUAL`);
+    check firstClient.close();
+    check secondClient.close();
+    test:assertEquals(firstDate, "2021-01-02");
+    test:assertEquals(secondDate, "02/01/2021", "Clients with different session settings should not share a pool.");
+}
+
+@test:Config {
+    groups:["connection"]
+}
+isolated function testWithWarmup() returns error? {
+    Client oracledbClient = check new(HOST, USER, PASSWORD, DATABASE, PORT,
+        {warmup: {connections: 3, validationQuery: "SELECT 1 FROM DUAL"}}, {maxOpenConnections: 2});
+    check oracledbClient.close();
+    oracledbClient = check new(HOST, USER, PASSWORD, DATABASE, PORT, {warmup: {connections: 2, lazy: true}});
+    check oracledbClient.close();
+    Client|sql:Error result = new(HOST, USER, PASSWORD, DATABASE, PORT,
+        {warmup: {connections: 1, validationQuery: "SELECT FROM"}});
+    test:assertTrue(result is sql:DatabaseError);
+}
+
+@test:Config {
+    groups:["connection"]
+}
+isolated function testWithAddressList() returns error? {
+    Client oracledbClient = check new(user = USER, password = PASSWORD, database = DATABASE, options = {
+        addressList: {
+            addresses: [{host: "invalid.host", port: PORT}, {host: HOST, port: PORT}],
+            loadBalance: false,
+            retryCount: 1,
+            retryDelay: 0
+        }
+    });
+    int count = check oracledbClient->queryRow(`SELECT 1 FROM DUAL`);
+    test:assertEquals(count, 1);
+    check oracledbClient.close();
+
+    Client|sql:Error result = new(user = USER, password = PASSWORD, options = {addressList: {addresses: []}});
+    test:assertTrue(result is sql:ApplicationError);
+}
+
+@test:Config {
+    groups:["connection"]
+}
+isolated function testWithConnectDescriptor() returns error? {
+    Client oracledbClient = check new(user = USER, password = PASSWORD,
+        options = {connectDescriptor: string `${HOST}:${PORT}/${DATABASE}`});
+    check oracledbClient.close();
+    oracledbClient = check new(user = USER, password = PASSWORD, options = {
+        connectDescriptor: string `(DESCRIPTION=(ADDRESS=(PROTOCOL=TCP)(HOST=${HOST})(PORT=${PORT}))` +
+            string `(CONNECT_DATA=(SERVICE_NAME=${DATABASE})))`
+    });
+    check oracledbClient.close();
+}
+
+@test:Config {
+    groups:["connection"]
+}
+isolated function testWithReadReplica() returns error? {
+    Client oracledbClient = check new(HOST, USER, PASSWORD, DATABASE, PORT, {
+        readReplica: {host: HOST, port: PORT, connectionPool: {maxOpenConnections: 2}}
+    });
+    int count = check oracledbClient->queryRow(`SELECT 1 FROM DUAL`);
+    test:assertEquals(count, 1);
+    count = check oracledbClient->queryRow(onPrimary(`SELECT 2 FROM DUAL`));
+    test:assertEquals(count, 2);
+    check oracledbClient.close();
+
+    // The test database does not report an apply lag, hence the queries are made on the primary database.
+    oracledbClient = check new(HOST, USER, PASSWORD, DATABASE, PORT, {
+        readReplica: {host: HOST, port: PORT, maxLag: 10, lagCheckInterval: 0}
+    });
+    count = check oracledbClient->queryScalar(`SELECT 3 FROM DUAL`);
+    test:assertEquals(count, 3);
+    check oracledbClient.close();
+
+    Client|sql:Error result = new(HOST, USER, PASSWORD, DATABASE, PORT, {readReplica: {host: HOST, maxLag: -1}});
+    test:assertTrue(result is sql:ApplicationError);
+    result = new(HOST, USER, PASSWORD, DATABASE, PORT, {readReplica: {host: HOST, lagCheckInterval: -1}});
+    test:assertTrue(result is sql:ApplicationError);
+}
+
+@test:Config {
+    groups:["connection"]
+}
+isolated function testWithNetworkOptions() returns error? {
+    Client oracledbClient = check new(HOST, USER, PASSWORD, DATABASE, PORT, {
+        network: {
+            sessionDataUnit: 65535,
+            sendBufferSize: 1048576,
+            receiveBufferSize: 1048576,
+            compression: COMPRESSION_AUTO
+        }
+    });
+    int count = check oracledbClient->queryRow(`SELECT 1 FROM DUAL`);
+    test:assertEquals(count, 1);
+    check oracledbClient.close();
+
+    Client|sql:Error result = new(HOST, USER, PASSWORD, DATABASE, PORT, {network: {sessionDataUnit: 100}});
+    test:assertTrue(result is sql:ApplicationError);
+    result = new(HOST, USER, PASSWORD, DATABASE, PORT, {network: {compressionThreshold: 10}});
+    test:assertTrue(result is sql:ApplicationError);
+}
+
+@test:Config {
+    groups:["connection"]
+}
+isolated function testWithDrcpOptions() returns error? {
+    sql:ConnectionPool connectionPool = {maxOpenConnections: 2, minIdleConnections: 0};
+    Client oracledbClient = check new(HOST, USER, PASSWORD, DATABASE, PORT,
+        {drcp: {connectionClass: "oracledb-tests"}}, connectionPool);
+    string server = check oracledbClient->queryRow(
+        `SELECT SERVER FROM V$SESSION WHERE SID = SYS_CONTEXT('USERENV', 'SID')`);
+    check oracledbClient.close();
+    test:assertEquals(server, "POOLED");
+
+    oracledbClient = check new(user = USER, password = PASSWORD, options = {
+        connectDescriptor: string `${HOST}:${PORT}/${DATABASE}`,
+        drcp: {connectionClass: "oracledb-tests"}
+    }, connectionPool = connectionPool);
+    server = check oracledbClient->queryRow(`SELECT SERVER FROM V$SESSION WHERE SID = SYS_CONTEXT('USERENV', 'SID')`);
+    check oracledbClient.close();
+    test:assertEquals(server, "POOLED");
+
+    oracledbClient = check new(user = USER, password = PASSWORD, options = {
+        connectDescriptor: string `(DESCRIPTION=(ADDRESS=(PROTOCOL=TCP)(HOST=${HOST})(PORT=${PORT}))` +
+            string `(CONNECT_DATA=(SERVICE_NAME=${DATABASE})))`,
+        drcp: {connectionClass: "oracledb-tests", purity: PURITY_NEW}
+    }, connectionPool = connectionPool);
+    server = check oracledbClient->queryRow(`SELECT SERVER FROM V$SESSION WHERE SID = SYS_CONTEXT('USERENV', 'SID')`);
+    check oracledbClient.close();
+    test:assertEquals(server, "POOLED");
+}
+
+@test:Config {
+    groups:["connection"]
+}
+isolated function testWithInvalidDrcpOptions() {
+    Client|sql:Error result = new(HOST, USER, PASSWORD, DATABASE, PORT, {drcp: {connectionClass: " "}});
+    test:assertTrue(result is sql:ApplicationError);
+    result = new(user = USER, password = PASSWORD, options = {
+        connectDescriptor: string `(DESCRIPTION=(ADDRESS=(PROTOCOL=TCP)(HOST=${HOST})(PORT=${PORT}))` +
+            string `(CONNECT_DATA=(SERVER=DEDICATED)(SERVICE_NAME=${DATABASE})))`,
+        drcp: {connectionClass: "oracledb-tests"}
+    });
+    test:assertTrue(result is sql:ApplicationError);
+    result = new(user = USER, password = PASSWORD, options = {connectDescriptor: "ORCLCDB",
+        drcp: {connectionClass: "oracledb-tests"}});
+    test:assertTrue(result is sql:ApplicationError);
+}
+
+@test:Config {
+    groups:["connection"]
+}
+isolated function testWithDefaultPoolProvider() {
+    Client|sql:Error dbClient = new(HOST, USER, PASSWORD, DATABASE, PORT, {poolProvider: "default"});
+    test:assertTrue(dbClient is Client);
+    if (dbClient is Client) {
+        sql:Error? closeResult = dbClient.close();
+        test:assertExactEquals(closeResult, (), "Client close with default pool provider fails.");
+    }
+}
+
+@test:Config {
+    groups:["connection"]
+}
+isolated function testWithUnknownPoolProvider() {
+    Client|sql:Error result = new(HOST, USER, PASSWORD, DATABASE, PORT, {poolProvider: "unknown"});
+    test:assertTrue(result is sql:ApplicationError);
+    if (result is sql:ApplicationError) {
+        test:assertTrue(result.message().includes("Connection pool provider 'unknown' is not found"),
+            result.message());
+    }
+}
+
+@test:Config {
+    groups:["connection"]
+}
+isolated function testWithUcpPoolProvider() returns error? {
+    Client oracledbClient = check new(HOST, USER, PASSWORD, DATABASE, PORT, {poolProvider: "ucp"},
+        {maxOpenConnections: 2, maxConnectionLifeTime: 1800});
+    int count = check oracledbClient->queryRow(`SELECT 1 FROM DUAL`);
+    test:assertEquals(count, 1);
+    sql:Error? closeResult = oracledbClient.close();
+    test:assertExactEquals(closeResult, (), "Client close with UCP pool provider fails.");
+}
+
+@test:Config {
+    groups:["connection"]
+}
+isolated function testWithUcpFastConnectionFailoverWithoutOns() {
+    Client|sql:Error result = new(HOST, USER, PASSWORD, DATABASE, PORT, {
+        poolProvider: "ucp",
+        ucp: {fastConnectionFailover: true}
+    });
+    test:assertTrue(result is sql:ApplicationError);
+    if (result is sql:ApplicationError) {
+        test:assertTrue(result.message().includes("needs the Oracle Notification Service (ONS) library"),
+            result.message());
+    }
+}
@@ -87,6 +87,17 @@ isolated function testUpdateTable() returns sql:Error? {
     test:assertExactEquals(result.lastInsertId, (), "Last Insert Id should be null.");
 }
 
+@test:Config {
+    groups:["execute", "execute-basic"],
+    dependsOn: [testUpdateTable]
+}
+isolated function testInsertTableWithLeadingComment() returns sql:Error? {
+    sql:ExecutionResult result = check executeQuery(
+        `/* audit */ INSERT INTO TestExecuteTable(field1, field2) VALUES (2, 'Hello, comment')`);
+    test:assertExactEquals(result.affectedRowCount, 1, "Affected row count is different.");
+    test:assertTrue(result.lastInsertId is string, "Last Insert id should be string");
+}
+
 @test:Config {
     groups: ["execute", "execute-basic"],
     dependsOn: [testInsertTable]
@@ -385,6 +385,212 @@ function testStopClientUsingGlobalPool() returns sql:Error? {
   validateApplicationError(retVal2);
 }
 
+@test:Config {
+  groups: ["pool"]
+}
+function testPoolStatistics() returns error? {
+  sql:ConnectionPool pool = {maxOpenConnections: 3, minIdleConnections: 1};
+  Client oracleDbClient1 = check new (HOST, USER, PASSWORD, DATABASE, PORT, options, pool);
+  Client oracleDbClient2 = check new (HOST, USER, PASSWORD, DATABASE, PORT, options, pool);
+  int count = check oracleDbClient1->queryRow(`select count(*) as val from PoolCustomers where registrationID = 1`);
+  test:assertEquals(count, 1);
+
+  PoolStatistics stats = check oracleDbClient1.getPoolStats();
+  test:assertEquals(stats.maxConnections, 3);
+  test:assertEquals(stats.activeConnections, 0);
+  test:assertTrue(stats.acquireCount >= 1);
+  test:assertTrue(stats.createdConnectionCount >= 1);
+  test:assertEquals(stats.acquireTimeHistogram.length(), 9);
+  test:assertEquals(stats.acquireTimeHistogram[8].upperBound, ());
+  PoolStatistics sharedStats = check oracleDbClient2.getPoolStats();
+  test:assertEquals(sharedStats.acquireCount, stats.acquireCount, "Clients sharing a pool should share its statistics.");
+
+  check oracleDbClient1.close();
+  check oracleDbClient2.close();
+  PoolStatistics|sql:Error closedStats = oracleDbClient1.getPoolStats();
+  test:assertTrue(closedStats is sql:ApplicationError);
+}
+
+@test:Config {
+  groups: ["pool"]
+}
+function testWorkloadClasses() returns error? {
+  Options workloadOptions = {
+    workloadClasses: {
+      interactive: {priority: 1},
+      batch: {maxShare: 0.5, acquireTimeout: 1}
+    }
+  };
+  Client oracleDbClient = check new (HOST, USER, PASSWORD, DATABASE, PORT, workloadOptions, {maxOpenConnections: 2});
+  WorkloadClient interactive = check oracleDbClient.workload("interactive");
+  WorkloadClient batch = check oracleDbClient.workload("batch");
+
+  int count = check interactive->queryRow(`select count(*) as val from PoolCustomers where registrationID = 1`);
+  test:assertEquals(count, 1);
+  sql:ExecutionResult[] results = check batch->batchExecute([
+    `update PoolCustomers set creditLimit = creditLimit where registrationID = 1`,
+    `update PoolCustomers set creditLimit = creditLimit where registrationID = 2`
+  ]);
+  test:assertEquals(results.length(), 2);
+
+  WorkloadClient|sql:Error unknown = oracleDbClient.workload("reporting");
+  test:assertTrue(unknown is sql:ApplicationError);
+  check oracleDbClient.close();
+
+  Client|sql:Error invalidClient = new (HOST, USER, PASSWORD, DATABASE, PORT,
+    {workloadClasses: {batch: {maxShare: 1.5}}});
+  test:assertTrue(invalidClient is sql:ApplicationError);
+}
+
+@test:Config {
+  groups: ["pool"]
+}
+function testWorkloadClassWaitingCalls() returns error? {
+  Client oracleDbClient = check new (HOST, USER, PASSWORD, DATABASE, PORT,
+    {workloadClasses: {single: {maxShare: 0.5, acquireTimeout: 30}}}, {maxOpenConnections: 2});
+  WorkloadClient single = check oracleDbClient.workload("single");
+  // The class has a single slot, hence all but one of the calls wait for their turn without blocking a thread.
+  future<int|error>[] queries = [];
+  future<sql:ExecutionResult|error>[] updates = [];
+  foreach int i in 0 ..< 8 {
+    queries.push(start single->queryRow(`select count(*) as val from PoolCustomers where registrationID = 1`, int));
+    updates.push(start single->execute(`update PoolCustomers set creditLimit = creditLimit where registrationID = 1`));
+  }
+  foreach future<int|error> query in queries {
+    test:assertEquals(check wait query, 1);
+  }
+  foreach future<sql:ExecutionResult|error> update in updates {
+    sql:ExecutionResult result = check wait update;
+    test:assertEquals(result.affectedRowCount, 1);
+  }
+  check oracleDbClient.close();
+}
+
+@test:Config {
+  groups: ["pool"]
+}
+function testWorkloadClientCalls() returns error? {
+  Client oracleDbClient = check new (HOST, USER, PASSWORD, DATABASE, PORT,
+    {workloadClasses: {reporting: {maxShare: 0.5, acquireTimeout: 30}}}, {maxOpenConnections: 2});
+  WorkloadClient reporting = check oracleDbClient.workload("reporting");
+  sql:ParameterizedQuery customerQuery = `select registrationID, country from PoolCustomers where registrationID = 1`;
+
+  stream<record {}, sql:Error?> customers = reporting->query(customerQuery);
+  record {}[] rows = check from record {} row in customers select row;
+  test:assertEquals(rows.length(), 1);
+  int count = check reporting->queryScalar(`select count(*) from PoolCustomers where registrationID = 1`);
+  test:assertEquals(count, 1);
+  customers = reporting->queryParallel(`select registrationID from PoolCustomers`,
+    {partitionColumn: "REGISTRATIONID", lowerBound: 1, upperBound: 2, parallelism: 2, consistentSnapshot: false});
+  rows = check from record {} row in customers select row;
+  test:assertEquals(rows.length(), check reporting->queryScalar(`select count(*) from PoolCustomers`, int));
+  test:assertEquals(check reporting->exportQuery(customerQuery, "./target/workload-customers.csv"), 1);
+
+  ReturningExecutionResult returned = check reporting->executeReturning(
+    `update PoolCustomers set creditLimit = creditLimit where registrationID = 1`, {registrationID: int});
+  test:assertEquals(returned.returnedValues["registrationID"], [1]);
+  BatchExecutionSummary summary = check reporting->chunkedBatchExecute([
+    `update PoolCustomers set creditLimit = creditLimit where registrationID = 1`,
+    `update PoolCustomers set creditLimit = creditLimit where registrationID = 2`
+  ], {chunkSize: 1});
+  test:assertEquals(summary.affectedRowCount, 2);
+  UpsertResult upserted = check reporting->upsert("PoolCustomers", ["registrationID"],
+    [{registrationID: 1, country: "USA"}]);
+  test:assertEquals(upserted, {insertedRowCount: 0, updatedRowCount: 1});
+  sql:ProcedureCallResult callResult = check reporting->call(`call DBMS_OUTPUT.DISABLE()`);
+  check callResult.close();
+
+  // The calls within a transaction use the connection of the transaction without waiting for a turn.
+  transaction {
+    customers = reporting->query(customerQuery);
+    rows = check from record {} row in customers select row;
+    count = check reporting->queryScalar(`select count(*) from PoolCustomers where registrationID = 1`);
+    check commit;
+  }
+  test:assertEquals(rows.length(), 1);
+  test:assertEquals(count, 1);
+
+  // The class has a single slot, hence the streams wait for their turn until the rows of the others are fetched.
+  future<record {}[]|error>[] queries = [];
+  foreach int i in 0 ..< 4 {
+    queries.push(start fetchWorkloadRows(reporting, customerQuery));
+  }
+  foreach future<record {}[]|error> query in queries {
+    test:assertEquals((check wait query).length(), 1);
+  }
+  check oracleDbClient.close();
+
+  customers = reporting->query(customerQuery);
+  record {}[]|error closedRows = from record {} row in customers select row;
+  test:assertTrue(closedRows is sql:ApplicationError);
+}
+
+isolated function fetchWorkloadRows(WorkloadClient workloadClient, sql:ParameterizedQuery sqlQuery)
+returns record {}[]|error {
+  stream<record {}, sql:Error?> rows = workloadClient->query(sqlQuery);
+  return from record {} row in rows select row;
+}
+
+@test:Config {
+  groups: ["pool"]
+}
+function testConcurrencyLimit() returns error? {
+  Options limitOptions = {
+    concurrencyLimit: {initialLimit: 2, minLimit: 1, maxLimit: 4}
+  };
+  Client oracleDbClient = check new (HOST, USER, PASSWORD, DATABASE, PORT, limitOptions);
+  int count = check oracleDbClient->queryRow(`select count(*) as val from PoolCustomers where registrationID = 1`);
+  test:assertEquals(count, 1);
+  sql:ExecutionResult result = check oracleDbClient->execute(
+    `update PoolCustomers set creditLimit = creditLimit where registrationID = 1`);
+  test:assertEquals(result.affectedRowCount, 1);
+  check oracleDbClient.close();
+
+  Client|sql:Error invalidClient = new (HOST, USER, PASSWORD, DATABASE, PORT,
+    {concurrencyLimit: {initialLimit: 10, maxLimit: 5}});
+  test:assertTrue(invalidClient is sql:ApplicationError);
+  invalidClient = new (HOST, USER, PASSWORD, DATABASE, PORT, {concurrencyLimit: {backoffRatio: 1}});
+  test:assertTrue(invalidClient is sql:ApplicationError);
+}
+
+@test:Config {
+  groups: ["pool"]
+}
+function testConcurrencyLimitAdaptation() returns error? {
+  Options limitOptions = {
+    concurrencyLimit: {initialLimit: 2, minLimit: 1, maxLimit: 2, latencyThreshold: 0.05, backoffRatio: 0.5}
+  };
+  Client oracleDbClient = check new (HOST, USER, PASSWORD, DATABASE, PORT, limitOptions);
+  sql:ParameterizedQuery busyBlock = `DECLARE finish TIMESTAMP := SYSTIMESTAMP + INTERVAL '2' SECOND;
+    BEGIN WHILE SYSTIMESTAMP < finish LOOP NULL; END LOOP; END;`;
+  sql:ParameterizedQuery countQuery = `select count(*) as val from PoolCustomers where registrationID = 1`;
+
+  // A slow bulk call does not lower the limit, hence a call is admitted next to another call in flight.
+  sql:ProcedureCallResult callResult = check oracleDbClient->call(busyBlock);
+  check callResult.close();
+  future<sql:ProcedureCallResult|sql:Error> busyCall = start oracleDbClient->call(busyBlock);
+  runtime:sleep(0.5);
+  int count = check oracleDbClient->queryRow(countQuery);
+  test:assertEquals(count, 1);
+  callResult = check wait busyCall;
+  check callResult.close();
+
+  // A slow call lowers the limit to a single call, hence a call next to another call in flight is rejected.
+  _ = check oracleDbClient->execute(busyBlock);
+  future<sql:ExecutionResult|sql:Error> busyExecute = start oracleDbClient->execute(busyBlock);
+  runtime:sleep(0.5);
+  int|sql:Error rejected = oracleDbClient->queryRow(countQuery);
+  test:assertTrue(rejected is ConcurrencyLimitError, "A call beyond the limit should be rejected.");
+  stream<record {}, sql:Error?> rejectedStream = oracleDbClient->query(countQuery);
+  record {|record {} value;|}|sql:Error? next = rejectedStream.next();
+  test:assertTrue(next is ConcurrencyLimitError, "A query beyond the limit should be rejected.");
+  rejectedStream = oracleDbClient->queryParallel(countQuery, {partitionColumn: "val", parallelism: 2});
+  next = rejectedStream.next();
+  test:assertTrue(next is ConcurrencyLimitError, "A parallel query beyond the limit should be rejected.");
+  _ = check wait busyExecute;
+  check oracleDbClient.close();
+}
+
 isolated function getReturnValue(stream<record{}, error?> queryResult) returns int|error {
   int count = -1;
   record {|record {} value;|}? data = check queryResult.next();
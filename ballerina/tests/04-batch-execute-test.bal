@@ -87,6 +87,60 @@ isolated function batchInsertIntoDataTableFailure() {
     }
 }
 
+@test:Config {
+    groups: ["batch-execute"],
+    dependsOn: [batchInsertIntoDataTableFailure]
+}
+isolated function chunkedBatchInsertIntoDataTableWithFailure() returns error? {
+    int[] colNumbers = [100, 101, 1, 102, 103];
+    sql:ParameterizedQuery[] sqlQueries =
+        from int colNumber in colNumbers
+        select `INSERT INTO DataTable (col_number) VALUES (${colNumber})`;
+    Client oracledbClient = check new(HOST, USER, PASSWORD, DATABASE, PORT);
+    BatchExecutionSummary summary = check oracledbClient->chunkedBatchExecute(sqlQueries, {chunkSize: 2});
+    check oracledbClient.close();
+    test:assertEquals(summary.affectedRowCount, 4);
+    test:assertEquals(summary.failedIndexes, [2]);
+}
+
+@test:Config {
+    groups: ["batch-execute"],
+    dependsOn: [chunkedBatchInsertIntoDataTableWithFailure]
+}
+isolated function parallelChunkedBatchInsertIntoDataTable() returns error? {
+    int[] colNumbers = [110, 111, 112, 113, 114, 115, 116, 117, 118, 119];
+    sql:ParameterizedQuery[] sqlQueries =
+        from int colNumber in colNumbers
+        select `INSERT INTO DataTable (col_number) VALUES (${colNumber})`;
+    Client oracledbClient = check new(HOST, USER, PASSWORD, DATABASE, PORT);
+    BatchExecutionSummary summary = check oracledbClient->chunkedBatchExecute(sqlQueries,
+        {chunkSize: 3, commitPerChunk: true, parallelism: 2});
+    int count = check oracledbClient->queryRow(`SELECT COUNT(*) FROM DataTable WHERE col_number BETWEEN 110 AND 119`);
+    check oracledbClient.close();
+    test:assertEquals(summary.affectedRowCount, 10);
+    test:assertEquals(summary.failedIndexes.length(), 0);
+    test:assertEquals(count, 10);
+}
+
+@test:Config {
+    groups: ["batch-execute"],
+    dependsOn: [parallelChunkedBatchInsertIntoDataTable]
+}
+isolated function chunkedBatchInsertPerChunkWithFailures() returns error? {
+    int[] colNumbers = [130, 1, 131, 1, 132];
+    sql:ParameterizedQuery[] sqlQueries =
+        from int colNumber in colNumbers
+        select `INSERT INTO DataTable (col_number) VALUES (${colNumber})`;
+    Client oracledbClient = check new(HOST, USER, PASSWORD, DATABASE, PORT);
+    BatchExecutionSummary summary = check oracledbClient->chunkedBatchExecute(sqlQueries,
+        {chunkSize: 5, commitPerChunk: true});
+    int count = check oracledbClient->queryRow(`SELECT COUNT(*) FROM DataTable WHERE col_number BETWEEN 130 AND 132`);
+    check oracledbClient.close();
+    test:assertEquals(summary.affectedRowCount, 3);
+    test:assertEquals(summary.failedIndexes, [1, 3]);
+    test:assertEquals(count, 3);
+}
+
 isolated function validateBatchExecutionResult(sql:ExecutionResult[] results, int[] rowCount, int[] lastId)
 returns error? {
     test:assertEquals(results.length(), rowCount.length());
@@ -110,3 +164,60 @@ isolated function batchExecuteQuery(sql:ParameterizedQuery[] sqlQueries) returns
     check oracledbClient.close();
     return result;
 }
+
+@test:Config {
+    groups: ["batch-execute"]
+}
+isolated function importFileIntoDataTable() returns error? {
+    Client oracledbClient = check new(HOST, USER, PASSWORD, DATABASE, PORT);
+    int importedRows = check oracledbClient->importFile("./tests/resources/files/dataTableImport.csv", "DataTable",
+        ["col_number", "col_float", "col_binary_double"], {skipHeader: true, batchSize: 2});
+    int count = check oracledbClient->queryRow(`SELECT COUNT(*) FROM DataTable WHERE col_number BETWEEN 120 AND 123`);
+    float? colFloat = check oracledbClient->queryRow(`SELECT col_float FROM DataTable WHERE col_number = 121`);
+    check oracledbClient.close();
+    test:assertEquals(importedRows, 4);
+    test:assertEquals(count, 4);
+    test:assertEquals(colFloat, ());
+}
+
+@test:Config {
+    groups: ["batch-execute"]
+}
+isolated function importFileInParallelWithFailure() returns error? {
+    Client oracledbClient = check new(HOST, USER, PASSWORD, DATABASE, PORT);
+    int|error importedRows = oracledbClient->importFile("./tests/resources/files/dataTableImportDuplicate.csv",
+        "DataTable", ["col_number", "col_float"], {skipHeader: true, batchSize: 2, parallelism: 4});
+    int count = check oracledbClient->queryRow(`SELECT COUNT(*) FROM DataTable WHERE col_number BETWEEN 140 AND 146`);
+    check oracledbClient.close();
+    test:assertTrue(importedRows is sql:DatabaseError, "Importing a duplicate key should fail.");
+    test:assertEquals(count, 0, "No segment should be committed when one of them fails.");
+}
+
+@test:Config {
+    groups: ["batch-execute"]
+}
+isolated function importFileWithQuotedLineBreaks() returns error? {
+    Client oracledbClient = check new(HOST, USER, PASSWORD, DATABASE, PORT);
+    int importedRows = check oracledbClient->importFile("./tests/resources/files/importTextTable.csv",
+        "ImportTextTable", ["id", "col_text"], {skipHeader: true, parallelism: 4});
+    string firstText = check oracledbClient->queryRow(`SELECT col_text FROM ImportTextTable WHERE id = 1`);
+    string thirdText = check oracledbClient->queryRow(`SELECT col_text FROM ImportTextTable WHERE id = 3`);
+    check oracledbClient.close();
+    test:assertEquals(importedRows, 4);
+    test:assertEquals(firstText, "first line\nsecond line");
+    test:assertEquals(thirdText, "quoted \"word\", and\nbreak");
+}
+
+@test:Config {
+    groups: ["batch-execute"]
+}
+isolated function importFileWithSingleColumn() returns error? {
+    Client oracledbClient = check new(HOST, USER, PASSWORD, DATABASE, PORT);
+    int importedRows = check oracledbClient->importFile("./tests/resources/files/importSingleColumnTable.csv",
+        "ImportSingleColumnTable", ["col_text"]);
+    int nullCount = check oracledbClient->queryRow(`SELECT COUNT(*) FROM ImportSingleColumnTable
+        WHERE col_text IS NULL`);
+    check oracledbClient.close();
+    test:assertEquals(importedRows, 3);
+    test:assertEquals(nullCount, 1);
+}
@@ -17,6 +17,7 @@
 import ballerina/io;
 import ballerina/sql;
 import ballerina/test;
+import ballerina/time;
 
 @test:Config {
     groups: ["execute", "execute-params"]
@@ -424,6 +425,44 @@ isolated function deleteLobTable() returns sql:Error? {
     validateResult(check executeQuery(sqlQuery), 1);
 }
 
+@test:Config {
+    groups: ["execute", "execute-params"]
+}
+isolated function executePreparedQueryOnNumericTable() returns error? {
+    Client oracledbClient = check new(HOST, USER, PASSWORD, DATABASE, PORT);
+    int id = 0;
+    decimal col_number = 0;
+    PreparedQuery insertQuery = check oracledbClient.prepare(
+        `INSERT INTO NumericTypesTable (id, col_number) VALUES (${id}, ${col_number})`);
+    validateResult(check insertQuery->execute([20, 20.5d]), 1, 1);
+    validateResult(check insertQuery->execute([21, ()]), 1, 1);
+
+    PreparedQuery selectQuery = check oracledbClient.prepare(
+        `SELECT col_number FROM NumericTypesTable WHERE id = ${id}`);
+    decimal value = check selectQuery->queryRow([20]);
+    test:assertEquals(value, 20.5d);
+    decimal? nilValue = check selectQuery->queryRow([21]);
+    test:assertEquals(nilValue, ());
+
+    sql:ExecutionResult|sql:Error result = insertQuery->execute([22]);
+    if result is sql:ApplicationError {
+        test:assertEquals(result.message(), "Prepared query expects 2 parameter(s) but 1 parameter(s) are provided.");
+    } else {
+        test:assertFail("ApplicationError expected when the parameter count does not match.");
+    }
+
+    stream<record {}, sql:Error?> resultStream = selectQuery->query([20, 21]);
+    record {|record {} value;|}|sql:Error? streamResult = resultStream.next();
+    if streamResult is sql:ApplicationError {
+        test:assertEquals(streamResult.message(),
+            "Prepared query expects 1 parameter(s) but 2 parameter(s) are provided.");
+    } else {
+        test:assertFail("ApplicationError expected when the parameter count of a query does not match.");
+    }
+    check resultStream.close();
+    check oracledbClient.close();
+}
+
 isolated function validateResult(sql:ExecutionResult result, int rowCount, int? lastId = ()) {
     test:assertExactEquals(result.affectedRowCount, rowCount, "Affected row count is different.");
 
@@ -434,3 +473,120 @@ isolated function validateResult(sql:ExecutionResult result, int rowCount, int?
         test:assertTrue(lastInsertIdVal is string , "Last Insert Id should be string.");
     }
 }
+
+@test:Config {
+    groups: ["execute", "execute-params"]
+}
+isolated function executeWithBatchNoWaitCommitMode() returns error? {
+    Client oracledbClient = check new(HOST, USER, PASSWORD, DATABASE, PORT, {commitMode: BATCH_NOWAIT});
+    int id = 23;
+    validateResult(check oracledbClient->execute(`INSERT INTO NumericTypesTable (id) VALUES (${id})`), 1, 1);
+    id = 24;
+    validateResult(check oracledbClient->execute(`INSERT INTO NumericTypesTable (id) VALUES (${id})`,
+        IMMEDIATE_WAIT), 1, 1);
+    int count = check oracledbClient->queryRow(`SELECT COUNT(*) FROM NumericTypesTable WHERE id IN (23, 24)`);
+    test:assertEquals(count, 2);
+    check oracledbClient.close();
+}
+
+@test:Config {
+    groups: ["execute", "execute-params"],
+    dependsOn: [insertIntoCharacterTable2]
+}
+isolated function executeWithBindNormalization() returns error? {
+    Client oracledbClient = check new(HOST, USER, PASSWORD, DATABASE, PORT, {bindNormalization: true});
+    string?[] values = ["a", "very long text with more than thirty two characters", ()];
+    foreach int i in 0 ..< values.length() {
+        int id = 30 + i;
+        string? value = values[i];
+        validateResult(check oracledbClient->execute(`INSERT INTO CharTypesTable (id, col_varchar2)
+            VALUES (${id}, ${value})`), 1, 1);
+    }
+    check oracledbClient.close();
+    BindStatistics[] statistics = getBindStatistics().filter(statistic =>
+        statistic.sqlQuery.includes("CharTypesTable (id, col_varchar2)"));
+    test:assertEquals(statistics.length(), 1);
+    test:assertEquals(statistics[0].executionCount, 3);
+    test:assertEquals(statistics[0].bindSignatureCount, 1);
+    test:assertFalse(statistics[0].childCursorRisk);
+}
+
+@test:Config {
+    groups: ["execute", "execute-params"],
+    dependsOn: [executeWithBindNormalization]
+}
+isolated function executeWithDynamicTemplates() returns error? {
+    Client oracledbClient = check new(HOST, USER, PASSWORD, DATABASE, PORT);
+    // Each query has its own template strings, hence the cache of the queries overflows and evicts entries.
+    foreach int i in 0 ..< 1100 {
+        string[] & readonly strings = ["SELECT ", " + " + i.toString() + " FROM DUAL"];
+        int result = check oracledbClient->queryRow(new PrimaryQuery(strings, [1]));
+        test:assertEquals(result, i + 1);
+    }
+    int result = check oracledbClient->queryRow(`SELECT ${2} FROM DUAL`);
+    test:assertEquals(result, 2);
+    check oracledbClient.close();
+    test:assertTrue(getBindStatistics().length() <= 1024, "The query cache is not bounded.");
+}
+
+@test:Config {
+    groups: ["execute", "execute-params"],
+    dependsOn: [insertIntoNumericTable1]
+}
+isolated function executeReturningWithBatch() returns error? {
+    Client oracledbClient = check new(HOST, USER, PASSWORD, DATABASE, PORT);
+    sql:ParameterizedQuery[] queries = from int id in [40, 41]
+        select `INSERT INTO NumericTypesTable (id, col_number) VALUES (${id}, ${id * 10})`;
+    ReturningExecutionResult result = check oracledbClient->executeReturning(queries,
+        {id: int, col_number: decimal});
+    check oracledbClient.close();
+    test:assertEquals(result.affectedRowCount, 2);
+    test:assertEquals(result.returnedValues["id"], [40, 41]);
+    test:assertEquals(result.returnedValues["col_number"], [400d, 410d]);
+}
+
+@test:Config {
+    groups: ["execute", "execute-params"],
+    dependsOn: [executeReturningWithBatch]
+}
+isolated function upsertIntoNumericTable() returns error? {
+    Client oracledbClient = check new(HOST, USER, PASSWORD, DATABASE, PORT);
+    record {| int id; decimal col_number; |}[] rows = [{id: 40, col_number: 1}, {id: 42, col_number: 2},
+        {id: 42, col_number: 3}];
+    UpsertResult result = check oracledbClient->upsert("NumericTypesTable", ["id"], rows, {chunkSize: 2});
+    test:assertEquals(result, {insertedRowCount: 1, updatedRowCount: 2});
+    decimal col_number = check oracledbClient->queryRow(`SELECT col_number FROM NumericTypesTable WHERE id = 42`);
+    check oracledbClient.close();
+    test:assertEquals(col_number, 3d);
+}
+
+@test:Config {
+    groups: ["execute", "execute-params"],
+    dependsOn: [upsertIntoNumericTable]
+}
+isolated function upsertWithOnlyKeyColumns() returns error? {
+    Client oracledbClient = check new(HOST, USER, PASSWORD, DATABASE, PORT);
+    record {| int id; |}[] rows = [{id: 42}, {id: 43}];
+    UpsertResult result = check oracledbClient->upsert("NumericTypesTable", ["id"], rows);
+    check oracledbClient.close();
+    test:assertEquals(result, {insertedRowCount: 1, updatedRowCount: 0},
+        "Rows that match an existing key should not be counted as updated without update columns.");
+}
+
+@test:Config {
+    groups: ["execute", "execute-params"]
+}
+isolated function upsertCivilWithTimeAbbrev() returns error? {
+    Client oracledbClient = check new(HOST, USER, PASSWORD, DATABASE, PORT);
+    time:Civil timestamp = {year: 2021, month: 1, day: 2, hour: 3, minute: 4, second: 5, timeAbbrev: "Z"};
+    UpsertResult|error result = oracledbClient->upsert("UpsertDateTimeTable", ["id"], [{id: 1,
+        col_timestamp: timestamp}]);
+    test:assertEquals(result, {insertedRowCount: 1, updatedRowCount: 0});
+    result = oracledbClient->upsert("UpsertDateTimeTable", ["id", "col_timestamp"], [{id: 1,
+        col_timestamp: timestamp}]);
+    test:assertEquals(result, {insertedRowCount: 0, updatedRowCount: 0});
+    string value = check oracledbClient->queryRow(
+        `SELECT TO_CHAR(col_timestamp, 'YYYY-MM-DD HH24:MI:SS') FROM UpsertDateTimeTable WHERE id = 1`);
+    check oracledbClient.close();
+    test:assertEquals(value, "2021-01-02 03:04:05");
+}
@@ -14,6 +14,7 @@
 // specific language governing permissions and limitations
 // under the License.
 
+import ballerina/io;
 import ballerina/sql;
 import ballerina/test;
 
@@ -390,3 +391,94 @@ isolated function validateSqlDsSimpleQueryTableResult(record{}? returnData) {
         test:assertEquals(returnData["COL_LONG_VARCHAR"], "Hello world");
     }
 }
+
+@test:Config {
+    groups: ["query", "query-simple-params"]
+}
+isolated function queryParallelOnKeyRanges() returns error? {
+    Client oracledbClient = check new(HOST, USER, PASSWORD, DATABASE, PORT);
+    float col_number = -23.4;
+    stream<record {}, sql:Error?> streamData = oracledbClient->queryParallel(
+        `SELECT * from GeneralQueryTable WHERE col_number = ${col_number}`,
+        {partitionColumn: "ID", lowerBound: 0, upperBound: 10, parallelism: 3, consistentSnapshot: false});
+    record {}[] rows = check from record {} row in streamData select row;
+    test:assertEquals(rows.length(), 1);
+    validateGeneralQueryTableResult(rows[0]);
+    check oracledbClient.close();
+}
+
+@test:Config {
+    groups: ["query", "query-simple-params"]
+}
+isolated function queryParallelOutsideKeyBounds() returns error? {
+    Client oracledbClient = check new(HOST, USER, PASSWORD, DATABASE, PORT);
+    float col_number = -23.4;
+    stream<record {}, sql:Error?> streamData = oracledbClient->queryParallel(
+        `SELECT * from GeneralQueryTable WHERE col_number = ${col_number}`,
+        {partitionColumn: "ID", lowerBound: 100, upperBound: 200, parallelism: 3, consistentSnapshot: false});
+    record {}[] rows = check from record {} row in streamData select row;
+    test:assertEquals(rows.length(), 1, "Rows outside the key bounds should be returned by the outer partitions.");
+
+    streamData = oracledbClient->queryParallel(`SELECT * from GeneralQueryTable`,
+        {partitionColumn: "ID) OR (1 = 1", parallelism: 2, consistentSnapshot: false});
+    record {}[]|error result = from record {} row in streamData select row;
+    test:assertTrue(result is sql:ApplicationError, "Invalid partition column should be rejected.");
+    check oracledbClient.close();
+}
+
+@test:Config {
+    groups: ["query", "query-simple-params"]
+}
+isolated function queryParallelOnRowIdRanges() returns error? {
+    Client oracledbClient = check new(HOST, USER, PASSWORD, DATABASE, PORT);
+    int count = check oracledbClient->queryRow(`SELECT COUNT(*) FROM GeneralQueryTable`);
+    stream<record {}, sql:Error?> streamData = oracledbClient->queryParallel(
+        `SELECT t.ROWID AS rid, t.id FROM GeneralQueryTable t`,
+        {partitionColumn: "rid", tableName: "GENERALQUERYTABLE", parallelism: 2});
+    record {}[] rows = check from record {} row in streamData select row;
+    test:assertEquals(rows.length(), count);
+
+    // A table without extents in the schema of the user is not split into partitions.
+    streamData = oracledbClient->queryParallel(`SELECT t.ROWID AS rid, t.id FROM GeneralQueryTable t`,
+        {partitionColumn: "rid", tableName: "NO_SUCH_TABLE", parallelism: 2});
+    rows = check from record {} row in streamData select row;
+    test:assertEquals(rows.length(), count, "A table without extents should be queried as a single partition.");
+    check oracledbClient.close();
+}
+
+@test:Config {
+    groups: ["query", "query-simple-params"]
+}
+isolated function queryWithInLists() returns error? {
+    Client oracledbClient = check new(HOST, USER, PASSWORD, DATABASE, PORT);
+    NumberList ids = new ([1, 2, 3]);
+    StringList texts = new (["Hello world", "Hello"]);
+    int count = check oracledbClient->queryRow(`SELECT COUNT(*) FROM GeneralQueryTable
+        WHERE id IN (SELECT column_value FROM TABLE(${ids}))
+        AND col_varchar2 IN (SELECT column_value FROM TABLE(${texts}))`);
+    test:assertEquals(count, 1);
+    ids = new ([2, 3]);
+    count = check oracledbClient->queryRow(`SELECT COUNT(*) FROM GeneralQueryTable
+        WHERE id IN (SELECT column_value FROM TABLE(${ids}))`);
+    test:assertEquals(count, 0);
+    check oracledbClient.close();
+}
+
+@test:Config {
+    groups: ["query", "query-simple-params"]
+}
+isolated function exportQueryToCsvAndNdjson() returns error? {
+    Client oracledbClient = check new(HOST, USER, PASSWORD, DATABASE, PORT);
+    float col_number = -23.4;
+    sql:ParameterizedQuery sqlQuery =
+        `SELECT id, col_number, col_varchar2 from GeneralQueryTable WHERE col_number = ${col_number}`;
+    int exportedRows = check oracledbClient->exportQuery(sqlQuery, "./target/general-query.csv");
+    test:assertEquals(exportedRows, 1);
+    test:assertEquals(check io:fileReadLines("./target/general-query.csv"),
+        ["ID,COL_NUMBER,COL_VARCHAR2", "1,-23.4,Hello world"]);
+    exportedRows = check oracledbClient->exportQuery(sqlQuery, "./target/general-query.ndjson", NDJSON);
+    test:assertEquals(exportedRows, 1);
+    test:assertEquals(check io:fileReadLines("./target/general-query.ndjson"),
+        ["{\"ID\":1,\"COL_NUMBER\":-23.4,\"COL_VARCHAR2\":\"Hello world\"}"]);
+    check oracledbClient.close();
+}
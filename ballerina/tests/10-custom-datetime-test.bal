@@ -161,6 +161,73 @@ isolated function selectAllDateTimeDatatypesWithReturnType() returns error? {
     test:assertEquals(intervalDtoSTypeRecord, data["col_interval_day_to_second"], "col_interval_day_to_second Expected and actual mismatch");
 }
 
+type TimestampWithTimezoneReturnTypes record {
+    time:Civil col_timestamptz;
+    time:Utc col_timestamptz_as_utc;
+};
+
+@test:Config {
+    groups: ["datetime"],
+    dependsOn: [insertDateTimeTypesAndIntervalsWithString]
+}
+isolated function selectTimestampWithTimezoneAsCivilAndUtc() returns error? {
+    int id = 1;
+    sql:ParameterizedQuery sqlQuery = `SELECT COL_TIMESTAMPTZ, COL_TIMESTAMPTZ AS COL_TIMESTAMPTZ_AS_UTC
+        FROM TestDateTimeTable WHERE pk = ${id}`;
+    record{}? data = check queryClient(sqlQuery, TimestampWithTimezoneReturnTypes);
+    time:Civil timestampTzTypeRecord = {utcOffset: {hours: 5, minutes: 30}, timeAbbrev: "+05:30", year: 2020,
+                                        month: 1, day: 5, hour: 10, minute: 35, second: 10};
+    time:Utc timestampTzUtc = [1578200710, 0];
+    test:assertEquals(data["col_timestamptz"], timestampTzTypeRecord, "col_timestamptz Expected and actual mismatch");
+    test:assertEquals(data["col_timestamptz_as_utc"], timestampTzUtc,
+        "col_timestamptz_as_utc Expected and actual mismatch");
+}
+
+@test:Config {
+    groups: ["datetime"],
+    dependsOn: [insertDateTimeTypesAndIntervalsWithString]
+}
+isolated function insertDateTimeTypesWithBalTypes() returns error? {
+    Client oracledbClient = check new(HOST, USER, PASSWORD, DATABASE, PORT);
+    time:Date date = {year: 2021, month: 3, day: 4};
+    time:Civil timestamp = {year: 2021, month: 3, day: 4, hour: 8, minute: 9, second: 10.123456};
+    time:Civil timestampTz = {utcOffset: {hours: -5, minutes: -30}, year: 2021, month: 3, day: 4, hour: 23,
+                              minute: 9, second: 10};
+    sql:ExecutionResult result = check oracledbClient->execute(`INSERT INTO TestDateTimeTable(COL_DATE_ONLY,
+        COL_TIMESTAMP, COL_TIMESTAMPTZ) VALUES (${date}, ${timestamp}, ${timestampTz})`);
+    test:assertExactEquals(result.affectedRowCount, 1, "Affected row count is different.");
+    int count = check oracledbClient->queryRow(`SELECT COUNT(*) FROM TestDateTimeTable
+        WHERE COL_DATE_ONLY = DATE '2021-03-04' AND COL_TIMESTAMP = TIMESTAMP '2021-03-04 08:09:10.123456'
+        AND COL_TIMESTAMPTZ = TIMESTAMP '2021-03-05 04:39:10 +00:00'`);
+    test:assertEquals(count, 1, "Inserted date-time values are different.");
+    check oracledbClient.close();
+}
+
+type TimestampWithLocalTimezoneReturnTypes record {
+    time:Civil col_timestampltz;
+    time:Utc col_timestampltz_as_utc;
+};
+
+@test:Config {
+    groups: ["datetime"]
+}
+isolated function selectTimestampWithLocalTimezoneInSessionTimezone() returns error? {
+    Client oracledbClient = check new(HOST, USER, PASSWORD, DATABASE, PORT,
+        {sessionInit: ["ALTER SESSION SET TIME_ZONE = '+05:30'"]});
+    TimestampWithLocalTimezoneReturnTypes data = check oracledbClient->queryRow(
+        `SELECT CAST(TIMESTAMP '2020-01-05 05:05:10 +00:00' AS TIMESTAMP WITH LOCAL TIME ZONE) AS COL_TIMESTAMPLTZ,
+        CAST(TIMESTAMP '2020-01-05 05:05:10 +00:00' AS TIMESTAMP WITH LOCAL TIME ZONE) AS COL_TIMESTAMPLTZ_AS_UTC
+        FROM DUAL`);
+    check oracledbClient.close();
+    time:Civil timestampLtzTypeRecord = {utcOffset: {hours: 5, minutes: 30}, timeAbbrev: "+05:30", year: 2020,
+                                         month: 1, day: 5, hour: 10, minute: 35, second: 10};
+    time:Utc timestampLtzUtc = [1578200710, 0];
+    test:assertEquals(data.col_timestampltz, timestampLtzTypeRecord,
+        "col_timestampltz should be returned in the session time zone");
+    test:assertEquals(data.col_timestampltz_as_utc, timestampLtzUtc,
+        "col_timestampltz_as_utc Expected and actual mismatch");
+}
+
 type DateTimeReturnTypes2 record {
     string col_date;
     string col_date_only;
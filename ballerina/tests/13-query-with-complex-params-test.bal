@@ -116,3 +116,25 @@ isolated function testGetPrimitiveTypesRecord() returns error? {
     }
     check oracledbClient.close();
 }
+
+@test:Config {
+    groups: ["query", "query-complex-params"]
+}
+isolated function testQueryScalar() returns error? {
+    Client oracledbClient = check new(HOST, USER, PASSWORD, DATABASE, PORT);
+    int count = check oracledbClient->queryScalar(`SELECT COUNT(*) FROM ComplexDataTable`);
+    test:assertEquals(count, 1);
+    string stringValue = check oracledbClient->queryScalar(
+        `SELECT string_type FROM ComplexDataTable WHERE row_id = 1`);
+    test:assertEquals(stringValue, "Hello");
+    int|error noRowResult = oracledbClient->queryScalar(`SELECT int_type FROM ComplexDataTable WHERE row_id = -1`);
+    test:assertTrue(noRowResult is sql:NoRowsError, "Expected NoRowsError when no rows are retrieved.");
+    int|error multiRowResult = oracledbClient->queryScalar(
+        `SELECT 1 FROM ComplexDataTable UNION ALL SELECT 2 FROM ComplexDataTable`);
+    if multiRowResult is sql:ApplicationError {
+        test:assertEquals(multiRowResult.message(), "Query retrieved more than one row for a scalar value.");
+    } else {
+        test:assertFail("Expected error when query result contains multiple rows.");
+    }
+    check oracledbClient.close();
+}
@@ -12,3 +12,12 @@ INSERT INTO DataTable (col_number, col_float, col_binary_float, col_binary_doubl
 
 INSERT INTO DataTable (col_number, col_float, col_binary_float, col_binary_double)
         VALUES(2, 922.337, 123.34, 123.34);
+
+CREATE TABLE ImportTextTable (
+        id                  NUMBER,
+        col_text            VARCHAR2(200)
+);
+
+CREATE TABLE ImportSingleColumnTable (
+        col_text            VARCHAR2(200)
+);
@@ -57,3 +57,9 @@ CREATE TABLE LobTypesTable(
         col_blob    BLOB,
         PRIMARY KEY(id)
 );
+
+CREATE TABLE UpsertDateTimeTable(
+        id              NUMBER,
+        col_timestamp   TIMESTAMP(9),
+        PRIMARY KEY(id)
+);
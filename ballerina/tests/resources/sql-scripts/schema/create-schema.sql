@@ -2,3 +2,4 @@ connect sys/Oradoc_db1 as sysdba;
 alter session set "_ORACLE_SCRIPT"=true;
 create user admin identified by password;
 grant connect, resource,dba to admin;
+execute dbms_connection_pool.start_pool();
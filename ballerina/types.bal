@@ -113,6 +113,44 @@ public distinct class NestedTableValue {
     }
 }
 
+# Represents a list of numbers bound as a single collection parameter, which can be used as
+# `WHERE id IN (SELECT column_value FROM TABLE(${list}))`. The SQL string of the query does not depend on the length of
+# the list, hence all executions share the same cursor.
+#
+# + value - Elements of the list
+# + typeName - Name of the collection type of the parameter, which should be a `VARRAY` or a nested table of `NUMBER`
+public distinct class NumberList {
+    *sql:TypedValue;
+    public int?[]|decimal?[]|float?[]? value;
+    public string typeName;
+
+    public isolated function init(int?[]|decimal?[]|float?[]? value = (), string typeName = "SYS.ODCINUMBERLIST") {
+        self.value = value;
+        self.typeName = typeName;
+    }
+}
+
+# Represents a list of strings bound as a single collection parameter, which can be used as
+# `WHERE name IN (SELECT column_value FROM TABLE(${list}))`. The SQL string of the query does not depend on the length
+# of the list, hence all executions share the same cursor.
+#
+# + value - Elements of the list
+# + typeName - Name of the collection type of the parameter, which should be a `VARRAY` or a nested table of
+#              `VARCHAR2`
+public distinct class StringList {
+    *sql:TypedValue;
+    public string?[]? value;
+    public string typeName;
+
+    public isolated function init(string?[]? value = (), string typeName = "SYS.ODCIVARCHAR2LIST") {
+        self.value = value;
+        self.typeName = typeName;
+    }
+}
+
+# Represents a list bound as a single collection parameter for `IN` conditions.
+public type InList NumberList|StringList;
+
 # Represents Xml range OutParameter used in procedure calls
 public distinct class XmlOutParameter {
     *sql:OutParameter;
@@ -166,3 +204,27 @@ public class CustomResultIterator {
         paramTypes: ["io.ballerina.runtime.api.values.BObject", "io.ballerina.runtime.api.values.BObject"]
     } external;
 }
+
+# The iterator of the stream returned by `oracledb:Client->queryParallel`, which merges the rows of all partitions.
+class ParallelResultIterator {
+    public isolated function next() returns record {|record {} value;|}|sql:Error? {
+        record {}|sql:Error? result = nextParallelResult(self);
+        if result is record {} {
+            record {|record {} value;|} streamRecord = {value: result};
+            return streamRecord;
+        }
+        return result;
+    }
+
+    public isolated function close() returns sql:Error? {
+        return closeParallelResult(self);
+    }
+}
+
+isolated function nextParallelResult(ParallelResultIterator iterator) returns record {}|sql:Error? = @java:Method {
+    'class: "io.ballerina.stdlib.oracledb.utils.RecordIteratorUtils"
+} external;
+
+isolated function closeParallelResult(ParallelResultIterator iterator) returns sql:Error? = @java:Method {
+    'class: "io.ballerina.stdlib.oracledb.utils.RecordIteratorUtils"
+} external;
@@ -57,6 +57,167 @@ public final class Constants {
         public static final BString LOGIN_TIMEOUT_SECONDS = StringUtils.fromString("loginTimeout");
         public static final BString CONNECT_TIMEOUT_SECONDS = StringUtils.fromString("connectTimeout");
         public static final BString SOCKET_TIMEOUT_SECONDS = StringUtils.fromString("socketTimeout");
+        public static final BString STATEMENT_CACHE_SIZE = StringUtils.fromString("statementCacheSize");
+        public static final BString COMMIT_MODE = StringUtils.fromString("commitMode");
+        public static final BString SESSION_INIT = StringUtils.fromString("sessionInit");
+        public static final BString BIND_NORMALIZATION = StringUtils.fromString("bindNormalization");
+        public static final BString WARMUP = StringUtils.fromString("warmup");
+        public static final BString WORKLOAD_CLASSES = StringUtils.fromString("workloadClasses");
+        public static final BString CONCURRENCY_LIMIT = StringUtils.fromString("concurrencyLimit");
+        public static final BString ADDRESS_LIST = StringUtils.fromString("addressList");
+        public static final BString CONNECT_DESCRIPTOR = StringUtils.fromString("connectDescriptor");
+        public static final BString READ_REPLICA = StringUtils.fromString("readReplica");
+        public static final BString NETWORK = StringUtils.fromString("network");
+        public static final BString DRCP = StringUtils.fromString("drcp");
+        public static final BString POOL_PROVIDER = StringUtils.fromString("poolProvider");
+        public static final BString UCP = StringUtils.fromString("ucp");
+    }
+
+    /**
+     * Constants for the Universal Connection Pool options of a client.
+     */
+    public static final class Ucp {
+
+        private Ucp() {}
+
+        public static final BString FAST_CONNECTION_FAILOVER = StringUtils.fromString("fastConnectionFailover");
+        public static final BString ONS_CONFIGURATION = StringUtils.fromString("onsConfiguration");
+    }
+
+    /**
+     * Constants for the Database Resident Connection Pooling options of a client.
+     */
+    public static final class Drcp {
+
+        private Drcp() {}
+
+        public static final BString CONNECTION_CLASS = StringUtils.fromString("connectionClass");
+        public static final BString PURITY = StringUtils.fromString("purity");
+    }
+
+    /**
+     * Constants for the network options of a client.
+     */
+    public static final class Network {
+
+        private Network() {}
+
+        public static final BString SESSION_DATA_UNIT = StringUtils.fromString("sessionDataUnit");
+        public static final BString SEND_BUFFER_SIZE = StringUtils.fromString("sendBufferSize");
+        public static final BString RECEIVE_BUFFER_SIZE = StringUtils.fromString("receiveBufferSize");
+        public static final BString TCP_NO_DELAY = StringUtils.fromString("tcpNoDelay");
+        public static final BString COMPRESSION = StringUtils.fromString("compression");
+        public static final BString COMPRESSION_THRESHOLD = StringUtils.fromString("compressionThreshold");
+        public static final int MIN_SESSION_DATA_UNIT = 512;
+        public static final int MAX_SESSION_DATA_UNIT = 2097152;
+    }
+
+    /**
+     * Constants for the read replica of a client.
+     */
+    public static final class ReadReplica {
+
+        private ReadReplica() {}
+
+        public static final BString MAX_LAG = StringUtils.fromString("maxLag");
+        public static final BString LAG_CHECK_INTERVAL = StringUtils.fromString("lagCheckInterval");
+        public static final String PRIMARY_QUERY_OBJECT = "PrimaryQuery";
+    }
+
+    /**
+     * Constants for the list of listener addresses of the database.
+     */
+    public static final class AddressList {
+
+        private AddressList() {}
+
+        public static final BString ADDRESSES = StringUtils.fromString("addresses");
+        public static final BString HOST = StringUtils.fromString("host");
+        public static final BString PORT = StringUtils.fromString("port");
+        public static final BString LOAD_BALANCE = StringUtils.fromString("loadBalance");
+        public static final BString FAILOVER = StringUtils.fromString("failover");
+        public static final BString RETRY_COUNT = StringUtils.fromString("retryCount");
+        public static final BString RETRY_DELAY = StringUtils.fromString("retryDelay");
+    }
+
+    /**
+     * Constants related to the statistics of the connection pool.
+     */
+    public static final class PoolStatistics {
+
+        private PoolStatistics() {}
+
+        public static final String RECORD_NAME = "PoolStatistics";
+        public static final String BUCKET_RECORD_NAME = "AcquireTimeBucket";
+        public static final String ACTIVE_CONNECTIONS = "activeConnections";
+        public static final String IDLE_CONNECTIONS = "idleConnections";
+        public static final String TOTAL_CONNECTIONS = "totalConnections";
+        public static final String PENDING_THREADS = "pendingThreads";
+        public static final String MAX_CONNECTIONS = "maxConnections";
+        public static final String MIN_CONNECTIONS = "minConnections";
+        public static final String ACQUIRE_COUNT = "acquireCount";
+        public static final String AVERAGE_ACQUIRE_TIME = "averageAcquireTime";
+        public static final String ACQUIRE_TIME_HISTOGRAM = "acquireTimeHistogram";
+        public static final String CONNECTION_TIMEOUT_COUNT = "connectionTimeoutCount";
+        public static final String CREATED_CONNECTION_COUNT = "createdConnectionCount";
+        public static final String AVERAGE_CONNECTION_CREATION_TIME = "averageConnectionCreationTime";
+        public static final String MAX_CONNECTION_CREATION_TIME = "maxConnectionCreationTime";
+        public static final String CLOSED_CONNECTION_COUNT = "closedConnectionCount";
+        public static final String UPPER_BOUND = "upperBound";
+        public static final String COUNT = "count";
+    }
+
+    /**
+     * Constants for the connection pool configuration.
+     */
+    public static final class ConnectionPool {
+
+        private ConnectionPool() {}
+
+        public static final BString MAX_OPEN_CONNECTIONS = StringUtils.fromString("maxOpenConnections");
+        public static final BString MIN_IDLE_CONNECTIONS = StringUtils.fromString("minIdleConnections");
+        public static final BString MAX_CONNECTION_LIFE_TIME = StringUtils.fromString("maxConnectionLifeTime");
+    }
+
+    /**
+     * Constants for the workload classes of a client.
+     */
+    public static final class WorkloadClass {
+
+        private WorkloadClass() {}
+
+        public static final BString MAX_SHARE = StringUtils.fromString("maxShare");
+        public static final BString ACQUIRE_TIMEOUT = StringUtils.fromString("acquireTimeout");
+        public static final BString PRIORITY = StringUtils.fromString("priority");
+        public static final BString CLIENT = StringUtils.fromString("dbClient");
+        public static final BString NAME = StringUtils.fromString("workload");
+    }
+
+    /**
+     * Constants for the adaptive concurrency limit of a client.
+     */
+    public static final class ConcurrencyLimit {
+
+        private ConcurrencyLimit() {}
+
+        public static final BString INITIAL_LIMIT = StringUtils.fromString("initialLimit");
+        public static final BString MIN_LIMIT = StringUtils.fromString("minLimit");
+        public static final BString MAX_LIMIT = StringUtils.fromString("maxLimit");
+        public static final BString LATENCY_THRESHOLD = StringUtils.fromString("latencyThreshold");
+        public static final BString BACKOFF_RATIO = StringUtils.fromString("backoffRatio");
+        public static final String ERROR = "ConcurrencyLimitError";
+    }
+
+    /**
+     * Constants for the warm-up of the connection pool.
+     */
+    public static final class Warmup {
+
+        private Warmup() {}
+
+        public static final BString CONNECTIONS = StringUtils.fromString("connections");
+        public static final BString VALIDATION_QUERY = StringUtils.fromString("validationQuery");
+        public static final BString LAZY = StringUtils.fromString("lazy");
     }
 
     /**
@@ -137,6 +298,177 @@ public final class Constants {
 
         public static final BString CONNECT_TIMEOUT = StringUtils.fromString("connectionTimeout");
         public static final BString AUTO_COMMIT = StringUtils.fromString("autoCommit");
+        public static final BString METRICS_TRACKER_FACTORY = StringUtils.fromString("metricsTrackerFactory");
+        public static final BString INITIALIZATION_FAIL_TIMEOUT =
+                StringUtils.fromString("initializationFailTimeout");
+        public static final BString MINIMUM_IDLE = StringUtils.fromString("minimumIdle");
+        public static final BString MAX_LIFETIME = StringUtils.fromString("maxLifetime");
+    }
+
+    /**
+     * Constants related to ParameterizedQuery fields.
+     */
+    public static final class ParameterizedQueryFields {
+
+        private ParameterizedQueryFields() {}
+
+        public static final BString STRINGS = fromString("strings");
+        public static final BString INSERTIONS = fromString("insertions");
+    }
+
+    /**
+     * Constants related to the native data stored in ballerina objects.
+     */
+    public static final class NativeData {
+
+        private NativeData() {}
+
+        public static final String SQL_QUERY = "SQL_QUERY";
+        public static final String BIND_PLAN = "BIND_PLAN";
+        public static final String BIND_NORMALIZATION = "BIND_NORMALIZATION";
+        public static final String WORKLOAD_SCHEDULER = "WORKLOAD_SCHEDULER";
+        public static final String CONCURRENCY_LIMITER = "CONCURRENCY_LIMITER";
+        public static final String READ_ROUTER = "READ_ROUTER";
+        public static final String POOL_PROVIDER_RELEASE = "POOL_PROVIDER_RELEASE";
+    }
+
+    /**
+     * Constants related to PreparedQuery objects.
+     */
+    public static final class PreparedQuery {
+
+        private PreparedQuery() {}
+
+        public static final String TEMPLATE_OBJECT = "PreparedQueryTemplate";
+        public static final BString CLIENT = fromString("dbClient");
+        public static final BString STRINGS = fromString("strings");
+    }
+
+    /**
+     * Constants related to the `sql:ExecutionResult` record.
+     */
+    public static final class ExecutionResult {
+
+        private ExecutionResult() {}
+
+        public static final String RECORD_NAME = "ExecutionResult";
+        public static final String AFFECTED_ROW_COUNT = "affectedRowCount";
+        public static final String LAST_INSERT_ID = "lastInsertId";
+    }
+
+    /**
+     * Constants related to the options and the summary of chunked batch executions.
+     */
+    public static final class BatchExecution {
+
+        private BatchExecution() {}
+
+        public static final BString CHUNK_SIZE = fromString("chunkSize");
+        public static final BString COMMIT_PER_CHUNK = fromString("commitPerChunk");
+        public static final BString PARALLELISM = fromString("parallelism");
+        public static final String SUMMARY_RECORD = "BatchExecutionSummary";
+        public static final String AFFECTED_ROW_COUNT = "affectedRowCount";
+        public static final String FAILED_INDEXES = "failedIndexes";
+    }
+
+    /**
+     * Constants related to the parallel query execution.
+     */
+    public static final class ParallelQuery {
+
+        private ParallelQuery() {}
+
+        public static final BString PARTITION_COLUMN = fromString("partitionColumn");
+        public static final BString TABLE_NAME = fromString("tableName");
+        public static final BString LOWER_BOUND = fromString("lowerBound");
+        public static final BString UPPER_BOUND = fromString("upperBound");
+        public static final BString PARALLELISM = fromString("parallelism");
+        public static final BString CONSISTENT_SNAPSHOT = fromString("consistentSnapshot");
+        public static final String ITERATOR_OBJECT = "ParallelResultIterator";
+        public static final String EXECUTOR = "ParallelQueryExecutor";
+        public static final String ERROR = "ParallelQueryError";
+    }
+
+    /**
+     * Constants related to exporting query results to files.
+     */
+    public static final class Export {
+
+        private Export() {}
+
+        public static final String FORMAT_NDJSON = "NDJSON";
+        public static final BString DELIMITER = fromString("delimiter");
+        public static final BString INCLUDE_HEADER = fromString("includeHeader");
+        public static final BString COMPRESS = fromString("compress");
+        public static final BString BUFFER_SIZE = fromString("bufferSize");
+        public static final BString FETCH_SIZE = fromString("fetchSize");
+        public static final int MIN_BUFFER_SIZE = 1024;
+    }
+
+    /**
+     * Constants related to importing files to tables.
+     */
+    public static final class Import {
+
+        private Import() {}
+
+        public static final BString DELIMITER = fromString("delimiter");
+        public static final BString SKIP_HEADER = fromString("skipHeader");
+        public static final BString BATCH_SIZE = fromString("batchSize");
+        public static final BString PARALLELISM = fromString("parallelism");
+        public static final String COLUMN_NAME_PATTERN = "\"[^\"]+\"|[A-Za-z][A-Za-z0-9_$#]*";
+        public static final String TABLE_NAME_PATTERN =
+                "(" + COLUMN_NAME_PATTERN + ")(\\.(" + COLUMN_NAME_PATTERN + "))?";
+    }
+
+    /**
+     * Constants related to the upsert of rows.
+     */
+    public static final class Upsert {
+
+        private Upsert() {}
+
+        public static final BString CHUNK_SIZE = fromString("chunkSize");
+        public static final String RESULT_RECORD = "UpsertResult";
+        public static final String INSERTED_ROW_COUNT = "insertedRowCount";
+        public static final String UPDATED_ROW_COUNT = "updatedRowCount";
+    }
+
+    /**
+     * Constants related to the result of executions with returned values.
+     */
+    public static final class ReturningExecution {
+
+        private ReturningExecution() {}
+
+        public static final String RECORD_NAME = "ReturningExecutionResult";
+        public static final String AFFECTED_ROW_COUNT = "affectedRowCount";
+        public static final String RETURNED_VALUES = "returnedValues";
+    }
+
+    /**
+     * Constants related to the bind statistics of queries.
+     */
+    public static final class BindStatistics {
+
+        private BindStatistics() {}
+
+        public static final String RECORD_NAME = "BindStatistics";
+        public static final String SQL_QUERY = "sqlQuery";
+        public static final String EXECUTION_COUNT = "executionCount";
+        public static final String BIND_SIGNATURE_COUNT = "bindSignatureCount";
+        public static final String CHILD_CURSOR_RISK = "childCursorRisk";
+    }
+
+    /**
+     * Constants related to the commit modes.
+     */
+    public static final class CommitMode {
+
+        private CommitMode() {}
+
+        public static final String IMMEDIATE_WAIT = "IMMEDIATE_WAIT";
+        public static final String BATCH_NOWAIT = "BATCH_NOWAIT";
     }
 
     /**
@@ -147,6 +479,7 @@ public final class Constants {
         private TypedValueFields() {}
 
         public static final BString VALUE = fromString("value");
+        public static final BString TYPE_NAME = fromString("typeName");
     }
 
     /**
@@ -182,6 +515,8 @@ public final class Constants {
             public static final String OBJECT = "ObjectTypeValue";
             public static final String VARRAY = "VarrayValue";
             public static final String NESTED_TABLE = "NestedTableValue";
+            public static final String NUMBER_LIST = "NumberList";
+            public static final String STRING_LIST = "StringList";
         }
 
         /**
@@ -222,6 +557,26 @@ public final class Constants {
             public static final String SIGN = "sign";
         }
 
+        /**
+         * Constants related to the fields of `time:Date`, `time:Civil` and `time:ZoneOffset` records.
+         */
+        public static final class DateTimeFields {
+
+            private DateTimeFields() {}
+
+            public static final BString YEAR = fromString("year");
+            public static final BString MONTH = fromString("month");
+            public static final BString DAY = fromString("day");
+            public static final BString HOUR = fromString("hour");
+            public static final BString MINUTE = fromString("minute");
+            public static final BString SECOND = fromString("second");
+            public static final BString UTC_OFFSET = fromString("utcOffset");
+            public static final BString TIME_ABBREV = fromString("timeAbbrev");
+            public static final BString HOURS = fromString("hours");
+            public static final BString MINUTES = fromString("minutes");
+            public static final BString SECONDS = fromString("seconds");
+        }
+
         /**
          * Constants related to the attributes of OBJECT Oracle DB type.
          */
@@ -267,4 +622,8 @@ public final class Constants {
     public static final String PROTOCOL_TCPS = "TCPS";
     public static final String ORACLE_DATASOURCE_NAME = "oracle.jdbc.pool.OracleDataSource";
     public static final String CUSTOM_RESULT_ITERATOR_OBJECT = "CustomResultIterator";
+    public static final String CLIENT_CLOSED_ERROR_MESSAGE =
+            "SQL Client is already closed, hence further operations are not allowed";
+    public static final String NO_ROWS_ERROR_MESSAGE = "Query did not retrieve any rows.";
+    public static final int SINGLE_ROW_FETCH_SIZE = 2;
 }
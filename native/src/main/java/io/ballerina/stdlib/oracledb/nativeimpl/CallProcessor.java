@@ -23,6 +23,7 @@ import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.stdlib.oracledb.parameterprocessor.OracleDBResultParameterProcessor;
 import io.ballerina.stdlib.oracledb.parameterprocessor.OracleDBStatementParameterProcessor;
+import io.ballerina.stdlib.oracledb.utils.ConcurrencyLimiter;
 import io.ballerina.stdlib.sql.parameterprocessor.DefaultResultParameterProcessor;
 import io.ballerina.stdlib.sql.parameterprocessor.DefaultStatementParameterProcessor;
 
@@ -44,10 +45,11 @@ public class CallProcessor {
      */
     public static Object nativeCall(Environment env, BObject client, BObject paramSQLString, BArray recordTypes) {
         DefaultStatementParameterProcessor statementParametersProcessor = OracleDBStatementParameterProcessor
-                .getInstance();
+                .getInstance(client);
         DefaultResultParameterProcessor resultParametersProcessor = OracleDBResultParameterProcessor
                 .getInstance();
-        return io.ballerina.stdlib.sql.nativeimpl.CallProcessor.nativeCall(env, client, paramSQLString,
-            recordTypes, statementParametersProcessor, resultParametersProcessor);
+        return ConcurrencyLimiter.executeBulk(client, () -> io.ballerina.stdlib.sql.nativeimpl.CallProcessor
+                .nativeCall(env, client, paramSQLString, recordTypes, statementParametersProcessor,
+                        resultParametersProcessor));
     }
 }
@@ -18,13 +18,37 @@
 
  package io.ballerina.stdlib.oracledb.nativeimpl;
 
+import com.zaxxer.hikari.metrics.PoolStats;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.stdlib.oracledb.Constants;
+import io.ballerina.stdlib.oracledb.parameterprocessor.BindPlan;
+import io.ballerina.stdlib.oracledb.parameterprocessor.ParameterizedQueryCache;
+import io.ballerina.stdlib.oracledb.pool.PoolProvider;
+import io.ballerina.stdlib.oracledb.pool.PoolProviders;
+import io.ballerina.stdlib.oracledb.utils.ConcurrencyLimiter;
+import io.ballerina.stdlib.oracledb.utils.ModuleUtils;
+import io.ballerina.stdlib.oracledb.utils.PoolMetrics;
+import io.ballerina.stdlib.oracledb.utils.PoolWarmer;
+import io.ballerina.stdlib.oracledb.utils.ReadRouter;
 import io.ballerina.stdlib.oracledb.utils.Utils;
+import io.ballerina.stdlib.oracledb.utils.WorkloadScheduler;
 import io.ballerina.stdlib.sql.datasource.SQLDatasource;
+import io.ballerina.stdlib.sql.exception.DataError;
+import io.ballerina.stdlib.sql.utils.ErrorGenerator;
 
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 
 /**
@@ -57,38 +81,236 @@ public class ClientProcessor {
         BMap options = clientConfig.getMapValue(Constants.ClientConfiguration.OPTIONS);
         BMap<BString, Object> datasourceOptions = null;
         Properties poolProperties = null;
-        String protocol = Constants.PROTOCOL_TCP;
+        String url;
+        try {
+            url = Utils.generateUrl(host, port, database, options);
+        } catch (DataError e) {
+            return ErrorGenerator.getSQLApplicationError(e);
+        }
 
+        String dataSourceName = Constants.ORACLE_DATASOURCE_NAME;
+        BMap connectionPool = clientConfig.getMapValue(Constants.ClientConfiguration.CONNECTION_POOL_OPTIONS);
+        BMap effectivePool = connectionPool == null ? globalConnPool : connectionPool;
+        PoolProvider poolProvider = null;
+        Properties connProperties = null;
         if (options != null) {
             datasourceOptions = Utils.generateOptionsMap(options);
             poolProperties = Utils.generatePoolProperties(options);
-            if (options.getMapValue(Constants.Options.SSL) != null) {
-                protocol = Constants.PROTOCOL_TCPS;
+            connProperties = (Properties) datasourceOptions.get(Constants.DatabaseProps.CONN_PROPERTIES);
+            if (connProperties == null) {
+                connProperties = new Properties();
+            }
+            try {
+                poolProvider = PoolProviders.get(options.getStringValue(Constants.Options.POOL_PROVIDER).getValue());
+                dataSourceName = poolProvider.configure(options, connProperties,
+                        Utils.getMaxOpenConnections(effectivePool));
+            } catch (DataError e) {
+                return ErrorGenerator.getSQLApplicationError(e);
+            }
+            if (connProperties.size() > 0) {
+                datasourceOptions.put(Constants.DatabaseProps.CONN_PROPERTIES, connProperties);
+            }
+            if (poolProperties == null) {
+                poolProperties = new Properties();
+            }
+            BMap providerPool = poolProvider.configurePool(effectivePool, poolProperties);
+            if (providerPool != effectivePool) {
+                // The pool changed by the provider is not shared with the other clients.
+                connectionPool = providerPool;
+                effectivePool = providerPool;
             }
         }
-        StringBuilder url = new StringBuilder(Constants.DRIVER);
-        url.append("(DESCRIPTION=(ADDRESS=");
-        url.append("(PROTOCOL=").append(protocol).append(")");
-        url.append("(PORT=").append(port).append(")");
-        url.append("(HOST=").append(host).append(")");
-        url.append(")");
-        url.append("(CONNECT_DATA=(SERVICE_NAME=").append(database).append("))");
-        url.append(")");
-        BMap connectionPool = clientConfig.getMapValue(Constants.ClientConfiguration.CONNECTION_POOL_OPTIONS);
-        String dataSourceName = Constants.ORACLE_DATASOURCE_NAME;
+        if (poolProperties == null) {
+            poolProperties = new Properties();
+        }
+        poolProperties.put(Constants.Pool.METRICS_TRACKER_FACTORY, PoolMetrics.Factory.class.getName());
         SQLDatasource.SQLDatasourceParams sqlDatasourceParams = new SQLDatasource.SQLDatasourceParams()
-                .setUrl(url.toString())
+                .setUrl(url)
                 .setUser(user)
                 .setPassword(password)
                 .setDatasourceName(dataSourceName)
                 .setOptions(datasourceOptions)
                 .setConnectionPool(connectionPool, globalConnPool)
                 .setPoolProperties(poolProperties);
-        return io.ballerina.stdlib.sql.nativeimpl.ClientProcessor.createClient(client, sqlDatasourceParams, true, true);
+        Object result = io.ballerina.stdlib.sql.nativeimpl.ClientProcessor.createClient(client, sqlDatasourceParams,
+                true, true);
+        if (result == null) {
+            PoolMetrics.register(Utils.getSQLDatasource(client));
+        } else {
+            PoolMetrics.discard();
+        }
+        if (poolProvider != null) {
+            PoolProvider provider = poolProvider;
+            Properties properties = connProperties;
+            Runnable releasePool = () -> provider.close(properties);
+            if (result == null) {
+                client.addNativeData(Constants.NativeData.POOL_PROVIDER_RELEASE, releasePool);
+            } else {
+                releasePool.run();
+            }
+        }
+        if (result == null && options != null) {
+            client.addNativeData(Constants.NativeData.BIND_NORMALIZATION,
+                    options.getBooleanValue(Constants.Options.BIND_NORMALIZATION));
+            BMap<BString, Object> workloadClasses = options.getMapValue(Constants.Options.WORKLOAD_CLASSES);
+            if (workloadClasses != null && !workloadClasses.isEmpty()) {
+                try {
+                    client.addNativeData(Constants.NativeData.WORKLOAD_SCHEDULER,
+                            new WorkloadScheduler(workloadClasses, Utils.getMaxOpenConnections(effectivePool)));
+                } catch (DataError e) {
+                    close(client);
+                    return ErrorGenerator.getSQLApplicationError(e);
+                }
+            }
+            BMap concurrencyLimit = options.getMapValue(Constants.Options.CONCURRENCY_LIMIT);
+            if (concurrencyLimit != null) {
+                try {
+                    client.addNativeData(Constants.NativeData.CONCURRENCY_LIMITER,
+                            new ConcurrencyLimiter(concurrencyLimit));
+                } catch (DataError e) {
+                    close(client);
+                    return ErrorGenerator.getSQLApplicationError(e);
+                }
+            }
+            BMap warmup = options.getMapValue(Constants.Options.WARMUP);
+            if (warmup != null) {
+                result = warmUp(client, warmup, effectivePool);
+            }
+        }
+        return result;
+    }
+
+    private static Object warmUp(BObject client, BMap warmup, BMap connectionPool) {
+        int connectionCount = warmup.getIntValue(Constants.Warmup.CONNECTIONS).intValue();
+        if (connectionPool != null) {
+            connectionCount = Math.min(connectionCount, Utils.getMaxOpenConnections(connectionPool));
+        }
+        if (connectionCount <= 0) {
+            return null;
+        }
+        BString validationQueryVal = warmup.getStringValue(Constants.Warmup.VALIDATION_QUERY);
+        String validationQuery = validationQueryVal == null ? null : validationQueryVal.getValue();
+        SQLDatasource sqlDatasource = Utils.getSQLDatasource(client);
+        if (warmup.getBooleanValue(Constants.Warmup.LAZY)) {
+            PoolWarmer.warmUpInBackground(sqlDatasource, connectionCount, validationQuery);
+            return null;
+        }
+        try {
+            PoolWarmer.warmUp(sqlDatasource, connectionCount, validationQuery);
+            return null;
+        } catch (SQLException e) {
+            close(client);
+            return ErrorGenerator.getSQLDatabaseError(e, "Error while warming up the connection pool. ");
+        }
+    }
+
+    /**
+     * Return the bind statistics of the queries cached by the module.
+     * @return array of `BindStatistics` records
+     */
+    public static BArray getBindStatistics() {
+        List<BMap<BString, Object>> statistics = new ArrayList<>();
+        for (ParameterizedQueryCache.Entry entry : ParameterizedQueryCache.getEntries()) {
+            BindPlan bindPlan = entry.getBindPlan();
+            Map<String, Object> fields = new HashMap<>();
+            fields.put(Constants.BindStatistics.SQL_QUERY, StringUtils.fromString(entry.getSqlQuery()));
+            fields.put(Constants.BindStatistics.EXECUTION_COUNT, bindPlan.getExecutionCount());
+            fields.put(Constants.BindStatistics.BIND_SIGNATURE_COUNT, (long) bindPlan.getBindSignatureCount());
+            fields.put(Constants.BindStatistics.CHILD_CURSOR_RISK, bindPlan.getBindSignatureCount() > 1);
+            statistics.add(ValueCreator.createRecordValue(ModuleUtils.getModule(),
+                    Constants.BindStatistics.RECORD_NAME, fields));
+        }
+        BMap<BString, Object> recordValue = ValueCreator.createRecordValue(ModuleUtils.getModule(),
+                Constants.BindStatistics.RECORD_NAME);
+        return ValueCreator.createArrayValue(statistics.toArray(new Object[0]),
+                TypeCreator.createArrayType(recordValue.getType()));
+    }
+
+    /**
+     * Return the statistics of the connection pool of the client.
+     * @param client client object
+     * @return `PoolStatistics` record or error
+     */
+    public static Object getPoolStats(BObject client) {
+        SQLDatasource sqlDatasource = Utils.getSQLDatasource(client);
+        if (sqlDatasource == null) {
+            return ErrorGenerator.getSQLApplicationError(Constants.CLIENT_CLOSED_ERROR_MESSAGE);
+        }
+        PoolMetrics metrics = PoolMetrics.get(sqlDatasource);
+        if (metrics == null) {
+            return ErrorGenerator.getSQLApplicationError("Statistics are not available for the connection pool " +
+                    "of the client.");
+        }
+        PoolStats poolStats = metrics.getPoolStats();
+        long[] bounds = PoolMetrics.getAcquireTimeBounds();
+        long[] counts = metrics.getAcquireTimeCounts();
+        long acquireCount = 0;
+        Object[] buckets = new Object[counts.length];
+        for (int i = 0; i < counts.length; i++) {
+            Map<String, Object> bucketFields = new HashMap<>();
+            bucketFields.put(Constants.PoolStatistics.UPPER_BOUND,
+                    i < bounds.length ? toSeconds(bounds[i], 6) : null);
+            bucketFields.put(Constants.PoolStatistics.COUNT, counts[i]);
+            buckets[i] = ValueCreator.createRecordValue(ModuleUtils.getModule(),
+                    Constants.PoolStatistics.BUCKET_RECORD_NAME, bucketFields);
+            acquireCount += counts[i];
+        }
+        BMap<BString, Object> bucketRecord = ValueCreator.createRecordValue(ModuleUtils.getModule(),
+                Constants.PoolStatistics.BUCKET_RECORD_NAME);
+        long createdConnectionCount = metrics.getCreatedConnectionCount();
+        Map<String, Object> fields = new HashMap<>();
+        fields.put(Constants.PoolStatistics.ACTIVE_CONNECTIONS, (long) poolStats.getActiveConnections());
+        fields.put(Constants.PoolStatistics.IDLE_CONNECTIONS, (long) poolStats.getIdleConnections());
+        fields.put(Constants.PoolStatistics.TOTAL_CONNECTIONS, (long) poolStats.getTotalConnections());
+        fields.put(Constants.PoolStatistics.PENDING_THREADS, (long) poolStats.getPendingThreads());
+        fields.put(Constants.PoolStatistics.MAX_CONNECTIONS, (long) poolStats.getMaxConnections());
+        fields.put(Constants.PoolStatistics.MIN_CONNECTIONS, (long) poolStats.getMinConnections());
+        fields.put(Constants.PoolStatistics.ACQUIRE_COUNT, acquireCount);
+        fields.put(Constants.PoolStatistics.AVERAGE_ACQUIRE_TIME,
+                toSeconds(acquireCount == 0 ? 0 : metrics.getAcquireTimeMicros() / acquireCount, 6));
+        fields.put(Constants.PoolStatistics.ACQUIRE_TIME_HISTOGRAM, ValueCreator.createArrayValue(buckets,
+                TypeCreator.createArrayType(bucketRecord.getType())));
+        fields.put(Constants.PoolStatistics.CONNECTION_TIMEOUT_COUNT, metrics.getConnectionTimeoutCount());
+        fields.put(Constants.PoolStatistics.CREATED_CONNECTION_COUNT, createdConnectionCount);
+        fields.put(Constants.PoolStatistics.AVERAGE_CONNECTION_CREATION_TIME, toSeconds(createdConnectionCount == 0 ?
+                0 : metrics.getConnectionCreationMillis() / createdConnectionCount, 3));
+        fields.put(Constants.PoolStatistics.MAX_CONNECTION_CREATION_TIME,
+                toSeconds(metrics.getMaxConnectionCreationMillis(), 3));
+        // Connections leave the pool only when they are closed, as they are idle, expired or broken.
+        fields.put(Constants.PoolStatistics.CLOSED_CONNECTION_COUNT,
+                Math.max(0, createdConnectionCount - poolStats.getTotalConnections()));
+        return ValueCreator.createRecordValue(ModuleUtils.getModule(), Constants.PoolStatistics.RECORD_NAME, fields);
+    }
+
+    private static BDecimal toSeconds(long value, int scale) {
+        return ValueCreator.createDecimalValue(BigDecimal.valueOf(value, scale));
+    }
+
+    /**
+     * Route the queries of the client to its read replica.
+     * @param client client object
+     * @param replicaClient client of the read replica
+     * @param readReplica read replica options of the client
+     */
+    public static void attachReadReplica(BObject client, BObject replicaClient, BMap<BString, Object> readReplica) {
+        client.addNativeData(Constants.NativeData.READ_ROUTER, new ReadRouter(replicaClient, readReplica));
     }
 
     public static Object close(BObject client) {
-        return io.ballerina.stdlib.sql.nativeimpl.ClientProcessor.close(client);
+        Object result = io.ballerina.stdlib.sql.nativeimpl.ClientProcessor.close(client);
+        Object releasePool = client.getNativeData(Constants.NativeData.POOL_PROVIDER_RELEASE);
+        if (releasePool instanceof Runnable) {
+            client.addNativeData(Constants.NativeData.POOL_PROVIDER_RELEASE, null);
+            ((Runnable) releasePool).run();
+        }
+        Object readRouter = client.getNativeData(Constants.NativeData.READ_ROUTER);
+        if (readRouter instanceof ReadRouter) {
+            Object replicaResult = close(((ReadRouter) readRouter).getReplicaClient());
+            if (result == null) {
+                result = replicaResult;
+            }
+        }
+        return result;
     }
 
 }
@@ -19,10 +19,39 @@
 package io.ballerina.stdlib.oracledb.nativeimpl;
 
 import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.transactions.TransactionResourceManager;
+import io.ballerina.stdlib.oracledb.Constants;
 import io.ballerina.stdlib.oracledb.parameterprocessor.OracleDBStatementParameterProcessor;
+import io.ballerina.stdlib.oracledb.utils.ConcurrencyLimiter;
+import io.ballerina.stdlib.oracledb.utils.ChunkedBatchExecutor;
+import io.ballerina.stdlib.oracledb.utils.FileImporter;
+import io.ballerina.stdlib.oracledb.utils.ModuleUtils;
+import io.ballerina.stdlib.oracledb.utils.ReturningExecutor;
+import io.ballerina.stdlib.oracledb.utils.UpsertExecutor;
+import io.ballerina.stdlib.oracledb.utils.Utils;
+import io.ballerina.stdlib.sql.datasource.SQLDatasource;
+import io.ballerina.stdlib.sql.exception.DataError;
 import io.ballerina.stdlib.sql.parameterprocessor.DefaultStatementParameterProcessor;
+import io.ballerina.stdlib.sql.utils.ErrorGenerator;
+import oracle.jdbc.OracleConnection;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
 
 /**
  * This class contains methods for executing SQL queries.
@@ -31,19 +60,212 @@ import io.ballerina.stdlib.sql.parameterprocessor.DefaultStatementParameterProce
  */
 public class ExecuteProcessor {
 
+    // Statements which are executed without requesting generated keys, as in the `sql` module.
+    private static final String[] DDL_KEYWORDS = {"CREATE", "ALTER", "DROP", "TRUNCATE", "COMMENT", "RENAME"};
+
     private ExecuteProcessor() {}
 
+    /**
+     * Insert the records of a delimited file into a table.
+     * @param client client object
+     * @param path path of the file to be loaded
+     * @param tableName name of the table
+     * @param columns columns of the table in the order of the fields of the records
+     * @param options delimiter, header, batch size and parallelism of the import
+     * @return number of rows inserted or error
+     */
+    public static Object nativeImportFile(Environment env, BObject client, BString path, BString tableName,
+                                          BArray columns, BMap<BString, Object> options) {
+        SQLDatasource sqlDatasource = Utils.getSQLDatasource(client);
+        if (sqlDatasource == null) {
+            return ErrorGenerator.getSQLApplicationError(Constants.CLIENT_CLOSED_ERROR_MESSAGE);
+        }
+        String delimiter = options.getStringValue(Constants.Import.DELIMITER).getValue();
+        int batchSize = options.getIntValue(Constants.Import.BATCH_SIZE).intValue();
+        int parallelism = options.getIntValue(Constants.Import.PARALLELISM).intValue();
+        if (delimiter.length() != 1 || delimiter.charAt(0) > 0x7F || delimiter.charAt(0) == '"'
+                || delimiter.charAt(0) == '\n') {
+            return ErrorGenerator.getSQLApplicationError("Import option 'delimiter' should be a single ASCII " +
+                    "character other than '\"' and line breaks.");
+        }
+        if (batchSize <= 0 || parallelism <= 0) {
+            return ErrorGenerator.getSQLApplicationError("Import options 'batchSize' and 'parallelism' " +
+                    "should be positive integers.");
+        }
+        String[] columnNames = columns.getStringArray();
+        if (columnNames.length == 0) {
+            return ErrorGenerator.getSQLApplicationError("Parameter 'columns' cannot be an empty array.");
+        }
+        if (!tableName.getValue().matches(Constants.Import.TABLE_NAME_PATTERN)) {
+            return ErrorGenerator.getSQLApplicationError(String.format("Invalid table name '%s'.",
+                    tableName.getValue()));
+        }
+        for (String columnName : columnNames) {
+            if (!columnName.matches(Constants.Import.COLUMN_NAME_PATTERN)) {
+                return ErrorGenerator.getSQLApplicationError(String.format("Invalid column name '%s'.",
+                        columnName));
+            }
+        }
+        TransactionResourceManager trxResourceManager = TransactionResourceManager.getInstance();
+        boolean isInTransaction = trxResourceManager.isInTransaction();
+        if (isInTransaction && parallelism > 1) {
+            return ErrorGenerator.getSQLApplicationError("Import option 'parallelism' is not supported within " +
+                    "a transaction.");
+        }
+        FileImporter importer;
+        try {
+            importer = new FileImporter(Paths.get(path.getValue()), tableName.getValue(), columnNames,
+                    delimiter.charAt(0), options.getBooleanValue(Constants.Import.SKIP_HEADER), batchSize);
+        } catch (Throwable th) {
+            return getImportError(th, path, tableName);
+        }
+        if (isInTransaction) {
+            return ConcurrencyLimiter.executeBulk(client, () -> {
+                Connection connection = null;
+                try {
+                    connection = SQLDatasource.getConnection(trxResourceManager, client, sqlDatasource);
+                    importer.executeInTransaction(connection);
+                    return importer.getRowCount();
+                } catch (Throwable th) {
+                    return getImportError(th, path, tableName);
+                } finally {
+                    if (connection != null) {
+                        io.ballerina.stdlib.sql.utils.Utils.closeResources(trxResourceManager, null, null,
+                                connection);
+                    }
+                }
+            });
+        }
+        if (parallelism == 1) {
+            return ConcurrencyLimiter.executeBulk(client, () -> {
+                try {
+                    importer.execute(sqlDatasource);
+                    return importer.getRowCount();
+                } catch (Throwable th) {
+                    return getImportError(th, path, tableName);
+                }
+            });
+        }
+        // The segments are inserted on worker threads, hence the strand is suspended rather than blocked meanwhile.
+        return ConcurrencyLimiter.executeBulkAsync(env, client, () -> importer
+                .executeAsync(sqlDatasource, parallelism)
+                .handle((ignored, error) -> error == null ? importer.getRowCount() :
+                        getImportError(error instanceof CompletionException ? error.getCause() : error, path,
+                                tableName)));
+    }
+
+    private static Object getImportError(Throwable error, BString path, BString tableName) {
+        if (error instanceof SQLException) {
+            return ErrorGenerator.getSQLDatabaseError((SQLException) error,
+                    String.format("Error while importing '%s' into '%s'. ", path.getValue(), tableName.getValue()));
+        } else if (error instanceof IOException) {
+            return ErrorGenerator.getSQLApplicationError(String.format("Error while reading '%s': %s",
+                    path.getValue(), error.getMessage()));
+        } else if (error instanceof DataError) {
+            return ErrorGenerator.getSQLApplicationError((DataError) error);
+        }
+        return ErrorGenerator.getSQLError(error,
+                String.format("Error while importing '%s' into '%s'. ", path.getValue(), tableName.getValue()));
+    }
+
     /**
      * Execute an SQL statement.
      * @param client client object
      * @param paramSQLString array of SQL string for the execute statement
+     * @param commitMode commit mode overriding the commit mode of the client, or null
      * @return execution result or error
      */
-    public static Object nativeExecute(Environment env, BObject client, BObject paramSQLString) {
-        DefaultStatementParameterProcessor statementParametersProcessor = OracleDBStatementParameterProcessor
-                .getInstance();
-        return io.ballerina.stdlib.sql.nativeimpl.ExecuteProcessor.nativeExecute(env, client, paramSQLString,
-                statementParametersProcessor);
+    public static Object nativeExecute(Environment env, BObject client, BObject paramSQLString, Object commitMode) {
+        return executeUpdate(client, null, paramSQLString,
+                commitMode == null ? null : ((BString) commitMode).getValue());
+    }
+
+    /**
+     * Execute a DML statement, or a batch of identical DML statements, and return the values of the given columns of
+     * the affected rows.
+     * @param client client object
+     * @param sqlQuery parameterized query or array of parameterized queries of the statement
+     * @param returning types of the returned values keyed by the column names
+     * @return execution result with the returned values or error
+     */
+    public static Object nativeExecuteReturning(Environment env, BObject client, Object sqlQuery,
+                                                BMap<BString, Object> returning) {
+        return ConcurrencyLimiter.execute(client, () -> executeReturning(client, sqlQuery, returning));
+    }
+
+    private static Object executeReturning(BObject client, Object sqlQuery, BMap<BString, Object> returning) {
+        SQLDatasource sqlDatasource = Utils.getSQLDatasource(client);
+        if (sqlDatasource == null) {
+            return ErrorGenerator.getSQLApplicationError(Constants.CLIENT_CLOSED_ERROR_MESSAGE);
+        }
+        BObject[] paramSQLStrings;
+        if (sqlQuery instanceof BArray) {
+            BArray paramSQLStringArray = (BArray) sqlQuery;
+            paramSQLStrings = new BObject[paramSQLStringArray.size()];
+            for (int i = 0; i < paramSQLStrings.length; i++) {
+                paramSQLStrings[i] = (BObject) paramSQLStringArray.get(i);
+            }
+        } else {
+            paramSQLStrings = new BObject[]{(BObject) sqlQuery};
+        }
+        if (paramSQLStrings.length == 0 || returning.isEmpty()) {
+            return ErrorGenerator.getSQLApplicationError("Parameters 'sqlQuery' and 'returning' cannot be empty.");
+        }
+        TransactionResourceManager trxResourceManager = TransactionResourceManager.getInstance();
+        OracleDBStatementParameterProcessor statementParameterProcessor =
+                OracleDBStatementParameterProcessor.getInstance(client);
+        boolean isExplicitCommit = false;
+        Connection connection = null;
+        String generatedSqlQuery = null;
+        try {
+            generatedSqlQuery = statementParameterProcessor.getSqlQuery(paramSQLStrings[0]);
+            for (int i = 1; i < paramSQLStrings.length; i++) {
+                if (!generatedSqlQuery.equals(statementParameterProcessor.getSqlQuery(paramSQLStrings[i]))) {
+                    return ErrorGenerator.getSQLApplicationError("Batch Update queries must be identical.");
+                }
+            }
+            ReturningExecutor executor = new ReturningExecutor(generatedSqlQuery, returning);
+            generatedSqlQuery = executor.getSqlQuery();
+            connection = SQLDatasource.getConnection(trxResourceManager, client, sqlDatasource);
+            if (paramSQLStrings.length > 1 && connection.getAutoCommit()) {
+                // The rows of a batch are committed together, as they are with a batch execution.
+                connection.setAutoCommit(false);
+                isExplicitCommit = true;
+            }
+            executor.execute(connection, statementParameterProcessor, paramSQLStrings);
+            if (isExplicitCommit) {
+                connection.commit();
+            }
+            BMap<BString, Object> result = ValueCreator.createRecordValue(ModuleUtils.getModule(),
+                    Constants.ReturningExecution.RECORD_NAME);
+            result.put(StringUtils.fromString(Constants.ReturningExecution.AFFECTED_ROW_COUNT),
+                    executor.getAffectedRowCount());
+            result.put(StringUtils.fromString(Constants.ReturningExecution.RETURNED_VALUES),
+                    executor.getReturnedValues(result));
+            return result;
+        } catch (SQLException e) {
+            rollbackExplicitCommit(connection, isExplicitCommit);
+            return ErrorGenerator.getSQLDatabaseError(e,
+                    String.format("Error while executing SQL query: %s. ", generatedSqlQuery));
+        } catch (DataError e) {
+            rollbackExplicitCommit(connection, isExplicitCommit);
+            return ErrorGenerator.getSQLApplicationError(e);
+        } catch (Throwable th) {
+            rollbackExplicitCommit(connection, isExplicitCommit);
+            return ErrorGenerator.getSQLError(th,
+                    String.format("Error while executing SQL query: %s. ", generatedSqlQuery));
+        } finally {
+            if (isExplicitCommit) {
+                try {
+                    connection.setAutoCommit(true);
+                } catch (SQLException e) {
+                    // The connection is closed below and is validated by the pool before it is reused.
+                }
+            }
+            if (connection != null) {
+                io.ballerina.stdlib.sql.utils.Utils.closeResources(trxResourceManager, null, null, connection);
+            }
+        }
     }
 
     /**
@@ -54,8 +276,266 @@ public class ExecuteProcessor {
      */
     public static Object nativeBatchExecute(Environment env, BObject client, BArray paramSQLStrings) {
         DefaultStatementParameterProcessor statementParametersProcessor = OracleDBStatementParameterProcessor
-                .getInstance();
-        return io.ballerina.stdlib.sql.nativeimpl.ExecuteProcessor.nativeBatchExecute(env, client, paramSQLStrings,
-                statementParametersProcessor);
+                .getInstance(client);
+        return ConcurrencyLimiter.execute(client, () -> io.ballerina.stdlib.sql.nativeimpl.ExecuteProcessor
+                .nativeBatchExecute(env, client, paramSQLStrings, statementParametersProcessor));
+    }
+
+    /**
+     * Execute a batch of SQL statements in chunks and return a summary of the execution.
+     * @param client client object
+     * @param paramSQLStrings array of SQL string for the execute statement
+     * @param options chunk size, commit policy and parallelism of the execution
+     * @return summary of the execution or error
+     */
+    public static Object nativeChunkedBatchExecute(Environment env, BObject client, BArray paramSQLStrings,
+                                                   BMap<BString, Object> options) {
+        SQLDatasource sqlDatasource = Utils.getSQLDatasource(client);
+        if (sqlDatasource == null) {
+            return ErrorGenerator.getSQLApplicationError(Constants.CLIENT_CLOSED_ERROR_MESSAGE);
+        }
+        int chunkSize = options.getIntValue(Constants.BatchExecution.CHUNK_SIZE).intValue();
+        int parallelism = options.getIntValue(Constants.BatchExecution.PARALLELISM).intValue();
+        boolean commitPerChunk = options.getBooleanValue(Constants.BatchExecution.COMMIT_PER_CHUNK);
+        if (chunkSize <= 0 || parallelism <= 0) {
+            return ErrorGenerator.getSQLApplicationError("Batch options 'chunkSize' and 'parallelism' " +
+                    "should be positive integers.");
+        }
+        TransactionResourceManager trxResourceManager = TransactionResourceManager.getInstance();
+        boolean isInTransaction = trxResourceManager.isInTransaction();
+        if (isInTransaction && (parallelism > 1 || commitPerChunk)) {
+            return ErrorGenerator.getSQLApplicationError("Batch options 'parallelism' and 'commitPerChunk' " +
+                    "are not supported within a transaction.");
+        }
+        OracleDBStatementParameterProcessor statementParameterProcessor =
+                OracleDBStatementParameterProcessor.getInstance(client);
+        String sqlQuery = null;
+        ChunkedBatchExecutor batchExecutor;
+        try {
+            sqlQuery = statementParameterProcessor.getSqlQuery((BObject) paramSQLStrings.get(0));
+            for (int i = 1; i < paramSQLStrings.size(); i++) {
+                if (!sqlQuery.equals(statementParameterProcessor.getSqlQuery((BObject) paramSQLStrings.get(i)))) {
+                    return ErrorGenerator.getSQLApplicationError("Batch Update queries must be identical.");
+                }
+            }
+            batchExecutor = new ChunkedBatchExecutor(statementParameterProcessor, sqlQuery, paramSQLStrings,
+                    chunkSize, commitPerChunk);
+        } catch (Throwable th) {
+            return getChunkedBatchError(th, sqlQuery);
+        }
+        String batchSqlQuery = sqlQuery;
+        if (isInTransaction) {
+            return ConcurrencyLimiter.executeBulk(client, () -> {
+                Connection connection = null;
+                try {
+                    connection = SQLDatasource.getConnection(trxResourceManager, client, sqlDatasource);
+                    batchExecutor.executeInTransaction(connection);
+                    return createBatchExecutionSummary(batchExecutor);
+                } catch (Throwable th) {
+                    return getChunkedBatchError(th, batchSqlQuery);
+                } finally {
+                    if (connection != null) {
+                        io.ballerina.stdlib.sql.utils.Utils.closeResources(trxResourceManager, null, null,
+                                connection);
+                    }
+                }
+            });
+        }
+        if (batchExecutor.getWorkerCount(parallelism) == 1) {
+            return ConcurrencyLimiter.executeBulk(client, () -> {
+                try {
+                    batchExecutor.execute(sqlDatasource);
+                    return createBatchExecutionSummary(batchExecutor);
+                } catch (Throwable th) {
+                    return getChunkedBatchError(th, batchSqlQuery);
+                }
+            });
+        }
+        // The chunks are executed on worker threads, hence the strand is suspended rather than blocked meanwhile.
+        return ConcurrencyLimiter.executeBulkAsync(env, client, () -> batchExecutor
+                .executeAsync(sqlDatasource, parallelism)
+                .handle((ignored, error) -> error == null ? createBatchExecutionSummary(batchExecutor) :
+                        getChunkedBatchError(error instanceof CompletionException ? error.getCause() : error,
+                                batchSqlQuery)));
+    }
+
+    private static Object createBatchExecutionSummary(ChunkedBatchExecutor batchExecutor) {
+        Map<String, Object> summaryFields = new HashMap<>();
+        summaryFields.put(Constants.BatchExecution.AFFECTED_ROW_COUNT, batchExecutor.getAffectedRowCount());
+        summaryFields.put(Constants.BatchExecution.FAILED_INDEXES,
+                ValueCreator.createArrayValue(batchExecutor.getFailedIndexes()));
+        return ValueCreator.createRecordValue(ModuleUtils.getModule(), Constants.BatchExecution.SUMMARY_RECORD,
+                summaryFields);
+    }
+
+    private static Object getChunkedBatchError(Throwable error, String sqlQuery) {
+        if (error instanceof SQLException) {
+            return ErrorGenerator.getSQLDatabaseError((SQLException) error,
+                    String.format("Error while executing batch command starting with: '%s'. ", sqlQuery));
+        } else if (error instanceof DataError) {
+            return ErrorGenerator.getSQLApplicationError((DataError) error);
+        }
+        return ErrorGenerator.getSQLError(error,
+                String.format("Error while executing batch command starting with: '%s'. ", sqlQuery));
+    }
+
+    /**
+     * Insert or update the given rows of a table with a `MERGE` statement executed in chunks.
+     * @param client client object
+     * @param tableName name of the table
+     * @param keyColumns columns which identify a row of the table
+     * @param rows rows to be inserted or updated
+     * @param options chunk size of the execution
+     * @return numbers of inserted and updated rows or error
+     */
+    public static Object nativeUpsert(Environment env, BObject client, BString tableName, BArray keyColumns,
+                                      BArray rows, BMap<BString, Object> options) {
+        return ConcurrencyLimiter.executeBulk(client, () -> upsert(client, tableName, keyColumns, rows, options));
+    }
+
+    private static Object upsert(BObject client, BString tableName, BArray keyColumns, BArray rows,
+                                 BMap<BString, Object> options) {
+        SQLDatasource sqlDatasource = Utils.getSQLDatasource(client);
+        if (sqlDatasource == null) {
+            return ErrorGenerator.getSQLApplicationError(Constants.CLIENT_CLOSED_ERROR_MESSAGE);
+        }
+        int chunkSize = options.getIntValue(Constants.Upsert.CHUNK_SIZE).intValue();
+        if (chunkSize <= 0) {
+            return ErrorGenerator.getSQLApplicationError("Upsert option 'chunkSize' should be a positive integer.");
+        }
+        if (keyColumns.size() == 0 || rows.size() == 0) {
+            return ErrorGenerator.getSQLApplicationError("Parameters 'keyColumns' and 'rows' cannot be empty.");
+        }
+        TransactionResourceManager trxResourceManager = TransactionResourceManager.getInstance();
+        Connection connection = null;
+        String sqlQuery = null;
+        try {
+            UpsertExecutor executor = new UpsertExecutor(tableName.getValue(), keyColumns.getStringArray(), rows,
+                    chunkSize, Boolean.TRUE.equals(client.getNativeData(Constants.NativeData.BIND_NORMALIZATION)));
+            sqlQuery = executor.getSqlQuery();
+            boolean isInTransaction = trxResourceManager.isInTransaction();
+            connection = SQLDatasource.getConnection(trxResourceManager, client, sqlDatasource);
+            executor.execute(connection, !isInTransaction);
+            Map<String, Object> resultFields = new HashMap<>();
+            resultFields.put(Constants.Upsert.INSERTED_ROW_COUNT, executor.getInsertedRowCount());
+            resultFields.put(Constants.Upsert.UPDATED_ROW_COUNT, executor.getUpdatedRowCount());
+            return ValueCreator.createRecordValue(ModuleUtils.getModule(), Constants.Upsert.RESULT_RECORD,
+                    resultFields);
+        } catch (SQLException e) {
+            return ErrorGenerator.getSQLDatabaseError(e,
+                    String.format("Error while executing SQL query: %s. ", sqlQuery));
+        } catch (DataError e) {
+            return ErrorGenerator.getSQLApplicationError(e);
+        } catch (Throwable th) {
+            return ErrorGenerator.getSQLError(th, String.format("Error while executing SQL query: %s. ", sqlQuery));
+        } finally {
+            if (connection != null) {
+                io.ballerina.stdlib.sql.utils.Utils.closeResources(trxResourceManager, null, null, connection);
+            }
+        }
+    }
+
+    /**
+     * Execute an SQL statement.
+     * @param client client object
+     * @param generatedSqlQuery generated SQL string, or null if it should be generated from the parameterized query
+     * @param paramSQLString parameterized query which holds the parameter values
+     * @param commitMode commit mode used to commit the statement if the connection is in autocommit mode, or null to
+     *                   use the commit mode of the client
+     * @return execution result or error
+     */
+    static Object executeUpdate(BObject client, String generatedSqlQuery, BObject paramSQLString,
+                                String commitMode) {
+        return ConcurrencyLimiter.execute(client, () -> executeUpdateStatement(client, generatedSqlQuery,
+                paramSQLString, commitMode));
+    }
+
+    private static Object executeUpdateStatement(BObject client, String generatedSqlQuery, BObject paramSQLString,
+                                                 String commitMode) {
+        SQLDatasource sqlDatasource = Utils.getSQLDatasource(client);
+        if (sqlDatasource == null) {
+            return ErrorGenerator.getSQLApplicationError(Constants.CLIENT_CLOSED_ERROR_MESSAGE);
+        }
+        TransactionResourceManager trxResourceManager = TransactionResourceManager.getInstance();
+        if (commitMode != null && trxResourceManager.isInTransaction()) {
+            return ErrorGenerator.getSQLApplicationError("Commit mode cannot be overridden within a transaction. " +
+                    "The transaction is committed with the commit mode of the client.");
+        }
+        boolean isExplicitCommit = false;
+        Connection connection = null;
+        PreparedStatement statement = null;
+        ResultSet resultSet = null;
+        String sqlQuery = generatedSqlQuery;
+        try {
+            if (sqlQuery == null) {
+                sqlQuery = OracleDBStatementParameterProcessor.getInstance().getSqlQuery(paramSQLString);
+            }
+            connection = SQLDatasource.getConnection(trxResourceManager, client, sqlDatasource);
+            // Generated keys are requested for all but DDL statements, as in `sql:Client.execute`.
+            boolean returnsGeneratedKeys = !isDdlStatement(sqlQuery);
+            statement = returnsGeneratedKeys ?
+                    connection.prepareStatement(sqlQuery, Statement.RETURN_GENERATED_KEYS) :
+                    connection.prepareStatement(sqlQuery);
+            OracleDBStatementParameterProcessor.getInstance(client).setParams(connection, statement, paramSQLString);
+            if (commitMode != null && connection.getAutoCommit()) {
+                // The statement is committed explicitly so that the commit options apply to this commit only.
+                connection.setAutoCommit(false);
+                isExplicitCommit = true;
+            }
+            int count = statement.executeUpdate();
+            if (isExplicitCommit) {
+                connection.unwrap(OracleConnection.class).commit(Utils.getCommitOptions(commitMode));
+            }
+            Object lastInsertedId = null;
+            if (returnsGeneratedKeys) {
+                resultSet = statement.getGeneratedKeys();
+                if (resultSet.next()) {
+                    lastInsertedId = StringUtils.fromString(resultSet.getString(1));
+                }
+            }
+            Map<String, Object> resultFields = new HashMap<>();
+            resultFields.put(Constants.ExecutionResult.AFFECTED_ROW_COUNT, count);
+            resultFields.put(Constants.ExecutionResult.LAST_INSERT_ID, lastInsertedId);
+            return ValueCreator.createRecordValue(io.ballerina.stdlib.sql.utils.ModuleUtils.getModule(),
+                    Constants.ExecutionResult.RECORD_NAME, resultFields);
+        } catch (SQLException e) {
+            rollbackExplicitCommit(connection, isExplicitCommit);
+            return ErrorGenerator.getSQLDatabaseError(e,
+                    String.format("Error while executing SQL query: %s. ", sqlQuery));
+        } catch (DataError e) {
+            return ErrorGenerator.getSQLApplicationError(e);
+        } catch (Throwable th) {
+            rollbackExplicitCommit(connection, isExplicitCommit);
+            return ErrorGenerator.getSQLError(th, String.format("Error while executing SQL query: %s. ", sqlQuery));
+        } finally {
+            if (isExplicitCommit) {
+                try {
+                    connection.setAutoCommit(true);
+                } catch (SQLException e) {
+                    // The connection is closed below and is validated by the pool before it is reused.
+                }
+            }
+            io.ballerina.stdlib.sql.utils.Utils.closeResources(trxResourceManager, resultSet, statement, connection);
+        }
+    }
+
+    private static void rollbackExplicitCommit(Connection connection, boolean isExplicitCommit) {
+        if (isExplicitCommit) {
+            try {
+                connection.rollback();
+            } catch (SQLException e) {
+                // The original error is reported.
+            }
+        }
+    }
+
+    private static boolean isDdlStatement(String sqlQuery) {
+        String upperCaseQuery = sqlQuery.trim().toUpperCase(Locale.ENGLISH);
+        for (String keyword : DDL_KEYWORDS) {
+            if (upperCaseQuery.startsWith(keyword)) {
+                return true;
+            }
+        }
+        return false;
     }
 }
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.oracledb.nativeimpl;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BStream;
+import io.ballerina.runtime.api.values.BTypedesc;
+import io.ballerina.stdlib.oracledb.Constants;
+import io.ballerina.stdlib.oracledb.parameterprocessor.BindPlan;
+import io.ballerina.stdlib.oracledb.parameterprocessor.OracleDBResultParameterProcessor;
+import io.ballerina.stdlib.oracledb.parameterprocessor.OracleDBStatementParameterProcessor;
+import io.ballerina.stdlib.oracledb.utils.ModuleUtils;
+import io.ballerina.stdlib.sql.utils.ErrorGenerator;
+
+/**
+ * This class provides the methods for executing prepared queries with the SQL string and the bind plan generated
+ * once when the query is prepared.
+ *
+ * @since 1.0.2
+ */
+public class PreparedQueryProcessor {
+
+    private PreparedQueryProcessor() {}
+
+    /**
+     * Generate the SQL string and the bind plan of the prepared query.
+     * @param preparedQuery prepared query object
+     * @param paramSQLString parameterized query to be prepared
+     * @return error if the SQL string cannot be generated
+     */
+    public static Object initPreparedQuery(BObject preparedQuery, BObject paramSQLString) {
+        try {
+            OracleDBStatementParameterProcessor statementParameterProcessor =
+                    OracleDBStatementParameterProcessor.getInstance();
+            preparedQuery.addNativeData(Constants.NativeData.SQL_QUERY,
+                    statementParameterProcessor.getSqlQuery(paramSQLString));
+            preparedQuery.addNativeData(Constants.NativeData.BIND_PLAN,
+                    statementParameterProcessor.getBindPlan(paramSQLString));
+            return null;
+        } catch (Throwable th) {
+            return ErrorGenerator.getSQLError(th, "Error while preparing the SQL query. ");
+        }
+    }
+
+    /**
+     * Execute the prepared query with the given parameters and return results.
+     * @param preparedQuery prepared query object
+     * @param params parameter values of the query
+     * @param recordType type description of the result record
+     * @return result stream or error
+     */
+    public static BStream nativeQuery(Environment env, BObject preparedQuery, BArray params, BTypedesc recordType) {
+        BError error = validateParameterCount(preparedQuery, params);
+        if (error != null) {
+            return QueryProcessor.getErrorStream(recordType, error);
+        }
+        BObject client = preparedQuery.getObjectValue(Constants.PreparedQuery.CLIENT);
+        return QueryProcessor.executeStream(client, recordType, () -> io.ballerina.stdlib.sql.nativeimpl
+                .QueryProcessor.nativeQuery(env, client, createTemplate(preparedQuery, params), recordType,
+                        OracleDBStatementParameterProcessor.getInstance(client),
+                        OracleDBResultParameterProcessor.getInstance()));
+    }
+
+    /**
+     * Execute the prepared query with the given parameters and return the first row of the result.
+     * @param preparedQuery prepared query object
+     * @param params parameter values of the query
+     * @param returnType type description of the returned record or value
+     * @return first row of the result or error
+     */
+    public static Object nativeQueryRow(Environment env, BObject preparedQuery, BArray params,
+                                        BTypedesc returnType) {
+        BError error = validateParameterCount(preparedQuery, params);
+        if (error != null) {
+            return error;
+        }
+        BObject client = preparedQuery.getObjectValue(Constants.PreparedQuery.CLIENT);
+        return QueryProcessor.querySingleRow(client, getSqlQuery(preparedQuery), createTemplate(preparedQuery, params),
+                returnType, false);
+    }
+
+    /**
+     * Execute the prepared DDL or DML statement with the given parameters.
+     * @param preparedQuery prepared query object
+     * @param params parameter values of the statement
+     * @return execution result or error
+     */
+    public static Object nativeExecute(Environment env, BObject preparedQuery, BArray params) {
+        BError error = validateParameterCount(preparedQuery, params);
+        if (error != null) {
+            return error;
+        }
+        BObject client = preparedQuery.getObjectValue(Constants.PreparedQuery.CLIENT);
+        return ExecuteProcessor.executeUpdate(client, getSqlQuery(preparedQuery),
+                createTemplate(preparedQuery, params), null);
+    }
+
+    private static BError validateParameterCount(BObject preparedQuery, BArray params) {
+        BindPlan bindPlan = (BindPlan) preparedQuery.getNativeData(Constants.NativeData.BIND_PLAN);
+        if (bindPlan.getParameterCount() != params.size()) {
+            return ErrorGenerator.getSQLApplicationError(String.format(
+                    "Prepared query expects %d parameter(s) but %d parameter(s) are provided.",
+                    bindPlan.getParameterCount(), params.size()));
+        }
+        return null;
+    }
+
+    private static String getSqlQuery(BObject preparedQuery) {
+        return (String) preparedQuery.getNativeData(Constants.NativeData.SQL_QUERY);
+    }
+
+    private static BObject createTemplate(BObject preparedQuery, BArray params) {
+        BObject template = ValueCreator.createObjectValue(ModuleUtils.getModule(),
+                Constants.PreparedQuery.TEMPLATE_OBJECT,
+                preparedQuery.getArrayValue(Constants.PreparedQuery.STRINGS), params);
+        template.addNativeData(Constants.NativeData.BIND_PLAN,
+                preparedQuery.getNativeData(Constants.NativeData.BIND_PLAN));
+        return template;
+    }
+}
@@ -19,13 +19,45 @@
 package io.ballerina.stdlib.oracledb.nativeimpl;
 
 import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.StructureType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BStream;
+import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BTypedesc;
+import io.ballerina.runtime.transactions.TransactionResourceManager;
+import io.ballerina.stdlib.oracledb.Constants;
 import io.ballerina.stdlib.oracledb.parameterprocessor.OracleDBResultParameterProcessor;
 import io.ballerina.stdlib.oracledb.parameterprocessor.OracleDBStatementParameterProcessor;
+import io.ballerina.stdlib.oracledb.utils.ConcurrencyLimiter;
+import io.ballerina.stdlib.oracledb.utils.ModuleUtils;
+import io.ballerina.stdlib.oracledb.utils.ParallelQueryExecutor;
+import io.ballerina.stdlib.oracledb.utils.ReadRouter;
+import io.ballerina.stdlib.oracledb.utils.ResultExporter;
+import io.ballerina.stdlib.oracledb.utils.Utils;
+import io.ballerina.stdlib.sql.datasource.SQLDatasource;
+import io.ballerina.stdlib.sql.exception.DataError;
+import io.ballerina.stdlib.sql.exception.TypeMismatchError;
 import io.ballerina.stdlib.sql.parameterprocessor.DefaultResultParameterProcessor;
 import io.ballerina.stdlib.sql.parameterprocessor.DefaultStatementParameterProcessor;
+import io.ballerina.stdlib.sql.utils.ColumnDefinition;
+import io.ballerina.stdlib.sql.utils.ErrorGenerator;
+import io.ballerina.stdlib.sql.utils.PrimitiveTypeColumnDefinition;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * This class provides the methods for query processing which executes sql queries.
@@ -44,20 +76,302 @@ public class QueryProcessor {
      */
     public static BStream nativeQuery(Environment env, BObject client, BObject paramSQLString,
                                       BTypedesc recordType) {
+        BObject targetClient = ReadRouter.route(client, paramSQLString);
         DefaultStatementParameterProcessor statementParametersProcessor = OracleDBStatementParameterProcessor
-                .getInstance();
+                .getInstance(targetClient);
         DefaultResultParameterProcessor resultParametersProcessor = OracleDBResultParameterProcessor
                 .getInstance();
-        return io.ballerina.stdlib.sql.nativeimpl.QueryProcessor.nativeQuery(env, client, paramSQLString, recordType,
-                statementParametersProcessor, resultParametersProcessor);
+        return executeStream(targetClient, recordType, () -> io.ballerina.stdlib.sql.nativeimpl.QueryProcessor
+                .nativeQuery(env, targetClient, paramSQLString, recordType, statementParametersProcessor,
+                        resultParametersProcessor));
     }
 
-    public static Object nativeQueryRow(Environment env, BObject client, BObject paramSQLString, BTypedesc recordType) {
-        DefaultStatementParameterProcessor statementParametersProcessor = OracleDBStatementParameterProcessor
-                .getInstance();
-        DefaultResultParameterProcessor resultParametersProcessor = DefaultResultParameterProcessor
-                .getInstance();
-        return io.ballerina.stdlib.sql.nativeimpl.QueryProcessor.nativeQueryRow(env, client, paramSQLString, recordType,
-                statementParametersProcessor, resultParametersProcessor);
+    /**
+     * Execute the query of a result stream within the concurrency limit of the client. The query takes a slot of the
+     * limit while it is executed, and the rows fetched afterwards while the stream is consumed are not limited.
+     * @param client client object
+     * @param recordType type description of the result record
+     * @param query query which returns the result stream
+     * @return result stream, or a stream of the concurrency limit error if the limit is reached
+     */
+    static BStream executeStream(BObject client, BTypedesc recordType, Supplier<BStream> query) {
+        Object result = ConcurrencyLimiter.execute(client, query::get);
+        return result instanceof BError ? getErrorStream(recordType, (BError) result) : (BStream) result;
+    }
+
+    /**
+     * Query the database as several partitions executed concurrently and return the merged results.
+     * @param client client object
+     * @param paramSQLString SQL string of the query
+     * @param options partitioning of the query
+     * @param recordType type description of the result record
+     * @return result stream
+     */
+    public static BStream nativeQueryParallel(Environment env, BObject client, BObject paramSQLString,
+                                              BMap<BString, Object> options, BTypedesc recordType) {
+        BObject iterator = ValueCreator.createObjectValue(ModuleUtils.getModule(),
+                Constants.ParallelQuery.ITERATOR_OBJECT);
+        BStream stream = ValueCreator.createStreamValue(TypeCreator.createStreamType(recordType.getDescribingType(),
+                PredefinedTypes.TYPE_NULL), iterator);
+        SQLDatasource sqlDatasource = Utils.getSQLDatasource(ReadRouter.route(client, paramSQLString));
+        if (sqlDatasource == null) {
+            iterator.addNativeData(Constants.ParallelQuery.ERROR,
+                    ErrorGenerator.getSQLApplicationError(Constants.CLIENT_CLOSED_ERROR_MESSAGE));
+            return stream;
+        }
+        int parallelism = options.getIntValue(Constants.ParallelQuery.PARALLELISM).intValue();
+        if (parallelism <= 0) {
+            iterator.addNativeData(Constants.ParallelQuery.ERROR, ErrorGenerator.getSQLApplicationError(
+                    "Parallel query option 'parallelism' should be a positive integer."));
+            return stream;
+        }
+        if (TransactionResourceManager.getInstance().isInTransaction()) {
+            iterator.addNativeData(Constants.ParallelQuery.ERROR, ErrorGenerator.getSQLApplicationError(
+                    "Parallel queries are not supported within a transaction."));
+            return stream;
+        }
+        // The partitions take a slot of the concurrency limit of the client until they are all executed.
+        Object slot = ConcurrencyLimiter.acquireBulk(client);
+        if (slot instanceof BError) {
+            return getErrorStream(recordType, (BError) slot);
+        }
+        ParallelQueryExecutor executor = new ParallelQueryExecutor(sqlDatasource, paramSQLString,
+                (StructureType) recordType.getDescribingType(), (Runnable) slot);
+        try {
+            startParallelQuery(executor, options);
+            iterator.addNativeData(Constants.ParallelQuery.EXECUTOR, executor);
+        } catch (SQLException e) {
+            iterator.addNativeData(Constants.ParallelQuery.ERROR, ErrorGenerator.getSQLDatabaseError(e,
+                    "Error while partitioning the parallel query. "));
+        } catch (DataError e) {
+            iterator.addNativeData(Constants.ParallelQuery.ERROR, ErrorGenerator.getSQLApplicationError(e));
+        } catch (Throwable th) {
+            iterator.addNativeData(Constants.ParallelQuery.ERROR, ErrorGenerator.getSQLError(th,
+                    "Error while partitioning the parallel query. "));
+        }
+        return stream;
+    }
+
+    /**
+     * Partition the parallel query and start executing the partitions.
+     * @param executor executor of the parallel query
+     * @param options partitioning of the query
+     * @throws SQLException if the partitions cannot be computed
+     * @throws DataError if the partitioning options are not valid
+     */
+    static void startParallelQuery(ParallelQueryExecutor executor, BMap<BString, Object> options)
+            throws SQLException, DataError {
+        BString tableName = (BString) options.get(Constants.ParallelQuery.TABLE_NAME);
+        executor.start(options.getStringValue(Constants.ParallelQuery.PARTITION_COLUMN).getValue(),
+                tableName == null ? null : tableName.getValue(),
+                (Long) options.get(Constants.ParallelQuery.LOWER_BOUND),
+                (Long) options.get(Constants.ParallelQuery.UPPER_BOUND),
+                options.getIntValue(Constants.ParallelQuery.PARALLELISM).intValue(),
+                options.getBooleanValue(Constants.ParallelQuery.CONSISTENT_SNAPSHOT));
+    }
+
+    /**
+     * Create a result stream which returns the given error when it is read.
+     * @param recordType type description of the result record
+     * @param error error returned by the stream
+     * @return result stream
+     */
+    static BStream getErrorStream(BTypedesc recordType, BError error) {
+        BObject iterator = ValueCreator.createObjectValue(ModuleUtils.getModule(),
+                Constants.ParallelQuery.ITERATOR_OBJECT);
+        iterator.addNativeData(Constants.ParallelQuery.ERROR, error);
+        return ValueCreator.createStreamValue(TypeCreator.createStreamType(recordType.getDescribingType(),
+                PredefinedTypes.TYPE_NULL), iterator);
+    }
+
+    /**
+     * Query the database and write the results to a file.
+     * @param client client object
+     * @param paramSQLString SQL string of the query
+     * @param path path of the file to be written
+     * @param format format of the file, which is either CSV or NDJSON
+     * @param options delimiter, header, compression and buffering of the export
+     * @return number of rows written or error
+     */
+    public static Object nativeExportQuery(Environment env, BObject client, BObject paramSQLString, BString path,
+                                           BString format, BMap<BString, Object> options) {
+        BObject targetClient = ReadRouter.route(client, paramSQLString);
+        return ConcurrencyLimiter.executeBulk(targetClient, () -> exportQuery(targetClient, paramSQLString, path,
+                format, options));
+    }
+
+    private static Object exportQuery(BObject client, BObject paramSQLString, BString path, BString format,
+                                      BMap<BString, Object> options) {
+        SQLDatasource sqlDatasource = Utils.getSQLDatasource(client);
+        if (sqlDatasource == null) {
+            return ErrorGenerator.getSQLApplicationError(Constants.CLIENT_CLOSED_ERROR_MESSAGE);
+        }
+        String delimiter = options.getStringValue(Constants.Export.DELIMITER).getValue();
+        int bufferSize = options.getIntValue(Constants.Export.BUFFER_SIZE).intValue();
+        int fetchSize = options.getIntValue(Constants.Export.FETCH_SIZE).intValue();
+        if (delimiter.length() != 1 || delimiter.charAt(0) > 0x7F || delimiter.charAt(0) == '"') {
+            return ErrorGenerator.getSQLApplicationError("Export option 'delimiter' should be a single ASCII " +
+                    "character other than '\"'.");
+        }
+        if (bufferSize < Constants.Export.MIN_BUFFER_SIZE || fetchSize <= 0) {
+            return ErrorGenerator.getSQLApplicationError(String.format("Export option 'bufferSize' should be at " +
+                    "least %d and 'fetchSize' should be a positive integer.", Constants.Export.MIN_BUFFER_SIZE));
+        }
+        TransactionResourceManager trxResourceManager = TransactionResourceManager.getInstance();
+        Connection connection = null;
+        PreparedStatement statement = null;
+        ResultSet resultSet = null;
+        String sqlQuery = null;
+        try {
+            sqlQuery = OracleDBStatementParameterProcessor.getInstance().getSqlQuery(paramSQLString);
+            connection = SQLDatasource.getConnection(trxResourceManager, client, sqlDatasource);
+            statement = connection.prepareStatement(sqlQuery);
+            statement.setFetchSize(fetchSize);
+            OracleDBStatementParameterProcessor.getInstance().setParams(connection, statement, paramSQLString);
+            resultSet = statement.executeQuery();
+            try (ResultExporter exporter = new ResultExporter(Paths.get(path.getValue()),
+                    Constants.Export.FORMAT_NDJSON.equals(format.getValue()), delimiter.charAt(0),
+                    options.getBooleanValue(Constants.Export.COMPRESS), bufferSize)) {
+                return exporter.export(resultSet, options.getBooleanValue(Constants.Export.INCLUDE_HEADER));
+            }
+        } catch (SQLException e) {
+            return ErrorGenerator.getSQLDatabaseError(e,
+                    String.format("Error while executing SQL query: %s. ", sqlQuery));
+        } catch (IOException e) {
+            return ErrorGenerator.getSQLApplicationError(String.format("Error while writing the results to '%s': %s",
+                    path.getValue(), e.getMessage()));
+        } catch (DataError e) {
+            return ErrorGenerator.getSQLApplicationError(e);
+        } catch (Throwable th) {
+            return ErrorGenerator.getSQLError(th, String.format("Error while executing SQL query: %s. ", sqlQuery));
+        } finally {
+            io.ballerina.stdlib.sql.utils.Utils.closeResources(trxResourceManager, resultSet, statement, connection);
+        }
+    }
+
+    /**
+     * Query the database and return the first row of the result without creating a result stream.
+     * @param client client object
+     * @param paramSQLString SQL string of the query
+     * @param returnType type description of the returned record or value
+     * @return first row of the result or error
+     */
+    public static Object nativeQueryRow(Environment env, BObject client, BObject paramSQLString, BTypedesc returnType) {
+        return querySingleRow(ReadRouter.route(client, paramSQLString), null, paramSQLString, returnType, false);
+    }
+
+    /**
+     * Query the database for a single column value such as an aggregate.
+     * @param client client object
+     * @param paramSQLString SQL string of the query
+     * @param returnType type description of the returned value
+     * @return value of the single column or error
+     */
+    public static Object nativeQueryScalar(Environment env, BObject client, BObject paramSQLString,
+                                           BTypedesc returnType) {
+        return querySingleRow(ReadRouter.route(client, paramSQLString), null, paramSQLString, returnType, true);
+    }
+
+    /**
+     * Query the database for a single row.
+     * @param client client object
+     * @param generatedSqlQuery generated SQL string, or null if it should be generated from the parameterized query
+     * @param paramSQLString parameterized query which holds the parameter values
+     * @param returnType type description of the returned record or value
+     * @param isScalar whether the query should retrieve exactly one row with one column
+     * @return first row of the result or error
+     */
+    static Object querySingleRow(BObject client, String generatedSqlQuery, BObject paramSQLString,
+                                 BTypedesc returnType, boolean isScalar) {
+        TransactionResourceManager trxResourceManager = TransactionResourceManager.getInstance();
+        return ConcurrencyLimiter.execute(client, () -> querySingleRowStatement(client, generatedSqlQuery,
+                paramSQLString, returnType, isScalar, trxResourceManager));
+    }
+
+    /**
+     * Query the database for the first row outside a transaction. The strand of the call is not accessed, so that
+     * the query can be made from a worker thread while the strand is suspended.
+     * @param client client object, which is already routed to the database of the query
+     * @param paramSQLString parameterized query
+     * @param returnType type description of the returned record or value
+     * @param isScalar whether the query should retrieve exactly one row with one column
+     * @return first row of the result or error
+     */
+    static Object queryRowOutsideTransaction(BObject client, BObject paramSQLString, BTypedesc returnType,
+                                             boolean isScalar) {
+        return ConcurrencyLimiter.execute(client, () -> querySingleRowStatement(client, null, paramSQLString,
+                returnType, isScalar, null));
+    }
+
+    private static Object querySingleRowStatement(BObject client, String generatedSqlQuery, BObject paramSQLString,
+                                                  BTypedesc returnType, boolean isScalar,
+                                                  TransactionResourceManager trxResourceManager) {
+        SQLDatasource sqlDatasource = Utils.getSQLDatasource(client);
+        if (sqlDatasource == null) {
+            return ErrorGenerator.getSQLApplicationError(Constants.CLIENT_CLOSED_ERROR_MESSAGE);
+        }
+        Type describingType = returnType.getDescribingType();
+        if (isScalar && describingType.getTag() == TypeTags.RECORD_TYPE_TAG) {
+            return ErrorGenerator.getSQLApplicationError(String.format(
+                    "Return type of queryScalar cannot be a record type, found '%s'.", describingType.getName()));
+        }
+        OracleDBResultParameterProcessor resultParameterProcessor = OracleDBResultParameterProcessor.getInstance();
+        Connection connection = null;
+        PreparedStatement statement = null;
+        ResultSet resultSet = null;
+        String sqlQuery = generatedSqlQuery;
+        try {
+            if (sqlQuery == null) {
+                sqlQuery = OracleDBStatementParameterProcessor.getInstance().getSqlQuery(paramSQLString);
+            }
+            // Without a transaction resource manager, the query is made outside a transaction.
+            connection = trxResourceManager == null ? sqlDatasource.getSQLConnection() :
+                    SQLDatasource.getConnection(trxResourceManager, client, sqlDatasource);
+            statement = connection.prepareStatement(sqlQuery);
+            // A second row is fetched only to find out whether the result is ambiguous for a scalar query.
+            statement.setMaxRows(Constants.SINGLE_ROW_FETCH_SIZE);
+            statement.setFetchSize(Constants.SINGLE_ROW_FETCH_SIZE);
+            OracleDBStatementParameterProcessor.getInstance(client).setParams(connection, statement, paramSQLString);
+            resultSet = statement.executeQuery();
+            if (!resultSet.next()) {
+                return ErrorGenerator.getNoRowsError(Constants.NO_ROWS_ERROR_MESSAGE);
+            }
+            Object result;
+            if (describingType.getTag() == TypeTags.RECORD_TYPE_TAG) {
+                StructureType recordConstraint = (StructureType) describingType;
+                List<ColumnDefinition> columnDefinitions = io.ballerina.stdlib.sql.utils.Utils
+                        .getColumnDefinitions(resultSet, recordConstraint);
+                result = io.ballerina.stdlib.sql.utils.Utils.createRecord(resultSet, columnDefinitions,
+                        recordConstraint, resultParameterProcessor);
+            } else {
+                if (resultSet.getMetaData().getColumnCount() > 1) {
+                    throw new TypeMismatchError(String.format("Expected type to be '%s' but found 'record{}'.",
+                            describingType));
+                }
+                PrimitiveTypeColumnDefinition definition = io.ballerina.stdlib.sql.utils.Utils
+                        .getColumnDefinition(resultSet, 1, describingType);
+                result = io.ballerina.stdlib.sql.utils.Utils.getResult(resultSet, 1, definition,
+                        resultParameterProcessor);
+            }
+            if (isScalar && resultSet.next()) {
+                return ErrorGenerator.getSQLApplicationError(
+                        "Query retrieved more than one row for a scalar value.");
+            }
+            return result;
+        } catch (SQLException e) {
+            return ErrorGenerator.getSQLDatabaseError(e,
+                    String.format("Error while executing SQL query: %s. ", sqlQuery));
+        } catch (DataError e) {
+            return ErrorGenerator.getSQLApplicationError(e);
+        } catch (Throwable th) {
+            return ErrorGenerator.getSQLError(th, String.format("Error while executing SQL query: %s. ", sqlQuery));
+        } finally {
+            if (trxResourceManager == null) {
+                Utils.closeResources(resultSet, statement, connection);
+            } else {
+                io.ballerina.stdlib.sql.utils.Utils.closeResources(trxResourceManager, resultSet, statement,
+                        connection);
+            }
+        }
     }
 }
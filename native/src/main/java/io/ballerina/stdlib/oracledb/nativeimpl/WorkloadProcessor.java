@@ -0,0 +1,254 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.stdlib.oracledb.nativeimpl;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.Future;
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.StructureType;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BStream;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTypedesc;
+import io.ballerina.runtime.transactions.TransactionResourceManager;
+import io.ballerina.stdlib.oracledb.Constants;
+import io.ballerina.stdlib.oracledb.utils.ConcurrencyLimiter;
+import io.ballerina.stdlib.oracledb.utils.ModuleUtils;
+import io.ballerina.stdlib.oracledb.utils.ParallelQueryExecutor;
+import io.ballerina.stdlib.oracledb.utils.ReadRouter;
+import io.ballerina.stdlib.oracledb.utils.Utils;
+import io.ballerina.stdlib.oracledb.utils.WorkloadScheduler;
+import io.ballerina.stdlib.sql.datasource.SQLDatasource;
+import io.ballerina.stdlib.sql.exception.DataError;
+import io.ballerina.stdlib.sql.utils.ErrorGenerator;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * This class provides the methods for executing the calls of a client in a workload class. Each call waits for its
+ * turn in the workload scheduler of the client before it acquires a connection, and holds its slot until it returns,
+ * or until the rows of a result stream are fetched. Waiting calls suspend their strands instead of blocking their
+ * threads. The calls whose return types depend on their arguments are executed here, and the other calls of the
+ * workload client take their slots with `acquire` and `release`.
+ *
+ * @since 1.0.2
+ */
+public class WorkloadProcessor {
+
+    private WorkloadProcessor() {}
+
+    /**
+     * Validate that the workload class of the workload client is defined by its client.
+     * @param workloadClient workload client object
+     * @return error if the workload class is not defined
+     */
+    public static Object initWorkloadClient(BObject workloadClient) {
+        BObject client = workloadClient.getObjectValue(Constants.WorkloadClass.CLIENT);
+        String name = workloadClient.getStringValue(Constants.WorkloadClass.NAME).getValue();
+        Object scheduler = client.getNativeData(Constants.NativeData.WORKLOAD_SCHEDULER);
+        if (!(scheduler instanceof WorkloadScheduler) || !((WorkloadScheduler) scheduler).hasWorkloadClass(name)) {
+            return ErrorGenerator.getSQLApplicationError(String.format("Workload class '%s' is not defined in " +
+                    "the 'workloadClasses' option of the client.", name));
+        }
+        return null;
+    }
+
+    /**
+     * Execute the query in the workload class and return the result as a stream. The query is executed from a worker
+     * thread once the call is admitted, and the call holds its slot until all the rows are fetched or the stream is
+     * closed. The stream waits for the rows while the call waits for its turn.
+     * @param workloadClient workload client object
+     * @param paramSQLString parameterized query
+     * @param recordType type description of the result record
+     * @return result stream
+     */
+    public static BStream nativeQuery(Environment env, BObject workloadClient, BObject paramSQLString,
+                                      BTypedesc recordType) {
+        BObject client = workloadClient.getObjectValue(Constants.WorkloadClass.CLIENT);
+        if (TransactionResourceManager.getInstance().isInTransaction()) {
+            return QueryProcessor.nativeQuery(env, client, paramSQLString, recordType);
+        }
+        return queryStream(workloadClient, paramSQLString, recordType, executor -> executor::startSingle);
+    }
+
+    /**
+     * Execute the query in the workload class as several partitions and return the merged result as a stream. The
+     * query is partitioned from a worker thread once the call is admitted, and the call holds a single slot until all
+     * the partitions are executed or the stream is closed.
+     * @param workloadClient workload client object
+     * @param paramSQLString parameterized query
+     * @param options partitioning of the query
+     * @param recordType type description of the result record
+     * @return result stream
+     */
+    public static BStream nativeQueryParallel(Environment env, BObject workloadClient, BObject paramSQLString,
+                                              BMap<BString, Object> options, BTypedesc recordType) {
+        BObject client = workloadClient.getObjectValue(Constants.WorkloadClass.CLIENT);
+        if (options.getIntValue(Constants.ParallelQuery.PARALLELISM) <= 0 ||
+                TransactionResourceManager.getInstance().isInTransaction()) {
+            // The parallel query of the client returns the error of the call.
+            return QueryProcessor.nativeQueryParallel(env, client, paramSQLString, options, recordType);
+        }
+        return queryStream(workloadClient, paramSQLString, recordType,
+                executor -> () -> QueryProcessor.startParallelQuery(executor, options));
+    }
+
+    /**
+     * Execute the query in the workload class and return the first row of the result. When the call has to wait for
+     * its turn, the strand is suspended, and the query is made from a worker thread once the call is admitted.
+     * @param workloadClient workload client object
+     * @param paramSQLString parameterized query
+     * @param returnType type description of the returned record or value
+     * @return first row of the result or error, or null if the result is returned through the future of the strand
+     */
+    public static Object nativeQueryRow(Environment env, BObject workloadClient, BObject paramSQLString,
+                                        BTypedesc returnType) {
+        return querySingleRow(env, workloadClient, paramSQLString, returnType, false);
+    }
+
+    /**
+     * Execute the query in the workload class and return the value of its single column. When the call has to wait
+     * for its turn, the strand is suspended, and the query is made from a worker thread once the call is admitted.
+     * @param workloadClient workload client object
+     * @param paramSQLString parameterized query
+     * @param returnType type description of the returned value
+     * @return value of the single column or error, or null if the result is returned through the future of the strand
+     */
+    public static Object nativeQueryScalar(Environment env, BObject workloadClient, BObject paramSQLString,
+                                           BTypedesc returnType) {
+        return querySingleRow(env, workloadClient, paramSQLString, returnType, true);
+    }
+
+    private static Object querySingleRow(Environment env, BObject workloadClient, BObject paramSQLString,
+                                         BTypedesc returnType, boolean isScalar) {
+        BObject client = workloadClient.getObjectValue(Constants.WorkloadClass.CLIENT);
+        if (TransactionResourceManager.getInstance().isInTransaction()) {
+            // The transaction holds its connection already, hence its calls do not wait for a turn.
+            return isScalar ? QueryProcessor.nativeQueryScalar(env, client, paramSQLString, returnType) :
+                    QueryProcessor.nativeQueryRow(env, client, paramSQLString, returnType);
+        }
+        String name = workloadClient.getStringValue(Constants.WorkloadClass.NAME).getValue();
+        WorkloadScheduler scheduler = (WorkloadScheduler) client.getNativeData(Constants.NativeData.WORKLOAD_SCHEDULER);
+        BObject targetClient = ReadRouter.route(client, paramSQLString);
+        CompletableFuture<Boolean> admission = scheduler.acquire(name);
+        if (admission.isDone()) {
+            if (!admission.join()) {
+                return getTimeoutError(name);
+            }
+            try {
+                return QueryProcessor.queryRowOutsideTransaction(targetClient, paramSQLString, returnType, isScalar);
+            } finally {
+                scheduler.release(name);
+            }
+        }
+        Future balFuture = env.markAsync();
+        admission.thenAccept(admitted -> {
+            if (!admitted) {
+                balFuture.complete(getTimeoutError(name));
+                return;
+            }
+            Utils.getWorkerExecutor().execute(() -> {
+                try {
+                    balFuture.complete(QueryProcessor.queryRowOutsideTransaction(targetClient, paramSQLString,
+                            returnType, isScalar));
+                } finally {
+                    scheduler.release(name);
+                }
+            });
+        });
+        return null;
+    }
+
+    private static BStream queryStream(BObject workloadClient, BObject paramSQLString, BTypedesc recordType,
+                                       Function<ParallelQueryExecutor, ParallelQueryExecutor.Starter> starter) {
+        BObject client = workloadClient.getObjectValue(Constants.WorkloadClass.CLIENT);
+        SQLDatasource sqlDatasource = Utils.getSQLDatasource(ReadRouter.route(client, paramSQLString));
+        if (sqlDatasource == null) {
+            return QueryProcessor.getErrorStream(recordType,
+                    ErrorGenerator.getSQLApplicationError(Constants.CLIENT_CLOSED_ERROR_MESSAGE));
+        }
+        // The query takes a slot of the concurrency limit of the client until all its rows are fetched.
+        Object slot = ConcurrencyLimiter.acquireBulk(client);
+        if (slot instanceof BError) {
+            return QueryProcessor.getErrorStream(recordType, (BError) slot);
+        }
+        String name = workloadClient.getStringValue(Constants.WorkloadClass.NAME).getValue();
+        WorkloadScheduler scheduler = (WorkloadScheduler) client.getNativeData(Constants.NativeData.WORKLOAD_SCHEDULER);
+        CompletableFuture<Boolean> admission = scheduler.acquire(name);
+        ParallelQueryExecutor executor = new ParallelQueryExecutor(sqlDatasource, paramSQLString,
+                (StructureType) recordType.getDescribingType(), () -> {
+                    ((Runnable) slot).run();
+                    // The executor completes only after the admission, and releases the slot of an admitted call.
+                    if (admission.getNow(false)) {
+                        scheduler.release(name);
+                    }
+                });
+        executor.startWhenAdmitted(admission, new DataError(getTimeoutMessage(name)), starter.apply(executor));
+        BObject iterator = ValueCreator.createObjectValue(ModuleUtils.getModule(),
+                Constants.ParallelQuery.ITERATOR_OBJECT);
+        iterator.addNativeData(Constants.ParallelQuery.EXECUTOR, executor);
+        return ValueCreator.createStreamValue(TypeCreator.createStreamType(recordType.getDescribingType(),
+                PredefinedTypes.TYPE_NULL), iterator);
+    }
+
+    /**
+     * Wait for the turn of a call in the workload class. The strand is suspended while the call waits, instead of
+     * blocking its thread. Calls within a transaction do not wait, as the transaction holds its connection already.
+     * @param workloadClient workload client object
+     * @return true if the call holds a slot, which should be released with `release`, false if the call is made
+     *         within a transaction, or an error if the call was not admitted within the acquire timeout
+     */
+    public static Object acquire(Environment env, BObject workloadClient) {
+        if (TransactionResourceManager.getInstance().isInTransaction()) {
+            return false;
+        }
+        BObject client = workloadClient.getObjectValue(Constants.WorkloadClass.CLIENT);
+        String name = workloadClient.getStringValue(Constants.WorkloadClass.NAME).getValue();
+        WorkloadScheduler scheduler = (WorkloadScheduler) client.getNativeData(Constants.NativeData.WORKLOAD_SCHEDULER);
+        CompletableFuture<Boolean> admission = scheduler.acquire(name);
+        if (admission.isDone()) {
+            return admission.join() ? Boolean.TRUE : getTimeoutError(name);
+        }
+        Future balFuture = env.markAsync();
+        admission.thenAccept(admitted -> balFuture.complete(admitted ? Boolean.TRUE : getTimeoutError(name)));
+        return null;
+    }
+
+    /**
+     * Release the slot of a call in the workload class.
+     * @param workloadClient workload client object
+     */
+    public static void release(BObject workloadClient) {
+        BObject client = workloadClient.getObjectValue(Constants.WorkloadClass.CLIENT);
+        String name = workloadClient.getStringValue(Constants.WorkloadClass.NAME).getValue();
+        ((WorkloadScheduler) client.getNativeData(Constants.NativeData.WORKLOAD_SCHEDULER)).release(name);
+    }
+
+    private static BError getTimeoutError(String name) {
+        return ErrorGenerator.getSQLApplicationError(getTimeoutMessage(name));
+    }
+
+    private static String getTimeoutMessage(String name) {
+        return String.format("Timed out while waiting for a connection in workload class '%s'.", name);
+    }
+}
@@ -0,0 +1,408 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.stdlib.oracledb.parameterprocessor;
+
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.oracledb.utils.DatumEncoder;
+import oracle.jdbc.OraclePreparedStatement;
+import oracle.sql.Datum;
+import oracle.sql.NUMBER;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This class holds the resolved JDBC setter of each parameter of a parameterized query so that repeated executions
+ * of the same query bind primitive and date-time values without going through the generic parameter dispatch.
+ * Numbers and date-times are bound in their Oracle binary representation.
+ *
+ * The plan also counts the distinct bind signatures, which are the types and length graduations of the parameters,
+ * seen for the query. Each signature needs a separate child cursor of the SQL in the shared pool of the database.
+ *
+ * @since 1.0.2
+ */
+public class BindPlan {
+
+    private static final int UNRESOLVED = 0;
+    private static final int STRING = 1;
+    private static final int INT = 2;
+    private static final int FLOAT = 3;
+    private static final int DECIMAL = 4;
+    private static final int BOOLEAN = 5;
+    private static final int DATE_TIME = 6;
+    private static final int UNSUPPORTED = -1;
+    private static final int NULL_SIGNATURE = 7;
+    private static final int OTHER_SIGNATURE = 8;
+    private static final int MAX_TRACKED_SIGNATURES = 64;
+    // Maximum lengths of string binds at which the database graduates the bind metadata of a cursor.
+    private static final int[] STRING_LENGTH_GRADUATIONS = {32, 128, 2000, 4000};
+    // Maximum lengths declared for string binds with normalization, which are the VARCHAR2 limits.
+    private static final int[] NORMALIZED_STRING_LENGTHS = {4000, 32767};
+
+    private volatile Setter[] setters;
+    private final LongAdder executionCount = new LongAdder();
+    private final Set<Long> bindSignatures = ConcurrentHashMap.newKeySet();
+
+    public BindPlan(int parameterCount) {
+        this.setters = new Setter[parameterCount];
+    }
+
+    public int getParameterCount() {
+        return setters.length;
+    }
+
+    public long getExecutionCount() {
+        return executionCount.sum();
+    }
+
+    /**
+     * @return number of distinct bind signatures seen for the query, up to a maximum of 64
+     */
+    public int getBindSignatureCount() {
+        return bindSignatures.size();
+    }
+
+    /**
+     * Record an execution of the query with the given insertions.
+     * @param insertions parameter values of the query
+     * @param normalize whether the parameters are bound with normalization
+     */
+    public void recordExecution(BArray insertions, boolean normalize) {
+        executionCount.increment();
+        Setter[] resolved = setters;
+        long signature = 0;
+        for (int i = 0; i < insertions.size(); i++) {
+            Object value = insertions.get(i);
+            int code;
+            if (value == null) {
+                code = normalize ? getNullType(resolved, i) : NULL_SIGNATURE;
+            } else if (value instanceof BString) {
+                int lengths = getLengthIndex(((BString) value).length(),
+                        normalize ? NORMALIZED_STRING_LENGTHS : STRING_LENGTH_GRADUATIONS);
+                code = STRING + lengths * 16;
+            } else if (value instanceof BObject) {
+                code = OTHER_SIGNATURE + ((BObject) value).getType().getName().hashCode() * 16;
+            } else {
+                Setter setter = i < resolved.length ? resolved[i] : null;
+                int type = setter != null && setter.accepts(value) ? setter.type : getParameterType(value);
+                code = type == UNSUPPORTED ? OTHER_SIGNATURE : type;
+            }
+            signature = signature * 31 + code;
+        }
+        if (bindSignatures.size() < MAX_TRACKED_SIGNATURES && !bindSignatures.contains(signature)) {
+            // New signatures are rare, so they are added under a lock which keeps the set within its bound.
+            synchronized (bindSignatures) {
+                if (bindSignatures.size() < MAX_TRACKED_SIGNATURES) {
+                    bindSignatures.add(signature);
+                }
+            }
+        }
+    }
+
+    /**
+     * Declare the maximum length of each string parameter as the normalized length of the string.
+     * @param preparedStatement statement to which the parameters are bound
+     * @param insertions parameter values of the query
+     * @throws SQLException if the driver fails to declare a length
+     */
+    public void defineStringLengths(PreparedStatement preparedStatement, BArray insertions) throws SQLException {
+        OraclePreparedStatement oracleStatement = DatumEncoder.unwrap(preparedStatement);
+        if (oracleStatement == null) {
+            return;
+        }
+        for (int i = 0; i < insertions.size(); i++) {
+            Object value = insertions.get(i);
+            if (value instanceof BString) {
+                defineStringLength(oracleStatement, i + 1, ((BString) value).length());
+            }
+        }
+    }
+
+    /**
+     * Bind the nil parameters with the type last bound to the same parameter, or as strings if the type is not
+     * known yet, instead of the type the generic path uses.
+     * @param preparedStatement statement to which the parameters are bound
+     * @param insertions parameter values of the query
+     * @throws SQLException if the driver fails to bind a parameter
+     */
+    public void bindNulls(PreparedStatement preparedStatement, BArray insertions) throws SQLException {
+        Setter[] resolved = setters;
+        for (int i = 0; i < insertions.size() && i < resolved.length; i++) {
+            if (insertions.get(i) == null) {
+                preparedStatement.setNull(i + 1, getSqlType(getNullType(resolved, i)));
+            }
+        }
+    }
+
+    /**
+     * Bind the given insertions to the prepared statement using the resolved setters.
+     * @param preparedStatement statement to which the parameters are bound
+     * @param insertions parameter values of the query
+     * @param normalize whether strings are bound with a normalized length and nil values with a stable type
+     * @return false if one of the parameters cannot be bound by the plan and the generic path should be used instead
+     * @throws SQLException if the driver fails to bind a parameter
+     */
+    public boolean bind(PreparedStatement preparedStatement, BArray insertions, boolean normalize)
+            throws SQLException {
+        Setter[] resolved = setters;
+        int size = insertions.size();
+        if (size != resolved.length) {
+            return false;
+        }
+        Setter[] updated = null;
+        OraclePreparedStatement oracleStatement = DatumEncoder.unwrap(preparedStatement);
+        for (int i = 0; i < size; i++) {
+            Object value = insertions.get(i);
+            int index = i + 1;
+            if (value == null) {
+                preparedStatement.setNull(index,
+                        getSqlType(normalize ? getNullType(resolved, i) : getResolvedType(resolved[i])));
+                continue;
+            }
+            Setter setter = resolved[i];
+            if (setter == null || !setter.accepts(value)) {
+                // The setter is resolved again only when the type of the parameter changes between executions.
+                setter = resolveSetter(value);
+                if (setter == null) {
+                    return false;
+                }
+                if (updated == null) {
+                    updated = resolved.clone();
+                }
+                updated[i] = setter;
+            }
+            if (!setter.set(preparedStatement, oracleStatement, index, value, normalize)) {
+                return false;
+            }
+        }
+        if (updated != null) {
+            setters = updated;
+        }
+        return true;
+    }
+
+    private static int getNullType(Setter[] resolved, int index) {
+        // Nil values are bound as strings by the database unless a type is declared.
+        return index >= resolved.length || resolved[index] == null ? STRING : resolved[index].type;
+    }
+
+    private static int getResolvedType(Setter setter) {
+        return setter == null ? UNRESOLVED : setter.type;
+    }
+
+    private static Setter resolveSetter(Object value) {
+        switch (getParameterType(value)) {
+            case STRING:
+                return Setter.STRING_SETTER;
+            case INT:
+                return Setter.INT_SETTER;
+            case FLOAT:
+                return Setter.FLOAT_SETTER;
+            case DECIMAL:
+                return Setter.DECIMAL_SETTER;
+            case BOOLEAN:
+                return Setter.BOOLEAN_SETTER;
+            case DATE_TIME:
+                return Setter.DATE_TIME_SETTER;
+            default:
+                return null;
+        }
+    }
+
+    private static void defineStringLength(OraclePreparedStatement oracleStatement, int index, int length)
+            throws SQLException {
+        int lengthIndex = getLengthIndex(length, NORMALIZED_STRING_LENGTHS);
+        if (lengthIndex < NORMALIZED_STRING_LENGTHS.length) {
+            oracleStatement.defineParameterTypeChars(index, Types.VARCHAR, NORMALIZED_STRING_LENGTHS[lengthIndex]);
+        }
+    }
+
+    private static int getLengthIndex(int length, int[] lengths) {
+        int index = 0;
+        while (index < lengths.length && length > lengths[index]) {
+            index++;
+        }
+        return index;
+    }
+
+    private static int getParameterType(Object value) {
+        if (value == null) {
+            return UNRESOLVED;
+        } else if (value instanceof BString) {
+            return STRING;
+        } else if (value instanceof Long) {
+            return INT;
+        } else if (value instanceof Double) {
+            return FLOAT;
+        } else if (value instanceof BDecimal) {
+            return DECIMAL;
+        } else if (value instanceof Boolean) {
+            return BOOLEAN;
+        } else if (value instanceof BMap) {
+            String recordName = ((BMap<?, ?>) value).getType().getName();
+            if (recordName.equalsIgnoreCase(io.ballerina.stdlib.time.util.Constants.CIVIL_RECORD)
+                    || recordName.equalsIgnoreCase(io.ballerina.stdlib.time.util.Constants.DATE_RECORD)) {
+                return DATE_TIME;
+            }
+        } else if (value instanceof BArray && DatumEncoder.isUtc((BArray) value)) {
+            return DATE_TIME;
+        }
+        return UNSUPPORTED;
+    }
+
+    private static int getSqlType(int parameterType) {
+        switch (parameterType) {
+            case STRING:
+                return Types.VARCHAR;
+            case INT:
+            case FLOAT:
+            case DECIMAL:
+            case BOOLEAN:
+                // Oracle stores all of these as NUMBER, hence the nulls are declared with the same type.
+                return Types.NUMERIC;
+            case DATE_TIME:
+                return Types.TIMESTAMP;
+            default:
+                return Types.NULL;
+        }
+    }
+
+    /**
+     * JDBC setter of a parameter, which is resolved from the type of the value bound to the parameter position.
+     */
+    private enum Setter {
+        STRING_SETTER(STRING) {
+            @Override
+            boolean accepts(Object value) {
+                return value instanceof BString;
+            }
+
+            @Override
+            boolean set(PreparedStatement statement, OraclePreparedStatement oracleStatement, int index, Object value,
+                        boolean normalize) throws SQLException {
+                String string = ((BString) value).getValue();
+                if (normalize && oracleStatement != null) {
+                    defineStringLength(oracleStatement, index, string.length());
+                }
+                statement.setString(index, string);
+                return true;
+            }
+        },
+        INT_SETTER(INT) {
+            @Override
+            boolean accepts(Object value) {
+                return value instanceof Long;
+            }
+
+            @Override
+            boolean set(PreparedStatement statement, OraclePreparedStatement oracleStatement, int index, Object value,
+                        boolean normalize) throws SQLException {
+                if (oracleStatement == null) {
+                    statement.setLong(index, (Long) value);
+                } else {
+                    oracleStatement.setNUMBER(index, DatumEncoder.encodeNumber((Long) value));
+                }
+                return true;
+            }
+        },
+        FLOAT_SETTER(FLOAT) {
+            @Override
+            boolean accepts(Object value) {
+                return value instanceof Double;
+            }
+
+            @Override
+            boolean set(PreparedStatement statement, OraclePreparedStatement oracleStatement, int index, Object value,
+                        boolean normalize) throws SQLException {
+                statement.setDouble(index, (Double) value);
+                return true;
+            }
+        },
+        DECIMAL_SETTER(DECIMAL) {
+            @Override
+            boolean accepts(Object value) {
+                return value instanceof BDecimal;
+            }
+
+            @Override
+            boolean set(PreparedStatement statement, OraclePreparedStatement oracleStatement, int index, Object value,
+                        boolean normalize) throws SQLException {
+                BigDecimal decimal = ((BDecimal) value).decimalValue();
+                NUMBER number = oracleStatement == null ? null : DatumEncoder.encodeNumber(decimal);
+                if (number == null) {
+                    statement.setBigDecimal(index, decimal);
+                } else {
+                    oracleStatement.setNUMBER(index, number);
+                }
+                return true;
+            }
+        },
+        BOOLEAN_SETTER(BOOLEAN) {
+            @Override
+            boolean accepts(Object value) {
+                return value instanceof Boolean;
+            }
+
+            @Override
+            boolean set(PreparedStatement statement, OraclePreparedStatement oracleStatement, int index, Object value,
+                        boolean normalize) throws SQLException {
+                statement.setBoolean(index, (Boolean) value);
+                return true;
+            }
+        },
+        DATE_TIME_SETTER(DATE_TIME) {
+            @Override
+            boolean accepts(Object value) {
+                return getParameterType(value) == DATE_TIME;
+            }
+
+            @Override
+            boolean set(PreparedStatement statement, OraclePreparedStatement oracleStatement, int index, Object value,
+                        boolean normalize) throws SQLException {
+                Datum dateTime = oracleStatement == null ? null : DatumEncoder.encodeDateTime(value);
+                if (dateTime == null) {
+                    // Values the encoder does not accept are validated and bound by the generic path.
+                    return false;
+                }
+                DatumEncoder.bind(oracleStatement, index, dateTime);
+                return true;
+            }
+        };
+
+        private final int type;
+
+        Setter(int type) {
+            this.type = type;
+        }
+
+        abstract boolean accepts(Object value);
+
+        abstract boolean set(PreparedStatement statement, OraclePreparedStatement oracleStatement, int index,
+                             Object value, boolean normalize) throws SQLException;
+    }
+}
@@ -33,6 +33,7 @@ import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.stdlib.oracledb.Constants;
+import io.ballerina.stdlib.oracledb.utils.DateTimeDecoder;
 import io.ballerina.stdlib.oracledb.utils.ModuleUtils;
 import io.ballerina.stdlib.sql.exception.DataError;
 import io.ballerina.stdlib.sql.exception.FieldMismatchError;
@@ -43,6 +44,9 @@ import io.ballerina.stdlib.sql.utils.PrimitiveTypeColumnDefinition;
 import io.ballerina.stdlib.sql.utils.Utils;
 import oracle.jdbc.OracleResultSet;
 import oracle.jdbc.OracleTypes;
+import oracle.jdbc.internal.OracleConnection;
+import oracle.sql.TIMESTAMPLTZ;
+import oracle.sql.TIMESTAMPTZ;
 
 import java.math.BigDecimal;
 import java.sql.Array;
@@ -68,6 +72,7 @@ public class OracleDBResultParameterProcessor extends DefaultResultParameterProc
     private static final OracleDBResultParameterProcessor instance = new OracleDBResultParameterProcessor();
     private static final BObject iteratorObject = ValueCreator.createObjectValue(
             ModuleUtils.getModule(), Constants.CUSTOM_RESULT_ITERATOR_OBJECT);
+    private static final Object NOT_DECODED = new Object();
 
     /**
      * Singleton static method that returns an instance of `OracleDBResultParameterProcessor`.
@@ -161,7 +166,9 @@ public class OracleDBResultParameterProcessor extends DefaultResultParameterProc
                         columnDefinition.getSqlTypeName());
             case OracleTypes.TIMESTAMPTZ:
             case OracleTypes.TIMESTAMPLTZ:
-                return processTimestampWithTimezoneResult(resultSet, columnIndex, sqlType, ballerinaType);
+                Object timestamp = decodeTimestampWithTimezoneResult(resultSet, columnIndex, sqlType, ballerinaType);
+                return timestamp != NOT_DECODED ? timestamp :
+                        processTimestampWithTimezoneResult(resultSet, columnIndex, sqlType, ballerinaType);
             default:
                 throw new UnsupportedTypeError(JDBCType.valueOf(sqlType).getName(), columnIndex);
         }
@@ -262,6 +269,45 @@ public class OracleDBResultParameterProcessor extends DefaultResultParameterProc
         return null;
     }
 
+    /**
+     * Decode a timestamp with time zone from its binary representation when it is retrieved as a `time:Civil` or a
+     * `time:Utc`.
+     * @return decoded value, or NOT_DECODED if the value should be processed from its JDBC representation
+     */
+    private Object decodeTimestampWithTimezoneResult(ResultSet resultSet, int columnIndex, int sqlType,
+                                                     Type ballerinaType) throws SQLException {
+        int typeTag = ballerinaType.getTag();
+        boolean isCivil = typeTag == TypeTags.RECORD_TYPE_TAG && ballerinaType.getName()
+                .equalsIgnoreCase(io.ballerina.stdlib.time.util.Constants.CIVIL_RECORD);
+        if (!isCivil && typeTag != TypeTags.INTERSECTION_TAG) {
+            return NOT_DECODED;
+        }
+        OracleResultSet oracleResultSet = resultSet.unwrap(OracleResultSet.class);
+        DateTimeDecoder decoder = new DateTimeDecoder();
+        if (sqlType == OracleTypes.TIMESTAMPTZ) {
+            TIMESTAMPTZ value = oracleResultSet.getTIMESTAMPTZ(columnIndex);
+            if (value == null) {
+                return null;
+            }
+            if (!decoder.decodeTimestampWithTimeZone(value.toBytes())) {
+                return NOT_DECODED;
+            }
+        } else {
+            TIMESTAMPLTZ value = oracleResultSet.getTIMESTAMPLTZ(columnIndex);
+            if (value == null) {
+                return null;
+            }
+            OracleConnection connection = resultSet.getStatement().getConnection()
+                    .unwrap(OracleConnection.class);
+            if (!decoder.decodeTimestampWithLocalTimeZone(value.toBytes(), connection.getDatabaseTimeZone(),
+                    connection.getSessionTimeZone())) {
+                return NOT_DECODED;
+            }
+        }
+        return isCivil ? Utils.createTimestampWithTimezoneRecord(decoder.toOffsetDateTime()) :
+                Utils.createTimeStruct(decoder.getEpochMillis());
+    }
+
     private Object processInterval(CallableStatement statement, int paramIndex) throws SQLException {
         return statement.getString(paramIndex);
     }
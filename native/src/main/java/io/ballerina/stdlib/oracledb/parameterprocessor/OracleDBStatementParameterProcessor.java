@@ -20,16 +20,22 @@ package io.ballerina.stdlib.oracledb.parameterprocessor;
 
 import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BXml;
 import io.ballerina.stdlib.oracledb.Constants;
 import io.ballerina.stdlib.oracledb.utils.ConverterUtils;
+import io.ballerina.stdlib.oracledb.utils.DatumEncoder;
 import io.ballerina.stdlib.oracledb.utils.Utils;
 import io.ballerina.stdlib.sql.exception.DataError;
 import io.ballerina.stdlib.sql.exception.UnsupportedTypeError;
 import io.ballerina.stdlib.sql.parameterprocessor.DefaultStatementParameterProcessor;
+import oracle.jdbc.OraclePreparedStatement;
 import oracle.jdbc.OracleTypes;
+import oracle.sql.DATE;
+import oracle.sql.Datum;
+import oracle.sql.NUMBER;
 
 import java.sql.Array;
 import java.sql.Connection;
@@ -38,6 +44,7 @@ import java.sql.SQLException;
 import java.sql.SQLXML;
 import java.sql.Struct;
 import java.sql.Types;
+import java.util.Locale;
 
 /**
  * This class overrides DefaultStatementParameterProcessor to implement methods required to convert ballerina types
@@ -46,7 +53,15 @@ import java.sql.Types;
  * @since 0.1.0
  */
 public class OracleDBStatementParameterProcessor extends DefaultStatementParameterProcessor {
-    private static final OracleDBStatementParameterProcessor instance = new OracleDBStatementParameterProcessor();
+    private static final OracleDBStatementParameterProcessor instance = new OracleDBStatementParameterProcessor(false);
+    private static final OracleDBStatementParameterProcessor normalizingInstance =
+            new OracleDBStatementParameterProcessor(true);
+
+    private final boolean normalizeBinds;
+
+    private OracleDBStatementParameterProcessor(boolean normalizeBinds) {
+        this.normalizeBinds = normalizeBinds;
+    }
 
     /**
      * Singleton static method that returns an instance of `OracleDBStatementParameterProcessor`.
@@ -56,6 +71,67 @@ public class OracleDBStatementParameterProcessor extends DefaultStatementParamet
         return instance;
     }
 
+    /**
+     * Return the instance of `OracleDBStatementParameterProcessor` in the bind mode of the given client. With bind
+     * normalization, strings are bound with a stable maximum length and nil values with a stable type, so that all
+     * executions of a query share the bind metadata of a single child cursor.
+     * @param client client object
+     * @return OracleDBStatementParameterProcessor
+     */
+    public static OracleDBStatementParameterProcessor getInstance(BObject client) {
+        return Boolean.TRUE.equals(client.getNativeData(Constants.NativeData.BIND_NORMALIZATION)) ?
+                normalizingInstance : instance;
+    }
+
+    /**
+     * Return the SQL string of the parameterized query. The SQL string is generated only for the first execution of
+     * the query and is reused afterwards.
+     * @param paramString parameterized query
+     * @return SQL string with `?` placeholders for the parameters
+     */
+    public String getSqlQuery(BObject paramString) {
+        return getCacheEntry(paramString).getSqlQuery();
+    }
+
+    /**
+     * Return the bind plan of the parameterized query, which is shared by all executions of the query.
+     * @param paramString parameterized query
+     * @return bind plan of the query
+     */
+    public BindPlan getBindPlan(BObject paramString) {
+        return getCacheEntry(paramString).getBindPlan();
+    }
+
+    @Override
+    public void setParams(Connection connection, PreparedStatement preparedStatement, BObject paramString)
+            throws SQLException, DataError {
+        Object nativeBindPlan = paramString.getNativeData(Constants.NativeData.BIND_PLAN);
+        BindPlan bindPlan = nativeBindPlan instanceof BindPlan ? (BindPlan) nativeBindPlan :
+                getCacheEntry(paramString).getBindPlan();
+        BArray insertions = paramString.getArrayValue(Constants.ParameterizedQueryFields.INSERTIONS);
+        bindPlan.recordExecution(insertions, normalizeBinds);
+        if (bindPlan.bind(preparedStatement, insertions, normalizeBinds)) {
+            return;
+        }
+        if (normalizeBinds) {
+            bindPlan.defineStringLengths(preparedStatement, insertions);
+        }
+        super.setParams(connection, preparedStatement, paramString);
+        if (normalizeBinds) {
+            bindPlan.bindNulls(preparedStatement, insertions);
+        }
+    }
+
+    private ParameterizedQueryCache.Entry getCacheEntry(BObject paramString) {
+        BArray strings = paramString.getArrayValue(Constants.ParameterizedQueryFields.STRINGS);
+        ParameterizedQueryCache.Entry entry = ParameterizedQueryCache.get(strings);
+        if (entry == null) {
+            entry = ParameterizedQueryCache.put(strings,
+                    io.ballerina.stdlib.sql.utils.Utils.getSqlQuery(paramString));
+        }
+        return entry;
+    }
+
     @Override
     protected void setCustomSqlTypedParam(Connection connection, PreparedStatement preparedStatement, int index,
         BObject typedValue) throws SQLException, DataError {
@@ -71,6 +147,11 @@ public class OracleDBStatementParameterProcessor extends DefaultStatementParamet
             case Constants.Types.CustomTypes.NESTED_TABLE:
                 setArray(connection, preparedStatement, index, value, "nested table");
                 break;
+            case Constants.Types.CustomTypes.NUMBER_LIST:
+            case Constants.Types.CustomTypes.STRING_LIST:
+                setList(connection, preparedStatement, index, value,
+                        typedValue.getStringValue(Constants.TypedValueFields.TYPE_NAME).getValue());
+                break;
             default:
                 throw Utils.throwInvalidParameterError(value, sqlType);
         }
@@ -97,6 +178,79 @@ public class OracleDBStatementParameterProcessor extends DefaultStatementParamet
         return sqlTypeValue;
     }
 
+    @Override
+    protected void setDecimal(PreparedStatement preparedStatement, String sqlType, int index, Object value)
+            throws SQLException, DataError {
+        if (!setNumber(preparedStatement, index, value)) {
+            super.setDecimal(preparedStatement, sqlType, index, value);
+        }
+    }
+
+    @Override
+    protected void setNumeric(PreparedStatement preparedStatement, String sqlType, int index, Object value)
+            throws SQLException, DataError {
+        if (!setNumber(preparedStatement, index, value)) {
+            super.setNumeric(preparedStatement, sqlType, index, value);
+        }
+    }
+
+    @Override
+    protected void setTimestamp(PreparedStatement preparedStatement, String sqlType, int index, Object value)
+            throws SQLException, DataError {
+        if (!setDateTime(preparedStatement, index, value, false)) {
+            super.setTimestamp(preparedStatement, sqlType, index, value);
+        }
+    }
+
+    @Override
+    protected void setDate(PreparedStatement preparedStatement, String sqlType, int index, Object value)
+            throws SQLException, DataError {
+        if (!setDateTime(preparedStatement, index, value, true)) {
+            super.setDate(preparedStatement, sqlType, index, value);
+        }
+    }
+
+    /**
+     * Bind an `int` or a `decimal` value as an encoded `NUMBER`.
+     * @return false if the value should be bound by the generic setter
+     */
+    private boolean setNumber(PreparedStatement preparedStatement, int index, Object value) throws SQLException {
+        NUMBER number;
+        if (value instanceof BDecimal) {
+            number = DatumEncoder.encodeNumber(((BDecimal) value).decimalValue());
+        } else if (value instanceof Long) {
+            number = DatumEncoder.encodeNumber((Long) value);
+        } else {
+            return false;
+        }
+        OraclePreparedStatement oracleStatement = number == null ? null : DatumEncoder.unwrap(preparedStatement);
+        if (oracleStatement == null) {
+            return false;
+        }
+        oracleStatement.setNUMBER(index, number);
+        return true;
+    }
+
+    /**
+     * Bind a `time:Date`, `time:Civil` or `time:Utc` value as an encoded `DATE`, `TIMESTAMP` or
+     * `TIMESTAMP WITH TIME ZONE`.
+     * @param isDate whether the parameter is a date, which only accepts `time:Date` values
+     * @return false if the value should be bound by the generic setter
+     */
+    private boolean setDateTime(PreparedStatement preparedStatement, int index, Object value, boolean isDate)
+            throws SQLException {
+        Datum dateTime = DatumEncoder.encodeDateTime(value);
+        if (dateTime == null || (dateTime instanceof DATE) != isDate) {
+            return false;
+        }
+        OraclePreparedStatement oracleStatement = DatumEncoder.unwrap(preparedStatement);
+        if (oracleStatement == null) {
+            return false;
+        }
+        DatumEncoder.bind(oracleStatement, index, dateTime);
+        return true;
+    }
+
     @Override
     protected void setXml(Connection connection, PreparedStatement preparedStatement,
                           int index, BXml value) throws SQLException, DataError {
@@ -185,6 +339,17 @@ public class OracleDBStatementParameterProcessor extends DefaultStatementParamet
         preparedStatement.setObject(index, oracleObject);
     }
 
+    private void setList(Connection connection, PreparedStatement preparedStatement, int index, Object value,
+                         String typeName) throws SQLException, DataError {
+        String collectionTypeName = typeName.toUpperCase(Locale.ENGLISH);
+        if (value == null) {
+            preparedStatement.setNull(index, Types.ARRAY, collectionTypeName);
+            return;
+        }
+        Array list = ConverterUtils.convertList(connection, (BArray) value, collectionTypeName);
+        preparedStatement.setArray(index, list);
+    }
+
     private void setArray(Connection connection, PreparedStatement preparedStatement, int index, Object value,
                            String type)
             throws SQLException, DataError {
@@ -0,0 +1,197 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.stdlib.oracledb.parameterprocessor;
+
+import io.ballerina.runtime.api.values.BArray;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This class caches the generated SQL string and the bind plan of parameterized queries. Ballerina reuses the same
+ * `strings` array of a raw template for every evaluation of the template at a given call site, hence the entries are
+ * keyed on the identity of that array.
+ *
+ * The entries of the arrays which are garbage collected are purged when a query is cached. If the cache is full, an
+ * entry which is not used recently is evicted with the CLOCK algorithm, which only happens if templates are created
+ * dynamically. The entries are placed in the slots of a clock, and an entry is marked as referenced when it is looked
+ * up. The hand of the clock clears the marks of the entries it passes, and evicts the first entry without a mark.
+ *
+ * @since 1.0.2
+ */
+public class ParameterizedQueryCache {
+
+    private static final int MAX_ENTRIES = 1024;
+    private static final Map<Object, Entry> entries = new ConcurrentHashMap<>();
+    private static final ReferenceQueue<BArray> collectedKeys = new ReferenceQueue<>();
+    private static final Key[] clockSlots = new Key[MAX_ENTRIES];
+    private static int clockHand = 0;
+    private static final ThreadLocal<LookupKey> lookupKeys = ThreadLocal.withInitial(LookupKey::new);
+
+    private ParameterizedQueryCache() {}
+
+    /**
+     * Return the cached entry of the given template strings.
+     * @param strings `strings` array of the parameterized query
+     * @return cached entry or null if the query is not cached yet
+     */
+    public static Entry get(BArray strings) {
+        LookupKey lookupKey = lookupKeys.get();
+        lookupKey.strings = strings;
+        try {
+            Entry entry = entries.get(lookupKey);
+            if (entry != null && !entry.referenced) {
+                entry.referenced = true;
+            }
+            return entry;
+        } finally {
+            lookupKey.strings = null;
+        }
+    }
+
+    /**
+     * Cache the generated SQL string of the given template strings.
+     * @param strings `strings` array of the parameterized query
+     * @param sqlQuery SQL string generated for the parameterized query
+     * @return cached entry
+     */
+    public static Entry put(BArray strings, String sqlQuery) {
+        Entry entry = new Entry(sqlQuery, new BindPlan(strings.size() - 1));
+        Key key = new Key(strings, collectedKeys);
+        synchronized (clockSlots) {
+            purgeCollectedKeys();
+            Entry existingEntry = entries.putIfAbsent(key, entry);
+            if (existingEntry != null) {
+                return existingEntry;
+            }
+            placeInClock(key);
+        }
+        return entry;
+    }
+
+    /**
+     * @return entries of the queries cached currently
+     */
+    public static Collection<Entry> getEntries() {
+        purgeCollectedKeys();
+        return entries.values();
+    }
+
+    private static void purgeCollectedKeys() {
+        Reference<? extends BArray> key;
+        while ((key = collectedKeys.poll()) != null) {
+            entries.remove(key);
+        }
+    }
+
+    private static void placeInClock(Key key) {
+        // The new key is not in a slot yet, hence a slot is free unless the cache holds more than the maximum entries.
+        boolean isFull = entries.size() > MAX_ENTRIES;
+        while (true) {
+            Key slotKey = clockSlots[clockHand];
+            Entry slotEntry = slotKey == null ? null : entries.get(slotKey);
+            if (slotEntry == null) {
+                break;
+            }
+            if (isFull && !slotEntry.referenced) {
+                entries.remove(slotKey, slotEntry);
+                break;
+            }
+            if (isFull) {
+                slotEntry.referenced = false;
+            }
+            clockHand = (clockHand + 1) % MAX_ENTRIES;
+        }
+        clockSlots[clockHand] = key;
+        clockHand = (clockHand + 1) % MAX_ENTRIES;
+    }
+
+    /**
+     * Cached SQL string and bind plan of a parameterized query.
+     */
+    public static class Entry {
+        private final String sqlQuery;
+        private final BindPlan bindPlan;
+        // Only a hint for the eviction, hence it is not volatile, and it is written by a lookup only if it is not set.
+        private boolean referenced = true;
+
+        private Entry(String sqlQuery, BindPlan bindPlan) {
+            this.sqlQuery = sqlQuery;
+            this.bindPlan = bindPlan;
+        }
+
+        public String getSqlQuery() {
+            return sqlQuery;
+        }
+
+        public BindPlan getBindPlan() {
+            return bindPlan;
+        }
+    }
+
+    /**
+     * Key of a cached entry, which is enqueued when its `strings` array is garbage collected.
+     */
+    private static class Key extends WeakReference<BArray> {
+        private final int hashCode;
+
+        private Key(BArray strings, ReferenceQueue<BArray> queue) {
+            super(strings, queue);
+            this.hashCode = System.identityHashCode(strings);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            BArray value = get();
+            return value != null && value == ((Key) other).get();
+        }
+    }
+
+    /**
+     * Key reused by each thread to look up the entries without allocating a key for every lookup.
+     */
+    private static class LookupKey {
+        private BArray strings;
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(strings);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Key && strings != null && strings == ((Key) other).get();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.stdlib.oracledb.pool;
+
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.oracledb.Constants;
+
+import java.util.Properties;
+
+/**
+ * This class provides the connections of the connection pool directly from the Oracle data source, or from a
+ * {@link SessionDataSource} if the client has session initialization statements.
+ *
+ * @since 1.0.2
+ */
+public class DefaultPoolProvider implements PoolProvider {
+
+    public static final String NAME = "default";
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return true;
+    }
+
+    @Override
+    public String configure(BMap<BString, Object> options, Properties connectionProperties,
+                            int maxOpenConnections) {
+        if (SessionDataSource.configure(options, connectionProperties)) {
+            return SessionDataSource.class.getName();
+        }
+        return Constants.ORACLE_DATASOURCE_NAME;
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.stdlib.oracledb.pool;
+
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.sql.exception.DataError;
+
+import java.util.Properties;
+
+/**
+ * This interface is implemented by the providers of the connections of the connection pools of the clients. The pool
+ * of a client creates its connections with the data source class returned by the provider selected with the
+ * `poolProvider` option of the client, which can be a connection pool itself. Providers other than the ones of the
+ * module are loaded with {@link java.util.ServiceLoader}.
+ *
+ * @since 1.0.2
+ */
+public interface PoolProvider {
+
+    /**
+     * Get the name of the provider, which is used in the `poolProvider` option of the clients.
+     * @return name of the provider
+     */
+    String getName();
+
+    /**
+     * Check whether the provider can be used, such as whether the libraries it needs are on the classpath.
+     * @return true if the provider can be used
+     */
+    boolean isAvailable();
+
+    /**
+     * Configure the connections of a client, including the session initialization statements of the client, which the
+     * pool does not run by itself.
+     * @param options options of the client
+     * @param connectionProperties connection properties set on the data source
+     * @param maxOpenConnections maximum number of open connections of the pool of the client
+     * @return name of the data source class with which the pool creates its connections
+     * @throws DataError if the options of the client are not supported by the provider
+     */
+    String configure(BMap<BString, Object> options, Properties connectionProperties, int maxOpenConnections)
+            throws DataError;
+
+    /**
+     * Configure the connection pool of a client. If other options are returned for the pool, the pool of the client
+     * is not shared with the other clients.
+     * @param connectionPool options of the connection pool of the client
+     * @param poolProperties properties set on the connection pool
+     * @return options of the connection pool of the client
+     */
+    default BMap<BString, Object> configurePool(BMap<BString, Object> connectionPool, Properties poolProperties) {
+        return connectionPool;
+    }
+
+    /**
+     * Release the resources held for the connections of a client, after the connection pool of the client is closed.
+     * @param connectionProperties connection properties set on the data source
+     */
+    default void close(Properties connectionProperties) {
+    }
+}
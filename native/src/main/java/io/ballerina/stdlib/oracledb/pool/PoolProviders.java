@@ -0,0 +1,66 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.stdlib.oracledb.pool;
+
+import io.ballerina.stdlib.sql.exception.DataError;
+
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This class holds the connection pool providers known to the module.
+ *
+ * @since 1.0.2
+ */
+public final class PoolProviders {
+
+    private static final Map<String, PoolProvider> providers = loadProviders();
+
+    private PoolProviders() {}
+
+    /**
+     * Get the provider of the given name.
+     * @param name name of the provider
+     * @return connection pool provider
+     * @throws DataError if there is no provider of the name, or if it cannot be used
+     */
+    public static PoolProvider get(String name) throws DataError {
+        PoolProvider provider = providers.get(name);
+        if (provider == null) {
+            throw new DataError(String.format("Connection pool provider '%s' is not found. The available providers " +
+                    "are %s.", name, providers.keySet()));
+        }
+        if (!provider.isAvailable()) {
+            throw new DataError(String.format("Connection pool provider '%s' cannot be used, as the libraries it " +
+                    "needs are not on the classpath.", name));
+        }
+        return provider;
+    }
+
+    private static Map<String, PoolProvider> loadProviders() {
+        Map<String, PoolProvider> providers = new ConcurrentHashMap<>();
+        for (PoolProvider provider : new PoolProvider[]{new DefaultPoolProvider(), new UcpPoolProvider()}) {
+            providers.put(provider.getName(), provider);
+        }
+        for (PoolProvider provider : ServiceLoader.load(PoolProvider.class, PoolProvider.class.getClassLoader())) {
+            providers.putIfAbsent(provider.getName(), provider);
+        }
+        return providers;
+    }
+}
@@ -0,0 +1,311 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.stdlib.oracledb.pool;
+
+import oracle.jdbc.OracleConnection;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * This class wraps a physical connection of a client with session initialization statements, so that the session
+ * settings changed by a checkout of the connection are not seen by the next checkout. Every statement prepared on the
+ * connection is inspected, which covers the statements of all the remote functions of the client, including `call`.
+ *
+ * A change is restored in place when the next checkout prepares its first statement or begins a transaction. The
+ * package states and the client identifier are reset, the NLS parameters, the time zone and the current schema are set
+ * back to their values before the first change, and the session initialization statements are run again. A statement
+ * which changes any other session setting, such as an optimizer parameter, cannot be restored in place, hence the
+ * connection is replaced by a new one, which is the case as well if the settings cannot be restored.
+ *
+ * The connection pool clears the warnings of a connection when the connection is returned to it, which marks the end
+ * of a checkout. Changes made within a checkout, such as within a transaction, are kept until it ends.
+ *
+ * @since 1.0.2
+ */
+class SessionConnection implements InvocationHandler {
+
+    // Statements which change the session settings, with the changed parameter or the called procedure.
+    private static final Pattern SESSION_CHANGE = Pattern.compile(
+            "\\bALTER\\s+SESSION\\s+(\\w+)(?:\\s+(\\w+))?|\\bDBMS_SESSION\\s*\\.\\s*(\\w+)", Pattern.CASE_INSENSITIVE);
+    // PL/SQL blocks and procedure calls may change the session settings without naming them.
+    private static final Pattern PLSQL_STATEMENT = Pattern.compile("^\\s*(BEGIN|DECLARE|CALL)\\b",
+            Pattern.CASE_INSENSITIVE);
+    private static final Pattern RESTORED_PARAMETER = Pattern.compile("NLS_\\w+|TIME_ZONE|CURRENT_SCHEMA",
+            Pattern.CASE_INSENSITIVE);
+    private static final Pattern RESTORED_PROCEDURE = Pattern.compile(
+            "SET_NLS|SET_IDENTIFIER|CLEAR_IDENTIFIER|RESET_PACKAGE|MODIFY_PACKAGE_STATE", Pattern.CASE_INSENSITIVE);
+    private static final String SESSION_PARAMETERS_QUERY = "SELECT PARAMETER, VALUE FROM NLS_SESSION_PARAMETERS " +
+            "UNION ALL SELECT 'TIME_ZONE', SESSIONTIMEZONE FROM DUAL " +
+            "UNION ALL SELECT 'CURRENT_SCHEMA', SYS_CONTEXT('USERENV', 'CURRENT_SCHEMA') FROM DUAL";
+    // The package states are reset when the call which resets them completes, hence before the settings are restored.
+    private static final String RESET_SESSION = "BEGIN DBMS_SESSION.RESET_PACKAGE; DBMS_SESSION.CLEAR_IDENTIFIER; END;";
+
+    private final ConnectionFactory connectionFactory;
+    private final String initializationBlock;
+    private final boolean isPooled;
+    // Settings of the connection set by the connection pool, which are applied to a replacement of the connection.
+    private final Map<Method, Object[]> settings = new LinkedHashMap<>();
+    private Connection connection;
+    private String restoreBlock;
+    private Change change = Change.NONE;
+    private boolean isReturned = false;
+
+    private SessionConnection(ConnectionFactory connectionFactory, String initializationBlock, boolean isPooled)
+            throws SQLException {
+        this.connectionFactory = connectionFactory;
+        this.initializationBlock = initializationBlock;
+        this.isPooled = isPooled;
+        this.connection = initialize(connectionFactory.open());
+    }
+
+    /**
+     * Open a connection and run the session initialization statements on it.
+     * @param connectionFactory factory which opens the connection
+     * @param initializationBlock statement which runs all the session initialization statements
+     * @param isPooled whether the connection is borrowed from another pool, in which case a connection with changed
+     *                 settings is aborted rather than returned to that pool
+     * @return connection which restores the session settings changed by a checkout
+     * @throws SQLException if the connection cannot be opened or initialized
+     */
+    static Connection open(ConnectionFactory connectionFactory, String initializationBlock, boolean isPooled)
+            throws SQLException {
+        SessionConnection session = new SessionConnection(connectionFactory, initializationBlock, isPooled);
+        Class<?> connectionInterface = session.connection instanceof OracleConnection ?
+                OracleConnection.class : Connection.class;
+        return (Connection) Proxy.newProxyInstance(SessionConnection.class.getClassLoader(),
+                new Class<?>[]{connectionInterface}, session);
+    }
+
+    /**
+     * Create a single statement which runs all the given statements in order.
+     * @param statements session statements
+     * @return PL/SQL block which executes the statements in order
+     */
+    static String createBlock(String[] statements) {
+        StringBuilder block = new StringBuilder("BEGIN ");
+        for (String statement : statements) {
+            appendStatement(block, statement);
+        }
+        return block.append("END;").toString();
+    }
+
+    private static void appendStatement(StringBuilder block, String statement) {
+        String trimmed = statement.trim();
+        if (trimmed.endsWith(";")) {
+            trimmed = trimmed.substring(0, trimmed.length() - 1);
+        }
+        block.append("EXECUTE IMMEDIATE '").append(trimmed.replace("'", "''")).append("'; ");
+    }
+
+    private static Change getChange(String sqlQuery, boolean isCall) {
+        Change change = isCall || PLSQL_STATEMENT.matcher(sqlQuery).find() ? Change.RESTORABLE : Change.NONE;
+        Matcher matcher = SESSION_CHANGE.matcher(sqlQuery);
+        while (matcher.find()) {
+            boolean isRestorable = matcher.group(3) != null ? RESTORED_PROCEDURE.matcher(matcher.group(3)).matches() :
+                    "SET".equalsIgnoreCase(matcher.group(1)) && matcher.group(2) != null &&
+                            RESTORED_PARAMETER.matcher(matcher.group(2)).matches();
+            if (!isRestorable) {
+                return Change.NEW_SESSION;
+            }
+            change = Change.RESTORABLE;
+        }
+        return change;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        switch (method.getName()) {
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "unwrap":
+                return ((Class<?>) args[0]).isInstance(proxy) ? proxy : connection.unwrap((Class<?>) args[0]);
+            case "isWrapperFor":
+                return ((Class<?>) args[0]).isInstance(proxy) || connection.isWrapperFor((Class<?>) args[0]);
+            case "clearWarnings":
+                isReturned = true;
+                break;
+            case "close":
+                if (change != Change.NONE && isPooled) {
+                    discard(connection);
+                    return null;
+                }
+                break;
+            case "setAutoCommit":
+            case "createStatement":
+                restoreIfReturned();
+                break;
+            case "prepareStatement":
+            case "prepareCall":
+                restoreIfReturned();
+                if (args != null && args.length > 0 && args[0] instanceof String) {
+                    recordChange(getChange((String) args[0], method.getName().equals("prepareCall")));
+                }
+                break;
+            default:
+                break;
+        }
+        if (method.getDeclaringClass() == Connection.class && method.getName().startsWith("set") &&
+                !method.getName().equals("setSavepoint")) {
+            settings.put(method, args);
+        }
+        try {
+            return method.invoke(connection, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void recordChange(Change statementChange) {
+        if (statementChange.compareTo(change) <= 0) {
+            return;
+        }
+        if (statementChange == Change.RESTORABLE && restoreBlock == null) {
+            // The statement is not executed yet, hence the settings are read before the first change. A restored
+            // session has the same settings, so they are read only once for the connection.
+            try {
+                restoreBlock = readSettings();
+            } catch (SQLException e) {
+                statementChange = Change.NEW_SESSION;
+            }
+        }
+        change = statementChange;
+    }
+
+    private void restoreIfReturned() throws SQLException {
+        if (!isReturned) {
+            return;
+        }
+        isReturned = false;
+        Change restoredChange = change;
+        change = Change.NONE;
+        if (restoredChange == Change.RESTORABLE && restoreBlock != null) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(RESET_SESSION);
+                statement.execute(restoreBlock);
+                return;
+            } catch (SQLException e) {
+                // The connection is replaced, as its settings may be restored partially.
+            }
+        }
+        if (restoredChange != Change.NONE) {
+            replace();
+        }
+    }
+
+    /**
+     * Create a block which sets the NLS parameters, the time zone and the current schema of the session to their
+     * current values, and then runs the session initialization statements.
+     */
+    private String readSettings() throws SQLException {
+        List<String> statements = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(SESSION_PARAMETERS_QUERY)) {
+            while (resultSet.next()) {
+                String parameter = resultSet.getString(1);
+                String value = resultSet.getString(2);
+                if (value == null) {
+                    continue;
+                }
+                String statementValue = parameter.equals("CURRENT_SCHEMA") ? "\"" + value + "\"" :
+                        "'" + value.replace("'", "''") + "'";
+                String alterStatement = "ALTER SESSION SET " + parameter + " = " + statementValue;
+                // The language and the territory set the defaults of the other parameters, hence are set first.
+                if (parameter.equals("NLS_LANGUAGE") || parameter.equals("NLS_TERRITORY")) {
+                    statements.add(0, alterStatement);
+                } else {
+                    statements.add(alterStatement);
+                }
+            }
+        }
+        StringBuilder block = new StringBuilder("BEGIN ");
+        for (String statement : statements) {
+            appendStatement(block, statement);
+        }
+        return block.append(initializationBlock).append(" END;").toString();
+    }
+
+    private void replace() throws SQLException {
+        Connection replacement = initialize(connectionFactory.open());
+        try {
+            for (Map.Entry<Method, Object[]> setting : settings.entrySet()) {
+                setting.getKey().invoke(replacement, setting.getValue());
+            }
+        } catch (InvocationTargetException | IllegalAccessException e) {
+            discard(replacement);
+            Throwable cause = e instanceof InvocationTargetException ? e.getCause() : e;
+            throw cause instanceof SQLException ? (SQLException) cause :
+                    new SQLException("Error while replacing a connection with changed session settings.", cause);
+        }
+        discard(connection);
+        connection = replacement;
+        restoreBlock = null;
+    }
+
+    private Connection initialize(Connection newConnection) throws SQLException {
+        try (Statement statement = newConnection.createStatement()) {
+            statement.execute(initializationBlock);
+        } catch (SQLException e) {
+            discard(newConnection);
+            throw e;
+        }
+        return newConnection;
+    }
+
+    private void discard(Connection discardedConnection) {
+        try {
+            if (isPooled) {
+                // The session is not returned to the pool it is borrowed from with changed settings.
+                discardedConnection.abort(Runnable::run);
+            } else {
+                discardedConnection.close();
+            }
+        } catch (SQLException ignored) {
+            // The connection is already closed.
+        }
+    }
+
+    /**
+     * Factory which opens the physical connections.
+     */
+    interface ConnectionFactory {
+        Connection open() throws SQLException;
+    }
+
+    /**
+     * Session settings changed by a checkout, ordered by the extent of the change.
+     */
+    private enum Change {
+        NONE, RESTORABLE, NEW_SESSION
+    }
+}
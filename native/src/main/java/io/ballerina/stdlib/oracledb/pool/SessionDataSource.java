@@ -0,0 +1,143 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.stdlib.oracledb.pool;
+
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.oracledb.Constants;
+import oracle.jdbc.pool.OracleDataSource;
+
+import java.io.PrintWriter;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Properties;
+import java.util.logging.Logger;
+import javax.sql.DataSource;
+
+/**
+ * This class is the data source with which the connection pool of a client with session initialization statements
+ * creates its connections when the `default` pool provider is selected. The connections are opened by an Oracle data
+ * source, the statements are run on each new connection, and the session settings changed by a checkout of a
+ * connection are restored before the next checkout uses it, as described in {@link SessionConnection}.
+ *
+ * The session initialization statements are passed in the connection properties and removed before they reach the
+ * driver, so that the clients with different statements do not share a connection pool.
+ *
+ * @since 1.0.2
+ */
+public class SessionDataSource implements DataSource {
+
+    static final String SESSION_INIT = "ballerina.oracledb.sessionInit";
+
+    private final OracleDataSource dataSource;
+    private String initializationBlock;
+
+    public SessionDataSource() throws SQLException {
+        dataSource = new OracleDataSource();
+    }
+
+    /**
+     * Pass the session initialization statements of a client in its connection properties.
+     * @param options options of the client
+     * @param connectionProperties connection properties set on the data source
+     * @return true if the client has session initialization statements
+     */
+    static boolean configure(BMap<BString, Object> options, Properties connectionProperties) {
+        BArray sessionInit = options.getArrayValue(Constants.Options.SESSION_INIT);
+        if (sessionInit == null || sessionInit.size() == 0) {
+            return false;
+        }
+        connectionProperties.put(SESSION_INIT, SessionConnection.createBlock(sessionInit.getStringArray()));
+        return true;
+    }
+
+    public void setUrl(String url) {
+        dataSource.setURL(url);
+    }
+
+    public void setUser(String user) {
+        dataSource.setUser(user);
+    }
+
+    public void setPassword(String password) {
+        dataSource.setPassword(password);
+    }
+
+    public void setConnectionProperties(Properties properties) throws SQLException {
+        Properties connectionProperties = new Properties();
+        if (properties != null) {
+            connectionProperties.putAll(properties);
+        }
+        initializationBlock = (String) connectionProperties.remove(SESSION_INIT);
+        dataSource.setConnectionProperties(connectionProperties);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (initializationBlock == null) {
+            return dataSource.getConnection();
+        }
+        return SessionConnection.open(dataSource::getConnection, initializationBlock, false);
+    }
+
+    @Override
+    public Connection getConnection(String user, String password) throws SQLException {
+        if (initializationBlock == null) {
+            return dataSource.getConnection(user, password);
+        }
+        return SessionConnection.open(() -> dataSource.getConnection(user, password), initializationBlock, false);
+    }
+
+    @Override
+    public PrintWriter getLogWriter() throws SQLException {
+        return dataSource.getLogWriter();
+    }
+
+    @Override
+    public void setLogWriter(PrintWriter out) throws SQLException {
+        dataSource.setLogWriter(out);
+    }
+
+    @Override
+    public void setLoginTimeout(int seconds) {
+        dataSource.setLoginTimeout(seconds);
+    }
+
+    @Override
+    public int getLoginTimeout() {
+        return dataSource.getLoginTimeout();
+    }
+
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        return dataSource.getParentLogger();
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        return iface.isInstance(this) ? iface.cast(this) : dataSource.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || dataSource.isWrapperFor(iface);
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.stdlib.oracledb.pool;
+
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+import javax.sql.DataSource;
+
+/**
+ * This class is the data source with which the connection pool of a client creates its connections when the `ucp`
+ * pool provider is selected. The connections are borrowed from a Universal Connection Pool data source, and are
+ * returned to it when they are retired from the connection pool of the client, so that the connections of long-running
+ * clients are rebalanced across the instances of a RAC database as they are recycled.
+ *
+ * The UCP library is an optional dependency, hence its pool data source is configured reflectively. The UCP options
+ * of the client are passed in the connection properties and removed before they reach the driver. The UCP pool of a
+ * client is destroyed when the client is closed.
+ *
+ * The sessions of UCP outlive the connections of the client, hence the session initialization statements of the client
+ * are run on each borrowed connection, and a connection with session settings changed by the client is aborted
+ * instead of being returned to UCP, as described in {@link SessionConnection}.
+ *
+ * @since 1.0.2
+ */
+public class UcpDataSource implements DataSource, AutoCloseable {
+
+    static final String FAST_CONNECTION_FAILOVER = "ballerina.oracledb.ucp.fastConnectionFailover";
+    static final String ONS_CONFIGURATION = "ballerina.oracledb.ucp.onsConfiguration";
+    static final String MAX_POOL_SIZE = "ballerina.oracledb.ucp.maxPoolSize";
+    static final String POOL_NAME = "ballerina.oracledb.ucp.poolName";
+    private static final String CONNECTION_FACTORY_CLASS = "oracle.jdbc.pool.OracleDataSource";
+    private static final String POOL_MANAGER = "oracle.ucp.admin.UniversalConnectionPoolManagerImpl";
+    private static final Map<String, UcpDataSource> dataSources = new ConcurrentHashMap<>();
+
+    private final DataSource dataSource;
+    private String poolName;
+    private String initializationBlock;
+    private volatile boolean isPoolStarted = false;
+
+    public UcpDataSource() throws SQLException {
+        try {
+            Class<?> factory = Class.forName(UcpPoolProvider.POOL_DATA_SOURCE_FACTORY, true,
+                    UcpDataSource.class.getClassLoader());
+            dataSource = (DataSource) factory.getMethod("getPoolDataSource").invoke(null);
+        } catch (ReflectiveOperationException | LinkageError e) {
+            throw new SQLException("Error while creating the UCP data source.", e);
+        }
+        invoke("setConnectionFactoryClassName", String.class, CONNECTION_FACTORY_CLASS);
+        // Idle connections are held by the connection pool of the client rather than by UCP.
+        invoke("setMinPoolSize", int.class, 0);
+    }
+
+    public void setUrl(String url) throws SQLException {
+        invoke("setURL", String.class, url);
+    }
+
+    public void setUser(String user) throws SQLException {
+        invoke("setUser", String.class, user);
+    }
+
+    public void setPassword(String password) throws SQLException {
+        invoke("setPassword", String.class, password);
+    }
+
+    public void setConnectionProperties(Properties properties) throws SQLException {
+        Properties connectionProperties = new Properties();
+        if (properties != null) {
+            connectionProperties.putAll(properties);
+        }
+        invoke("setFastConnectionFailoverEnabled", boolean.class,
+                Boolean.parseBoolean(connectionProperties.getProperty(FAST_CONNECTION_FAILOVER, "true")));
+        String onsConfiguration = (String) connectionProperties.remove(ONS_CONFIGURATION);
+        if (onsConfiguration != null) {
+            invoke("setONSConfiguration", String.class, onsConfiguration);
+        }
+        String maxPoolSize = (String) connectionProperties.remove(MAX_POOL_SIZE);
+        if (maxPoolSize != null) {
+            invoke("setMaxPoolSize", int.class, Integer.parseInt(maxPoolSize));
+        }
+        String name = (String) connectionProperties.remove(POOL_NAME);
+        if (name != null) {
+            invoke("setConnectionPoolName", String.class, name);
+            poolName = name;
+            dataSources.put(name, this);
+        }
+        initializationBlock = (String) connectionProperties.remove(SessionDataSource.SESSION_INIT);
+        connectionProperties.remove(FAST_CONNECTION_FAILOVER);
+        invoke("setConnectionProperties", Properties.class, connectionProperties);
+    }
+
+    /**
+     * Destroy the UCP pool of the given name, if its data source is created.
+     * @param poolName name of the UCP pool
+     */
+    static void close(String poolName) {
+        UcpDataSource ucpDataSource = poolName == null ? null : dataSources.get(poolName);
+        if (ucpDataSource != null) {
+            ucpDataSource.close();
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        isPoolStarted = true;
+        if (initializationBlock == null) {
+            return dataSource.getConnection();
+        }
+        return SessionConnection.open(dataSource::getConnection, initializationBlock, true);
+    }
+
+    @Override
+    public Connection getConnection(String user, String password) throws SQLException {
+        isPoolStarted = true;
+        if (initializationBlock == null) {
+            return dataSource.getConnection(user, password);
+        }
+        return SessionConnection.open(() -> dataSource.getConnection(user, password), initializationBlock, true);
+    }
+
+    /**
+     * Destroy the UCP pool, closing the connections left in it. The pool is created by UCP when the first connection
+     * is borrowed, hence nothing is done if no connection is borrowed.
+     */
+    @Override
+    public void close() {
+        if (poolName == null || !dataSources.remove(poolName, this) || !isPoolStarted) {
+            return;
+        }
+        try {
+            Object poolManager = Class.forName(POOL_MANAGER, true, UcpDataSource.class.getClassLoader())
+                    .getMethod("getUniversalConnectionPoolManager").invoke(null);
+            poolManager.getClass().getMethod("destroyConnectionPool", String.class).invoke(poolManager, poolName);
+        } catch (ReflectiveOperationException | LinkageError ignored) {
+            // The pool is already destroyed, or is not created as no connection could be borrowed.
+        }
+    }
+
+    @Override
+    public PrintWriter getLogWriter() throws SQLException {
+        return dataSource.getLogWriter();
+    }
+
+    @Override
+    public void setLogWriter(PrintWriter out) throws SQLException {
+        dataSource.setLogWriter(out);
+    }
+
+    @Override
+    public void setLoginTimeout(int seconds) throws SQLException {
+        dataSource.setLoginTimeout(seconds);
+    }
+
+    @Override
+    public int getLoginTimeout() throws SQLException {
+        return dataSource.getLoginTimeout();
+    }
+
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        return dataSource.getParentLogger();
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        return iface.isInstance(this) ? iface.cast(this) : dataSource.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || dataSource.isWrapperFor(iface);
+    }
+
+    private void invoke(String name, Class<?> parameterType, Object value) throws SQLException {
+        try {
+            Method method = dataSource.getClass().getMethod(name, parameterType);
+            method.invoke(dataSource, value);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof SQLException) {
+                throw (SQLException) e.getCause();
+            }
+            throw new SQLException("Error while configuring the UCP data source.", e.getCause());
+        } catch (ReflectiveOperationException e) {
+            throw new SQLException("Error while configuring the UCP data source.", e);
+        }
+    }
+}
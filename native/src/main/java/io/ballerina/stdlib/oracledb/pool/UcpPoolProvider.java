@@ -0,0 +1,126 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.stdlib.oracledb.pool;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.oracledb.Constants;
+import io.ballerina.stdlib.sql.exception.DataError;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class provides the connections of the connection pool from the Oracle Universal Connection Pool (UCP), which
+ * balances the connections across the instances of a RAC database with the runtime load balancing advisories of the
+ * database and aborts the connections to a failed instance with fast connection failover. It can be used when the UCP
+ * library is on the classpath, and fast connection failover needs the ONS library as well.
+ *
+ * The runtime load balancing advisories are applied only when a connection is borrowed from UCP, while the connection
+ * pool of the client holds its connections until they are retired. Hence, the pool of the client keeps no idle
+ * connections and retires its connections within {@link #MAX_CONNECTION_LIFE_TIME} seconds, so that they are
+ * borrowed again from UCP. Fast connection failover aborts the connections held by the pool of the client as well, and
+ * the pool replaces them when they fail their next use.
+ *
+ * @since 1.0.2
+ */
+public class UcpPoolProvider implements PoolProvider {
+
+    public static final String NAME = "ucp";
+    static final String POOL_DATA_SOURCE_FACTORY = "oracle.ucp.jdbc.PoolDataSourceFactory";
+    static final String ONS = "oracle.ons.ONS";
+    static final long MAX_CONNECTION_LIFE_TIME = 60;
+    // The connection pool of the client does not accept a shorter life time of the connections.
+    private static final long MIN_CONNECTION_LIFE_TIME = 30;
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return isClassAvailable(POOL_DATA_SOURCE_FACTORY);
+    }
+
+    @Override
+    public String configure(BMap<BString, Object> options, Properties connectionProperties, int maxOpenConnections)
+            throws DataError {
+        BMap ucp = options.getMapValue(Constants.Options.UCP);
+        Object fastConnectionFailoverOption = ucp == null ? null : ucp.get(Constants.Ucp.FAST_CONNECTION_FAILOVER);
+        boolean isOnsAvailable = isClassAvailable(ONS);
+        boolean fastConnectionFailover = fastConnectionFailoverOption == null ?
+                isOnsAvailable : (Boolean) fastConnectionFailoverOption;
+        if (fastConnectionFailover && !isOnsAvailable) {
+            throw new DataError("UCP fast connection failover needs the Oracle Notification Service (ONS) library " +
+                    "on the classpath.");
+        }
+        connectionProperties.put(UcpDataSource.POOL_NAME, "ballerina-oracledb-" + UUID.randomUUID());
+        connectionProperties.put(UcpDataSource.FAST_CONNECTION_FAILOVER, String.valueOf(fastConnectionFailover));
+        if (ucp != null && ucp.containsKey(Constants.Ucp.ONS_CONFIGURATION)) {
+            String onsConfiguration = ucp.getStringValue(Constants.Ucp.ONS_CONFIGURATION).getValue().trim();
+            if (onsConfiguration.isEmpty()) {
+                throw new DataError("UCP ONS configuration cannot be empty.");
+            }
+            connectionProperties.put(UcpDataSource.ONS_CONFIGURATION, onsConfiguration);
+        }
+        if (maxOpenConnections > 0) {
+            connectionProperties.put(UcpDataSource.MAX_POOL_SIZE, String.valueOf(maxOpenConnections));
+        }
+        SessionDataSource.configure(options, connectionProperties);
+        return UcpDataSource.class.getName();
+    }
+
+    @Override
+    public BMap<BString, Object> configurePool(BMap<BString, Object> connectionPool, Properties poolProperties) {
+        BMap<BString, Object> pool = (BMap<BString, Object>) connectionPool.copy(new HashMap<>());
+        long lifeTime = MAX_CONNECTION_LIFE_TIME;
+        Object lifeTimeOption = pool.get(Constants.ConnectionPool.MAX_CONNECTION_LIFE_TIME);
+        if (lifeTimeOption instanceof BDecimal) {
+            long configuredLifeTime = (long) ((BDecimal) lifeTimeOption).floatValue();
+            if (configuredLifeTime > 0 && configuredLifeTime < lifeTime) {
+                lifeTime = Math.max(configuredLifeTime, MIN_CONNECTION_LIFE_TIME);
+            }
+        }
+        pool.put(Constants.ConnectionPool.MIN_IDLE_CONNECTIONS, 0L);
+        pool.put(Constants.ConnectionPool.MAX_CONNECTION_LIFE_TIME,
+                ValueCreator.createDecimalValue(BigDecimal.valueOf(lifeTime)));
+        poolProperties.put(Constants.Pool.MINIMUM_IDLE, 0);
+        poolProperties.put(Constants.Pool.MAX_LIFETIME, TimeUnit.SECONDS.toMillis(lifeTime));
+        return pool;
+    }
+
+    @Override
+    public void close(Properties connectionProperties) {
+        UcpDataSource.close(connectionProperties.getProperty(UcpDataSource.POOL_NAME));
+    }
+
+    private static boolean isClassAvailable(String className) {
+        try {
+            Class.forName(className, false, UcpPoolProvider.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+}
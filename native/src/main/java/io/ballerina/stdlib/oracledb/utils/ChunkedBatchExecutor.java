@@ -0,0 +1,237 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.stdlib.oracledb.utils;
+
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.stdlib.oracledb.parameterprocessor.OracleDBStatementParameterProcessor;
+import io.ballerina.stdlib.sql.datasource.SQLDatasource;
+import io.ballerina.stdlib.sql.exception.DataError;
+
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This class executes a batch of parameterized queries in chunks, optionally in parallel on separate pooled
+ * connections. Rows that fail are skipped and reported by their index instead of failing the whole batch.
+ *
+ * @since 1.0.2
+ */
+public class ChunkedBatchExecutor {
+
+    private static final String CONNECTION_EXCEPTION_SQL_STATE_CLASS = "08";
+    private static final String SAVEPOINT_NAME = "BALLERINA_BATCH_CHUNK";
+
+    private final OracleDBStatementParameterProcessor statementParameterProcessor;
+    private final String sqlQuery;
+    private final BArray paramSQLStrings;
+    private final int chunkSize;
+    private final int chunkCount;
+    private final boolean commitPerChunk;
+    private final AtomicInteger nextChunk = new AtomicInteger();
+    private final AtomicLong affectedRowCount = new AtomicLong();
+    private final Queue<Integer> failedIndexes = new ConcurrentLinkedQueue<>();
+    private volatile boolean aborted = false;
+    private volatile boolean unknownRowCount = false;
+
+    public ChunkedBatchExecutor(OracleDBStatementParameterProcessor statementParameterProcessor, String sqlQuery,
+                                BArray paramSQLStrings, int chunkSize, boolean commitPerChunk) {
+        this.statementParameterProcessor = statementParameterProcessor;
+        this.sqlQuery = sqlQuery;
+        this.paramSQLStrings = paramSQLStrings;
+        this.chunkSize = chunkSize;
+        this.chunkCount = (paramSQLStrings.size() + chunkSize - 1) / chunkSize;
+        this.commitPerChunk = commitPerChunk;
+    }
+
+    /**
+     * Return the number of connections used to execute the chunks with the given parallelism.
+     * @param parallelism maximum number of connections used concurrently
+     * @return number of connections used
+     */
+    public int getWorkerCount(int parallelism) {
+        return Math.max(1, Math.min(parallelism, chunkCount));
+    }
+
+    /**
+     * Execute the chunks on a connection taken from the pool. The connection is committed after each chunk if
+     * `commitPerChunk` is set, or once after all of its chunks are executed otherwise.
+     * @param datasource datasource of the client
+     * @throws SQLException if a chunk fails with an error other than a row level failure
+     * @throws DataError if a parameter cannot be bound
+     */
+    public void execute(SQLDatasource datasource) throws SQLException, DataError {
+        try (Connection connection = datasource.getSQLConnection()) {
+            executeChunks(connection, true);
+        }
+    }
+
+    /**
+     * Execute the chunks concurrently on connections taken from the pool, without blocking the calling thread.
+     * @param datasource datasource of the client
+     * @param parallelism maximum number of connections used concurrently
+     * @return future which is completed when all the chunks are executed, or completed exceptionally with the error
+     *         of a chunk which failed with an error other than a row level failure
+     */
+    public CompletableFuture<Void> executeAsync(SQLDatasource datasource, int parallelism) {
+        CompletableFuture<?>[] workers = new CompletableFuture<?>[getWorkerCount(parallelism)];
+        for (int i = 0; i < workers.length; i++) {
+            workers[i] = CompletableFuture.runAsync(() -> {
+                try {
+                    execute(datasource);
+                } catch (SQLException | DataError e) {
+                    throw new CompletionException(e);
+                }
+            }, Utils.getWorkerExecutor());
+        }
+        return CompletableFuture.allOf(workers);
+    }
+
+    /**
+     * Execute all chunks on the connection of the current transaction, leaving the commit to the transaction.
+     * @param connection connection of the current transaction
+     * @throws SQLException if a chunk fails with an error other than a row level failure
+     * @throws DataError if a parameter cannot be bound
+     */
+    public void executeInTransaction(Connection connection) throws SQLException, DataError {
+        executeChunks(connection, false);
+    }
+
+    /**
+     * @return total number of rows affected by the batch, or null if the driver reported rows which succeeded
+     *         without their counts
+     */
+    public Long getAffectedRowCount() {
+        return unknownRowCount ? null : affectedRowCount.get();
+    }
+
+    public long[] getFailedIndexes() {
+        long[] indexes = failedIndexes.stream().mapToLong(Integer::longValue).toArray();
+        Arrays.sort(indexes);
+        return indexes;
+    }
+
+    private void executeChunks(Connection connection, boolean manageCommit) throws SQLException, DataError {
+        boolean autoCommit = connection.getAutoCommit();
+        if (manageCommit && autoCommit) {
+            connection.setAutoCommit(false);
+        }
+        try (PreparedStatement statement = connection.prepareStatement(sqlQuery)) {
+            int chunk;
+            while (!aborted && (chunk = nextChunk.getAndIncrement()) < chunkCount) {
+                int start = chunk * chunkSize;
+                executeChunk(connection, statement, start, Math.min(start + chunkSize, paramSQLStrings.size()));
+                if (manageCommit && commitPerChunk) {
+                    connection.commit();
+                }
+            }
+            if (manageCommit && !commitPerChunk) {
+                if (aborted) {
+                    connection.rollback();
+                } else {
+                    connection.commit();
+                }
+            }
+        } catch (SQLException | DataError | RuntimeException e) {
+            aborted = true;
+            if (manageCommit) {
+                connection.rollback();
+            }
+            throw e;
+        } finally {
+            if (manageCommit && autoCommit) {
+                connection.setAutoCommit(true);
+            }
+        }
+    }
+
+    private void executeChunk(Connection connection, PreparedStatement statement, int start, int end)
+            throws SQLException, DataError {
+        int next = start;
+        while (next < end) {
+            for (int i = next; i < end; i++) {
+                statementParameterProcessor.setParams(connection, statement, (BObject) paramSQLStrings.get(i));
+                statement.addBatch();
+            }
+            // Each attempt takes a savepoint, as the rows of the earlier attempts of the chunk are already counted and
+            // must not be rolled back. The database replaces an earlier savepoint of the same name, hence a
+            // connection holds only one savepoint at a time. Oracle does not support releasing savepoints, which end
+            // with the transaction.
+            Savepoint savepoint = connection.setSavepoint(SAVEPOINT_NAME);
+            try {
+                addAffectedRowCounts(statement.executeBatch());
+                next = end;
+            } catch (BatchUpdateException e) {
+                statement.clearBatch();
+                int[] updateCounts = e.getUpdateCounts();
+                int processed = updateCounts == null ? 0 : updateCounts.length;
+                if (processed < end - next) {
+                    // The driver stopped at the first failed row, hence the rows before it are executed.
+                    addAffectedRowCounts(updateCounts);
+                    failedIndexes.add(next + processed);
+                    next = next + processed + 1;
+                } else {
+                    // The failed rows cannot be identified, hence the chunk is executed again row by row.
+                    connection.rollback(savepoint);
+                    executeRowByRow(connection, statement, next, end);
+                    next = end;
+                }
+            }
+        }
+    }
+
+    private void executeRowByRow(Connection connection, PreparedStatement statement, int start, int end)
+            throws SQLException, DataError {
+        for (int i = start; i < end; i++) {
+            statementParameterProcessor.setParams(connection, statement, (BObject) paramSQLStrings.get(i));
+            try {
+                affectedRowCount.addAndGet(statement.executeUpdate());
+            } catch (SQLException e) {
+                String sqlState = e.getSQLState();
+                if (sqlState != null && sqlState.startsWith(CONNECTION_EXCEPTION_SQL_STATE_CLASS)) {
+                    throw e;
+                }
+                failedIndexes.add(i);
+            }
+        }
+    }
+
+    private void addAffectedRowCounts(int[] updateCounts) {
+        long count = 0;
+        for (int updateCount : updateCounts) {
+            if (updateCount > 0) {
+                count += updateCount;
+            } else if (updateCount == Statement.SUCCESS_NO_INFO) {
+                unknownRowCount = true;
+            }
+        }
+        affectedRowCount.addAndGet(count);
+    }
+}
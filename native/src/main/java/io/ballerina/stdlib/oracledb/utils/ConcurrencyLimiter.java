@@ -0,0 +1,218 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.stdlib.oracledb.utils;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.Future;
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.stdlib.oracledb.Constants;
+import io.ballerina.stdlib.sql.exception.DataError;
+import io.ballerina.stdlib.sql.utils.ErrorGenerator;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * This class limits the number of database calls of a client in flight with an additive increase, multiplicative
+ * decrease (AIMD) limit. The limit grows by one for each limit's worth of calls completed within the latency threshold
+ * while the limit is in use, and shrinks by the backoff ratio for each call slower than the threshold. Calls beyond
+ * the limit are rejected right away with a `ConcurrencyLimitError` instead of waiting for a connection.
+ *
+ * Bulk calls, such as exports, imports, upserts, chunked batches and procedure calls, take a slot of the limit but do
+ * not adapt it, as their latency depends on the amount of data they process rather than on the load of the database.
+ *
+ * @since 1.0.2
+ */
+public class ConcurrencyLimiter {
+
+    private final double minLimit;
+    private final double maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+    private double limit;
+    private int inFlight = 0;
+
+    /**
+     * Create a limiter with the given configuration.
+     * @param config concurrency limit options of the client
+     * @throws DataError if the configuration is not valid
+     */
+    public ConcurrencyLimiter(BMap<?, ?> config) throws DataError {
+        long initialLimit = (Long) config.get(Constants.ConcurrencyLimit.INITIAL_LIMIT);
+        long minLimit = (Long) config.get(Constants.ConcurrencyLimit.MIN_LIMIT);
+        long maxLimit = (Long) config.get(Constants.ConcurrencyLimit.MAX_LIMIT);
+        long latencyThreshold =
+                Utils.getTimeoutInMilliSeconds(config.get(Constants.ConcurrencyLimit.LATENCY_THRESHOLD));
+        double backoffRatio = ((BDecimal) config.get(Constants.ConcurrencyLimit.BACKOFF_RATIO)).floatValue();
+        if (minLimit <= 0 || minLimit > initialLimit || initialLimit > maxLimit) {
+            throw new DataError("Concurrency limit options should satisfy 0 < 'minLimit' <= 'initialLimit' <= " +
+                    "'maxLimit'.");
+        }
+        if (latencyThreshold <= 0 || backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new DataError("Concurrency limit option 'latencyThreshold' should be positive and " +
+                    "'backoffRatio' should be greater than 0 and less than 1.");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = TimeUnit.MILLISECONDS.toNanos(latencyThreshold);
+        this.backoffRatio = backoffRatio;
+        this.limit = initialLimit;
+    }
+
+    /**
+     * Execute the call within the concurrency limit of the client, if the client has one. The latency of the call
+     * adapts the limit.
+     * @param client client object
+     * @param call database call which returns its result or error
+     * @return result of the call, or a concurrency limit error if the limit is reached
+     */
+    public static Object execute(BObject client, Supplier<Object> call) {
+        return execute(client, call, true);
+    }
+
+    /**
+     * Execute the bulk call within the concurrency limit of the client, if the client has one. The call takes a slot
+     * of the limit, but its latency does not adapt the limit.
+     * @param client client object
+     * @param call database call which returns its result or error
+     * @return result of the call, or a concurrency limit error if the limit is reached
+     */
+    public static Object executeBulk(BObject client, Supplier<Object> call) {
+        return execute(client, call, false);
+    }
+
+    /**
+     * Execute the asynchronous bulk call within the concurrency limit of the client, if the client has one. The strand
+     * of the call is suspended until the call completes, instead of blocking its thread.
+     * @param env environment of the call
+     * @param client client object
+     * @param call database call which returns a stage that is completed with its result or error
+     * @return a concurrency limit error if the limit is reached, or null as the result of the call is returned through
+     *         the future of the strand
+     */
+    public static Object executeBulkAsync(Environment env, BObject client, Supplier<CompletionStage<Object>> call) {
+        ConcurrencyLimiter limiter = getLimiter(client);
+        if (limiter != null && !limiter.tryAcquire()) {
+            return limiter.getRejectionError();
+        }
+        Future balFuture = env.markAsync();
+        CompletionStage<Object> stage;
+        try {
+            stage = call.get();
+        } catch (Throwable th) {
+            stage = CompletableFuture.completedFuture(ErrorGenerator.getSQLError(th,
+                    "Error while executing the database call. "));
+        }
+        stage.whenComplete((result, error) -> {
+            if (limiter != null) {
+                limiter.release(0, false);
+            }
+            balFuture.complete(error == null ? result :
+                    ErrorGenerator.getSQLError(error, "Error while executing the database call. "));
+        });
+        return null;
+    }
+
+    /**
+     * Take a slot of the concurrency limit of the client, if the client has one, for a bulk call which continues in
+     * the background after the calling function returns. The latency of the call does not adapt the limit.
+     * @param client client object
+     * @return action which releases the slot when the call completes, or a concurrency limit error if the limit is
+     *         reached
+     */
+    public static Object acquireBulk(BObject client) {
+        ConcurrencyLimiter limiter = getLimiter(client);
+        if (limiter == null) {
+            return (Runnable) () -> { };
+        }
+        if (!limiter.tryAcquire()) {
+            return limiter.getRejectionError();
+        }
+        AtomicBoolean released = new AtomicBoolean(false);
+        return (Runnable) () -> {
+            if (released.compareAndSet(false, true)) {
+                limiter.release(0, false);
+            }
+        };
+    }
+
+    private static Object execute(BObject client, Supplier<Object> call, boolean adapts) {
+        ConcurrencyLimiter limiter = getLimiter(client);
+        if (limiter == null) {
+            return call.get();
+        }
+        if (!limiter.tryAcquire()) {
+            return limiter.getRejectionError();
+        }
+        long start = System.nanoTime();
+        try {
+            return call.get();
+        } finally {
+            limiter.release(System.nanoTime() - start, adapts);
+        }
+    }
+
+    private static ConcurrencyLimiter getLimiter(BObject client) {
+        Object nativeLimiter = client.getNativeData(Constants.NativeData.CONCURRENCY_LIMITER);
+        return nativeLimiter instanceof ConcurrencyLimiter ? (ConcurrencyLimiter) nativeLimiter : null;
+    }
+
+    /**
+     * Get the current limit of calls in flight.
+     * @return current limit
+     */
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    private BError getRejectionError() {
+        return ErrorCreator.createDistinctError(Constants.ConcurrencyLimit.ERROR, ModuleUtils.getModule(),
+                StringUtils.fromString(String.format("Database call rejected as the client has reached its " +
+                        "concurrency limit of %d calls in flight.", getLimit())));
+    }
+
+    private synchronized boolean tryAcquire() {
+        if (inFlight >= (int) limit) {
+            return false;
+        }
+        inFlight++;
+        return true;
+    }
+
+    private synchronized void release(long latencyNanos, boolean adapts) {
+        // The limit is only raised while it is in use, so that it does not grow without being tested.
+        boolean isLimited = inFlight * 2 >= limit;
+        inFlight--;
+        if (!adapts) {
+            return;
+        }
+        if (latencyNanos > latencyThresholdNanos) {
+            limit = Math.max(minLimit, limit * backoffRatio);
+        } else if (isLimited) {
+            limit = Math.min(maxLimit, limit + 1 / limit);
+        }
+    }
+}
@@ -143,6 +143,29 @@ public class ConverterUtils {
         return Utils.getOracleConnection(connection).createARRAY(name, varray);
     }
 
+    /**
+     * Convert the elements of a NumberList or a StringList value to an Oracle collection.
+     * @param connection connection on which the collection is bound
+     * @param elements elements of the list
+     * @param typeName name of the collection type
+     * @return Oracle collection of the elements
+     * @throws SQLException if the collection type does not exist or does not accept the elements
+     */
+    public static Array convertList(Connection connection, BArray elements, String typeName) throws SQLException {
+        Object[] values = new Object[elements.size()];
+        for (int i = 0; i < values.length; i++) {
+            Object element = elements.get(i);
+            if (element instanceof BDecimal) {
+                values[i] = ((BDecimal) element).decimalValue();
+            } else if (element instanceof BString) {
+                values[i] = ((BString) element).getValue();
+            } else {
+                values[i] = element;
+            }
+        }
+        return Utils.getOracleConnection(connection).createOracleArray(typeName, values);
+    }
+
     private static Map<String, Object> getRecordData(Object value, String sqlType)
             throws DataError {
         Type type = TypeUtils.getType(value);
@@ -0,0 +1,229 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.stdlib.oracledb.utils;
+
+import oracle.sql.ZONEIDMAP;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneRules;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This class decodes the binary representation of Oracle `DATE`, `TIMESTAMP`, `TIMESTAMP WITH TIME ZONE` and
+ * `TIMESTAMP WITH LOCAL TIME ZONE` values into their local date-time fields and UTC offset, without going through
+ * `java.sql.Timestamp`, `Calendar` or string conversions. The rules of time zone regions are resolved once and cached.
+ *
+ * @since 1.0.2
+ */
+public class DateTimeDecoder {
+
+    private static final int SECONDS_PER_DAY = 86400;
+    private static final int REGION_ID_FLAG = 0x80;
+    private static final int OFFSET_HOUR_BIAS = 20;
+    private static final int OFFSET_MINUTE_BIAS = 60;
+    private static final ZoneRules UNRESOLVED_REGION = ZoneRules.of(ZoneOffset.UTC);
+    private static final Map<Integer, ZoneRules> regionRules = new ConcurrentHashMap<>();
+    private static final Map<String, ZoneRules> zoneRules = new ConcurrentHashMap<>();
+
+    private int year;
+    private int month;
+    private int day;
+    private int hour;
+    private int minute;
+    private int second;
+    private int nanos;
+    private int offsetSeconds;
+
+    /**
+     * Decode a `DATE` or `TIMESTAMP` value, which has no time zone.
+     * @param bytes 7 bytes of a `DATE` or 7 or 11 bytes of a `TIMESTAMP`
+     */
+    public void decodeTimestamp(byte[] bytes) {
+        decodeFields(bytes);
+        offsetSeconds = 0;
+    }
+
+    /**
+     * Decode a `TIMESTAMP WITH TIME ZONE` value, which is stored in UTC with either a fixed offset or a region.
+     * @param bytes 13 bytes of a `TIMESTAMP WITH TIME ZONE`
+     * @return false if the region of the value is not known to the JVM
+     */
+    public boolean decodeTimestampWithTimeZone(byte[] bytes) {
+        decodeFields(bytes);
+        int zoneHigh = bytes[11] & 0xFF;
+        int zoneLow = bytes[12] & 0xFF;
+        if ((zoneHigh & REGION_ID_FLAG) == 0) {
+            offsetSeconds = ((zoneHigh - OFFSET_HOUR_BIAS) * 60 + zoneLow - OFFSET_MINUTE_BIAS) * 60;
+        } else {
+            int regionId = ((zoneHigh & ~REGION_ID_FLAG) << 6) | ((zoneLow & 0xFC) >> 2);
+            ZoneRules rules = regionRules.computeIfAbsent(regionId, DateTimeDecoder::resolveRegion);
+            if (rules == UNRESOLVED_REGION) {
+                return false;
+            }
+            offsetSeconds = getOffsetSeconds(rules, getLocalEpochSecond());
+        }
+        setLocalEpochSecond(getLocalEpochSecond() + offsetSeconds);
+        return true;
+    }
+
+    /**
+     * Decode a `TIMESTAMP WITH LOCAL TIME ZONE` value, which the database returns in the database time zone, into
+     * the session time zone, as the driver does.
+     * @param bytes 7 or 11 bytes of a `TIMESTAMP WITH LOCAL TIME ZONE`
+     * @param databaseTimeZone time zone of the database, as a region name or an offset
+     * @param sessionTimeZone time zone of the session, as a region name or an offset
+     * @return false if either time zone is not known to the JVM
+     */
+    public boolean decodeTimestampWithLocalTimeZone(byte[] bytes, String databaseTimeZone, String sessionTimeZone) {
+        decodeFields(bytes);
+        ZoneRules databaseRules = getZoneRules(databaseTimeZone);
+        ZoneRules sessionRules = getZoneRules(sessionTimeZone);
+        if (databaseRules == UNRESOLVED_REGION || sessionRules == UNRESOLVED_REGION) {
+            return false;
+        }
+        long epochSecond = getLocalEpochSecond() - getOffsetSecondsOfLocalTime(databaseRules, getLocalEpochSecond());
+        offsetSeconds = getOffsetSeconds(sessionRules, epochSecond);
+        setLocalEpochSecond(epochSecond + offsetSeconds);
+        return true;
+    }
+
+    public int getYear() {
+        return year;
+    }
+
+    public int getMonth() {
+        return month;
+    }
+
+    public int getDay() {
+        return day;
+    }
+
+    public int getHour() {
+        return hour;
+    }
+
+    public int getMinute() {
+        return minute;
+    }
+
+    public int getSecond() {
+        return second;
+    }
+
+    public int getNanos() {
+        return nanos;
+    }
+
+    public int getOffsetSeconds() {
+        return offsetSeconds;
+    }
+
+    /**
+     * @return milliseconds since the epoch of the decoded value
+     */
+    public long getEpochMillis() {
+        return (getLocalEpochSecond() - offsetSeconds) * 1000 + nanos / 1000000;
+    }
+
+    public OffsetDateTime toOffsetDateTime() {
+        return OffsetDateTime.of(year, month, day, hour, minute, second, nanos,
+                ZoneOffset.ofTotalSeconds(offsetSeconds));
+    }
+
+    private void decodeFields(byte[] bytes) {
+        year = ((bytes[0] & 0xFF) - 100) * 100 + (bytes[1] & 0xFF) - 100;
+        month = bytes[2];
+        day = bytes[3];
+        hour = bytes[4] - 1;
+        minute = bytes[5] - 1;
+        second = bytes[6] - 1;
+        nanos = bytes.length >= 11 ? (bytes[7] & 0xFF) << 24 | (bytes[8] & 0xFF) << 16 | (bytes[9] & 0xFF) << 8
+                | (bytes[10] & 0xFF) : 0;
+    }
+
+    private long getLocalEpochSecond() {
+        return daysFromCivil(year, month, day) * SECONDS_PER_DAY + hour * 3600 + minute * 60 + second;
+    }
+
+    private void setLocalEpochSecond(long epochSecond) {
+        long days = Math.floorDiv(epochSecond, SECONDS_PER_DAY);
+        int secondOfDay = (int) Math.floorMod(epochSecond, SECONDS_PER_DAY);
+        hour = secondOfDay / 3600;
+        minute = secondOfDay / 60 % 60;
+        second = secondOfDay % 60;
+        // Inverse of daysFromCivil.
+        long shifted = days + 719468;
+        long era = Math.floorDiv(shifted, 146097);
+        long dayOfEra = shifted - era * 146097;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long monthIndex = (5 * dayOfYear + 2) / 153;
+        day = (int) (dayOfYear - (153 * monthIndex + 2) / 5 + 1);
+        month = (int) (monthIndex < 10 ? monthIndex + 3 : monthIndex - 9);
+        year = (int) (yearOfEra + era * 400 + (month <= 2 ? 1 : 0));
+    }
+
+    /**
+     * Number of days from 1970-01-01 to the given date of the proleptic Gregorian calendar.
+     */
+    private static long daysFromCivil(int year, int month, int day) {
+        long adjustedYear = month <= 2 ? year - 1 : year;
+        long era = Math.floorDiv(adjustedYear, 400);
+        long yearOfEra = adjustedYear - era * 400;
+        long dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097 + dayOfEra - 719468;
+    }
+
+    private static int getOffsetSeconds(ZoneRules rules, long epochSecond) {
+        return rules.getOffset(Instant.ofEpochSecond(epochSecond)).getTotalSeconds();
+    }
+
+    private static int getOffsetSecondsOfLocalTime(ZoneRules rules, long localEpochSecond) {
+        if (rules.isFixedOffset()) {
+            return rules.getOffset(Instant.EPOCH).getTotalSeconds();
+        }
+        // The offset is estimated from the local time, and corrected for values close to a transition.
+        int estimate = getOffsetSeconds(rules, localEpochSecond);
+        return getOffsetSeconds(rules, localEpochSecond - estimate);
+    }
+
+    private static ZoneRules getZoneRules(String zone) {
+        return zone == null ? UNRESOLVED_REGION : zoneRules.computeIfAbsent(zone, DateTimeDecoder::resolveZone);
+    }
+
+    private static ZoneRules resolveRegion(int regionId) {
+        String region = ZONEIDMAP.getRegion(regionId);
+        return region == null ? UNRESOLVED_REGION : resolveZone(region);
+    }
+
+    private static ZoneRules resolveZone(String zone) {
+        try {
+            return ZoneId.of(zone).getRules();
+        } catch (DateTimeException e) {
+            return UNRESOLVED_REGION;
+        }
+    }
+}
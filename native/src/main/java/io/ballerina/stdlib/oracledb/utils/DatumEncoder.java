@@ -0,0 +1,416 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.stdlib.oracledb.utils;
+
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.stdlib.oracledb.Constants;
+import oracle.jdbc.OraclePreparedStatement;
+import oracle.sql.DATE;
+import oracle.sql.Datum;
+import oracle.sql.NUMBER;
+import oracle.sql.TIMESTAMP;
+import oracle.sql.TIMESTAMPTZ;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This class encodes Ballerina `int`, `decimal`, `time:Date`, `time:Civil` and `time:Utc` values straight into the
+ * binary representation of Oracle `NUMBER`, `DATE`, `TIMESTAMP` and `TIMESTAMP WITH TIME ZONE` values, so that they
+ * are bound without going through `BigDecimal`, `java.sql.Timestamp` or `Calendar` conversions in the driver. The
+ * encoded forms of small integers, short decimals and dates are cached as they are commonly repeated constants.
+ *
+ * @since 1.0.2
+ */
+public class DatumEncoder {
+
+    private static final byte[] ZERO_BYTES = {(byte) 0x80};
+    private static final int POSITIVE_EXPONENT_BIAS = 0xC1;
+    private static final int NEGATIVE_EXPONENT_BIAS = 0x3E;
+    private static final int NEGATIVE_TERMINATOR = 102;
+    private static final int MAX_MANTISSA_LENGTH = 20;
+    private static final int MIN_EXPONENT = -64;
+    private static final int MAX_EXPONENT = 62;
+    private static final int MAX_LONG_PRECISION = 17;
+    private static final int MIN_CACHED_INTEGER = -128;
+    private static final int MAX_CACHED_INTEGER = 1023;
+    private static final int MAX_CACHED_DECIMAL_PRECISION = 6;
+    private static final int MAX_CACHE_ENTRIES = 1024;
+    private static final int OFFSET_HOUR_BIAS = 20;
+    private static final int OFFSET_MINUTE_BIAS = 60;
+    private static final int NANOS_PER_SECOND = 1000000000;
+
+    // Created when the class is initialized, so that the values are safely published to all threads.
+    private static final NUMBER[] integers = createIntegers();
+    private static final Map<BigDecimal, NUMBER> decimals = new ConcurrentHashMap<>();
+    private static final Map<Integer, DATE> dates = new ConcurrentHashMap<>();
+
+    private DatumEncoder() {}
+
+    /**
+     * Return the Oracle statement of the given statement, to which the encoded values are bound.
+     * @param preparedStatement statement or a pooled wrapper of it
+     * @return Oracle statement or null if the statement is not an Oracle statement
+     * @throws SQLException if the statement cannot be unwrapped
+     */
+    public static OraclePreparedStatement unwrap(PreparedStatement preparedStatement) throws SQLException {
+        if (preparedStatement instanceof OraclePreparedStatement) {
+            return (OraclePreparedStatement) preparedStatement;
+        }
+        return preparedStatement.isWrapperFor(OraclePreparedStatement.class) ?
+                preparedStatement.unwrap(OraclePreparedStatement.class) : null;
+    }
+
+    /**
+     * Bind an encoded value with the setter of its Oracle type.
+     * @param statement Oracle statement to which the value is bound
+     * @param index parameter index
+     * @param value encoded value
+     * @throws SQLException if the driver fails to bind the value
+     */
+    public static void bind(OraclePreparedStatement statement, int index, Datum value) throws SQLException {
+        if (value instanceof NUMBER) {
+            statement.setNUMBER(index, (NUMBER) value);
+        } else if (value instanceof TIMESTAMPTZ) {
+            statement.setTIMESTAMPTZ(index, (TIMESTAMPTZ) value);
+        } else if (value instanceof TIMESTAMP) {
+            statement.setTIMESTAMP(index, (TIMESTAMP) value);
+        } else {
+            statement.setDATE(index, (DATE) value);
+        }
+    }
+
+    /**
+     * Encode a Ballerina `int` value as an Oracle `NUMBER`.
+     * @param value integer value
+     * @return encoded value
+     */
+    public static NUMBER encodeNumber(long value) {
+        if (value < MIN_CACHED_INTEGER || value > MAX_CACHED_INTEGER) {
+            return new NUMBER(encodeInteger(value));
+        }
+        return integers[(int) value - MIN_CACHED_INTEGER];
+    }
+
+    /**
+     * Encode a Ballerina `decimal` value as an Oracle `NUMBER`.
+     * @param value decimal value
+     * @return encoded value or null if the value is out of the range or the precision of `NUMBER`
+     */
+    public static NUMBER encodeNumber(BigDecimal value) {
+        if (value.precision() > MAX_CACHED_DECIMAL_PRECISION) {
+            byte[] bytes = encodeDecimal(value);
+            return bytes == null ? null : new NUMBER(bytes);
+        }
+        NUMBER number = decimals.get(value);
+        if (number == null) {
+            byte[] bytes = encodeDecimal(value);
+            if (bytes == null) {
+                return null;
+            }
+            if (decimals.size() >= MAX_CACHE_ENTRIES) {
+                decimals.clear();
+            }
+            number = new NUMBER(bytes);
+            decimals.put(value, number);
+        }
+        return number;
+    }
+
+    /**
+     * Encode a `time:Date`, a `time:Civil` or a `time:Utc` value. Dates are encoded as `DATE`, civil values with a
+     * UTC offset as `TIMESTAMP WITH TIME ZONE` and other values as `TIMESTAMP`, which are the types they are bound with
+     * by the generic parameter processor. `time:Utc` values are encoded in the default time zone of the JVM for the
+     * same reason.
+     * @param value date-time value
+     * @return encoded value or null if the value is not a valid date-time of a known form
+     */
+    public static Datum encodeDateTime(Object value) {
+        if (value instanceof BMap) {
+            BMap<?, ?> record = (BMap<?, ?>) value;
+            String recordName = record.getType().getName();
+            if (recordName.equalsIgnoreCase(io.ballerina.stdlib.time.util.Constants.DATE_RECORD)) {
+                return encodeDate(record);
+            } else if (recordName.equalsIgnoreCase(io.ballerina.stdlib.time.util.Constants.CIVIL_RECORD)) {
+                return encodeCivil(record);
+            }
+        } else if (value instanceof BArray && isUtc((BArray) value)) {
+            return encodeUtc((BArray) value);
+        }
+        return null;
+    }
+
+    /**
+     * @return whether the given value is a `time:Utc` value, which is a tuple of seconds and fractional seconds
+     */
+    public static boolean isUtc(BArray value) {
+        Type type = value.getType();
+        return (type.getTag() == TypeTags.INTERSECTION_TAG || type.getTag() == TypeTags.TUPLE_TAG)
+                && value.size() == 2 && value.get(0) instanceof Long && value.get(1) instanceof BDecimal;
+    }
+
+    private static DATE encodeDate(BMap<?, ?> record) {
+        Object year = record.get(Constants.Types.DateTimeFields.YEAR);
+        Object month = record.get(Constants.Types.DateTimeFields.MONTH);
+        Object day = record.get(Constants.Types.DateTimeFields.DAY);
+        if (!(year instanceof Long && month instanceof Long && day instanceof Long)) {
+            return null;
+        }
+        if (!isValidDate((Long) year, (Long) month, (Long) day)) {
+            return null;
+        }
+        int key = (int) ((Long) year * 10000 + (Long) month * 100 + (Long) day);
+        DATE date = dates.get(key);
+        if (date == null) {
+            if (dates.size() >= MAX_CACHE_ENTRIES) {
+                dates.clear();
+            }
+            date = new DATE(encodeFields(key / 10000, key / 100 % 100, key % 100, 0, 0, 0, 0, false));
+            dates.put(key, date);
+        }
+        return date;
+    }
+
+    private static Datum encodeCivil(BMap<?, ?> record) {
+        Object year = record.get(Constants.Types.DateTimeFields.YEAR);
+        Object month = record.get(Constants.Types.DateTimeFields.MONTH);
+        Object day = record.get(Constants.Types.DateTimeFields.DAY);
+        Object hour = record.get(Constants.Types.DateTimeFields.HOUR);
+        Object minute = record.get(Constants.Types.DateTimeFields.MINUTE);
+        Object second = record.get(Constants.Types.DateTimeFields.SECOND);
+        if (!(year instanceof Long && month instanceof Long && day instanceof Long && hour instanceof Long
+                && minute instanceof Long) || !(second == null || second instanceof BDecimal)) {
+            return null;
+        }
+        long totalNanos = second == null ? 0 : getTotalNanos(((BDecimal) second).decimalValue());
+        if (!isValidDate((Long) year, (Long) month, (Long) day) || !isValidTime((Long) hour, (Long) minute)
+                || totalNanos < 0 || totalNanos >= 60L * NANOS_PER_SECOND) {
+            return null;
+        }
+        int wholeSeconds = (int) (totalNanos / NANOS_PER_SECOND);
+        int nanos = (int) (totalNanos % NANOS_PER_SECOND);
+        Object utcOffset = record.get(Constants.Types.DateTimeFields.UTC_OFFSET);
+        if (utcOffset == null) {
+            if (record.get(Constants.Types.DateTimeFields.TIME_ABBREV) != null) {
+                return null;
+            }
+            return new TIMESTAMP(encodeFields(((Long) year).intValue(), ((Long) month).intValue(),
+                    ((Long) day).intValue(), ((Long) hour).intValue(), ((Long) minute).intValue(), wholeSeconds,
+                    nanos, nanos != 0));
+        }
+        if (!(utcOffset instanceof BMap)) {
+            return null;
+        }
+        Object offsetHours = ((BMap<?, ?>) utcOffset).get(Constants.Types.DateTimeFields.HOURS);
+        Object offsetMinutes = ((BMap<?, ?>) utcOffset).get(Constants.Types.DateTimeFields.MINUTES);
+        Object offsetSeconds = ((BMap<?, ?>) utcOffset).get(Constants.Types.DateTimeFields.SECONDS);
+        if (!(offsetHours instanceof Long) || !(offsetMinutes == null || offsetMinutes instanceof Long)
+                || !(offsetSeconds == null || ((BDecimal) offsetSeconds).decimalValue().signum() == 0)) {
+            // Oracle offsets have a precision of minutes.
+            return null;
+        }
+        long offsetMinutesTotal = (Long) offsetHours * 60 + (offsetMinutes == null ? 0 : (Long) offsetMinutes);
+        if (Math.abs(offsetMinutesTotal) > 14 * 60) {
+            return null;
+        }
+        LocalDateTime utc = LocalDateTime.of(((Long) year).intValue(), ((Long) month).intValue(),
+                ((Long) day).intValue(), ((Long) hour).intValue(), ((Long) minute).intValue(), wholeSeconds)
+                .minusMinutes(offsetMinutesTotal);
+        if (utc.getYear() < 1 || utc.getYear() > 9999) {
+            return null;
+        }
+        byte[] bytes = new byte[13];
+        System.arraycopy(encodeFields(utc.getYear(), utc.getMonthValue(), utc.getDayOfMonth(), utc.getHour(),
+                utc.getMinute(), utc.getSecond(), nanos, true), 0, bytes, 0, 11);
+        bytes[11] = (byte) (offsetMinutesTotal / 60 + OFFSET_HOUR_BIAS);
+        bytes[12] = (byte) (offsetMinutesTotal % 60 + OFFSET_MINUTE_BIAS);
+        return new TIMESTAMPTZ(bytes);
+    }
+
+    private static TIMESTAMP encodeUtc(BArray value) {
+        long epochSecond = (Long) value.get(0);
+        long fractionNanos = getTotalNanos(((BDecimal) value.get(1)).decimalValue());
+        if (fractionNanos < 0 || fractionNanos >= NANOS_PER_SECOND) {
+            return null;
+        }
+        ZoneOffset offset;
+        try {
+            offset = ZoneId.systemDefault().getRules().getOffset(Instant.ofEpochSecond(epochSecond));
+        } catch (DateTimeException e) {
+            return null;
+        }
+        LocalDateTime local = LocalDateTime.ofEpochSecond(epochSecond, (int) fractionNanos, offset);
+        if (local.getYear() < 1 || local.getYear() > 9999) {
+            return null;
+        }
+        return new TIMESTAMP(encodeFields(local.getYear(), local.getMonthValue(), local.getDayOfMonth(),
+                local.getHour(), local.getMinute(), local.getSecond(), local.getNano(), local.getNano() != 0));
+    }
+
+    private static byte[] encodeFields(int year, int month, int day, int hour, int minute, int second, int nanos,
+                                       boolean withNanos) {
+        byte[] bytes = new byte[withNanos ? 11 : 7];
+        bytes[0] = (byte) (year / 100 + 100);
+        bytes[1] = (byte) (year % 100 + 100);
+        bytes[2] = (byte) month;
+        bytes[3] = (byte) day;
+        bytes[4] = (byte) (hour + 1);
+        bytes[5] = (byte) (minute + 1);
+        bytes[6] = (byte) (second + 1);
+        if (withNanos) {
+            bytes[7] = (byte) (nanos >> 24);
+            bytes[8] = (byte) (nanos >> 16);
+            bytes[9] = (byte) (nanos >> 8);
+            bytes[10] = (byte) nanos;
+        }
+        return bytes;
+    }
+
+    private static boolean isValidDate(long year, long month, long day) {
+        if (year < 1 || year > 9999 || month < 1 || month > 12 || day < 1) {
+            return false;
+        }
+        int daysInMonth = month == 2 ? (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0) ? 29 : 28) :
+                (month == 4 || month == 6 || month == 9 || month == 11 ? 30 : 31);
+        return day <= daysInMonth;
+    }
+
+    private static boolean isValidTime(long hour, long minute) {
+        return hour >= 0 && hour < 24 && minute >= 0 && minute < 60;
+    }
+
+    private static long getTotalNanos(BigDecimal seconds) {
+        if (seconds.signum() < 0 || seconds.compareTo(BigDecimal.valueOf(60)) >= 0) {
+            return -1;
+        }
+        return seconds.movePointRight(9).longValue();
+    }
+
+    private static NUMBER[] createIntegers() {
+        NUMBER[] numbers = new NUMBER[MAX_CACHED_INTEGER - MIN_CACHED_INTEGER + 1];
+        for (int i = 0; i < numbers.length; i++) {
+            numbers[i] = new NUMBER(encodeInteger(i + MIN_CACHED_INTEGER));
+        }
+        return numbers;
+    }
+
+    private static byte[] encodeInteger(long value) {
+        if (value == 0) {
+            return ZERO_BYTES;
+        }
+        if (value == Long.MIN_VALUE) {
+            return encodeDecimal(BigDecimal.valueOf(value));
+        }
+        return encodeDigits(value < 0, Math.abs(value), 0);
+    }
+
+    private static byte[] encodeDecimal(BigDecimal value) {
+        if (value.signum() == 0) {
+            return ZERO_BYTES;
+        }
+        BigDecimal stripped = value.stripTrailingZeros();
+        int scale = stripped.scale();
+        BigInteger unscaled = stripped.unscaledValue().abs();
+        if (stripped.precision() <= MAX_LONG_PRECISION) {
+            long magnitude = unscaled.longValue();
+            if ((scale & 1) != 0) {
+                // Base-100 digits are aligned at the decimal point, hence the scale is made even.
+                magnitude *= 10;
+                scale++;
+            }
+            return encodeDigits(value.signum() < 0, magnitude, scale);
+        }
+        String digits = (scale & 1) != 0 ? unscaled.toString() + "0" : unscaled.toString();
+        int evenScale = (scale & 1) != 0 ? scale + 1 : scale;
+        int start = digits.length() & 1;
+        int length = (digits.length() + 1) / 2;
+        if (length > MAX_MANTISSA_LENGTH) {
+            return null;
+        }
+        byte[] mantissa = new byte[length];
+        for (int i = 0; i < length; i++) {
+            int high = i == 0 && start == 1 ? 0 : digits.charAt(2 * i - start) - '0';
+            int low = digits.charAt(2 * i + 1 - start) - '0';
+            mantissa[i] = (byte) (high * 10 + low);
+        }
+        return encodeMantissa(value.signum() < 0, mantissa, length, length - 1 - evenScale / 2);
+    }
+
+    /**
+     * Encode the value of magnitude * 10^-scale, where the scale is even.
+     */
+    private static byte[] encodeDigits(boolean negative, long magnitude, int scale) {
+        byte[] reversed = new byte[10];
+        int count = 0;
+        long remaining = magnitude;
+        while (remaining > 0) {
+            reversed[count++] = (byte) (remaining % 100);
+            remaining /= 100;
+        }
+        int lowest = 0;
+        while (reversed[lowest] == 0) {
+            lowest++;
+        }
+        int length = count - lowest;
+        byte[] mantissa = new byte[length];
+        for (int i = 0; i < length; i++) {
+            mantissa[i] = reversed[count - 1 - i];
+        }
+        return encodeMantissa(negative, mantissa, length, count - 1 - scale / 2);
+    }
+
+    /**
+     * Encode base-100 digits, most significant first, where the first digit is multiplied by 100^exponent.
+     */
+    private static byte[] encodeMantissa(boolean negative, byte[] mantissa, int length, int exponent) {
+        if (exponent < MIN_EXPONENT || exponent > MAX_EXPONENT) {
+            return null;
+        }
+        boolean terminated = negative && length < MAX_MANTISSA_LENGTH;
+        byte[] bytes = new byte[1 + length + (terminated ? 1 : 0)];
+        if (negative) {
+            bytes[0] = (byte) (NEGATIVE_EXPONENT_BIAS - exponent);
+            for (int i = 0; i < length; i++) {
+                bytes[i + 1] = (byte) (101 - mantissa[i]);
+            }
+            if (terminated) {
+                bytes[length + 1] = (byte) NEGATIVE_TERMINATOR;
+            }
+        } else {
+            bytes[0] = (byte) (POSITIVE_EXPONENT_BIAS + exponent);
+            for (int i = 0; i < length; i++) {
+                bytes[i + 1] = (byte) (mantissa[i] + 1);
+            }
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,536 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.stdlib.oracledb.utils;
+
+import io.ballerina.stdlib.sql.datasource.SQLDatasource;
+import io.ballerina.stdlib.sql.exception.ConversionError;
+import io.ballerina.stdlib.sql.exception.DataError;
+import oracle.jdbc.OracleTypes;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.StringJoiner;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * This class loads a delimited file into a table. The file is memory mapped and split into segments at record
+ * boundaries, which are parsed without copying the fields that are bound as numbers and inserted as array DML
+ * batches, optionally in parallel on separate pooled connections.
+ *
+ * @since 1.0.2
+ */
+public class FileImporter {
+
+    private static final long SEGMENT_SIZE = 64L * 1024 * 1024;
+    private static final int SCAN_BUFFER_SIZE = 1024 * 1024;
+    private static final int MAX_LONG_DIGITS = 18;
+
+    private enum ColumnKind {
+        NUMBER, FLOATING_POINT, DATE_TIME, STRING
+    }
+
+    private final Path path;
+    private final String tableName;
+    private final String[] columns;
+    private final byte delimiter;
+    private final boolean skipHeader;
+    private final int batchSize;
+    private final AtomicInteger nextSegment = new AtomicInteger();
+    private final AtomicLong rowCount = new AtomicLong();
+    private long[] segmentOffsets;
+    private ColumnKind[] columnKinds;
+    private int[] columnTypes;
+    private volatile boolean aborted = false;
+
+    public FileImporter(Path path, String tableName, String[] columns, char delimiter, boolean skipHeader,
+                        int batchSize) {
+        this.path = path;
+        this.tableName = tableName;
+        this.columns = columns;
+        this.delimiter = (byte) delimiter;
+        this.skipHeader = skipHeader;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Load the file on a single connection taken from the pool, which is committed once after all the records are
+     * inserted, or rolled back if any record fails.
+     * @param datasource datasource of the client
+     * @throws SQLException if the rows cannot be inserted
+     * @throws DataError if a field cannot be converted to the type of its column
+     * @throws IOException if the file cannot be read
+     */
+    public void execute(SQLDatasource datasource) throws SQLException, DataError, IOException {
+        Worker worker = new Worker();
+        boolean isInserted = false;
+        try {
+            worker.begin(datasource.getSQLConnection());
+            prepare(worker.connection, 1);
+            insertSegments(worker.connection, worker.segments);
+            isInserted = true;
+        } finally {
+            worker.end(isInserted);
+        }
+    }
+
+    /**
+     * Load the file concurrently on connections taken from the pool, without blocking the calling thread. The
+     * connections are committed together after all the segments are inserted, or are all rolled back if any segment
+     * fails. If a commit fails after other connections are committed, the error reports the byte ranges of the file
+     * whose records are committed.
+     * @param datasource datasource of the client
+     * @param parallelism maximum number of segments parsed and inserted concurrently
+     * @return future which is completed when the file is loaded, or completed exceptionally with the error of the
+     *         load
+     */
+    public CompletableFuture<Void> executeAsync(SQLDatasource datasource, int parallelism) {
+        return CompletableFuture.runAsync(() -> {
+            try (Connection connection = datasource.getSQLConnection()) {
+                prepare(connection, parallelism);
+            } catch (SQLException | IOException e) {
+                throw new CompletionException(e);
+            }
+        }, Utils.getWorkerExecutor()).thenCompose(ignored -> {
+            int workerCount = Math.max(1, Math.min(parallelism, segmentOffsets.length - 1));
+            List<CompletableFuture<Worker>> workers = new ArrayList<>(workerCount);
+            for (int i = 0; i < workerCount; i++) {
+                workers.add(CompletableFuture.supplyAsync(() -> insertSegments(datasource),
+                        Utils.getWorkerExecutor()));
+            }
+            return CompletableFuture.allOf(workers.toArray(new CompletableFuture<?>[0]))
+                    .thenAccept(done -> endWorkers(workers.stream().map(CompletableFuture::join)
+                            .collect(Collectors.toList())));
+        });
+    }
+
+    /**
+     * Load the file on the connection of the current transaction, leaving the commit to the transaction.
+     * @param connection connection of the current transaction
+     * @throws SQLException if the rows cannot be inserted
+     * @throws DataError if a field cannot be converted to the type of its column
+     * @throws IOException if the file cannot be read
+     */
+    public void executeInTransaction(Connection connection) throws SQLException, DataError, IOException {
+        prepare(connection, 1);
+        insertSegments(connection, new ArrayList<>());
+    }
+
+    public long getRowCount() {
+        return rowCount.get();
+    }
+
+    private void prepare(Connection connection, int parallelism) throws SQLException, IOException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT " + String.join(", ", columns) +
+                " FROM " + tableName + " WHERE 1 = 0")) {
+            ResultSetMetaData metaData = statement.getMetaData();
+            columnTypes = new int[columns.length];
+            columnKinds = new ColumnKind[columns.length];
+            for (int i = 0; i < columns.length; i++) {
+                columnTypes[i] = metaData.getColumnType(i + 1);
+                columnKinds[i] = getColumnKind(columnTypes[i]);
+            }
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            long start = skipHeader ? findRecordStarts(channel, 0, new long[]{1})[0] : 0;
+            int segmentCount = (int) Math.max(parallelism, (fileSize - start + SEGMENT_SIZE - 1) / SEGMENT_SIZE);
+            long[] targets = new long[segmentCount - 1];
+            for (int i = 1; i < segmentCount; i++) {
+                targets[i - 1] = start + (fileSize - start) * i / segmentCount;
+            }
+            List<Long> offsets = new ArrayList<>(segmentCount + 1);
+            offsets.add(start);
+            for (long offset : findRecordStarts(channel, start, targets)) {
+                if (offset > offsets.get(offsets.size() - 1) && offset < fileSize) {
+                    offsets.add(offset);
+                }
+            }
+            offsets.add(fileSize);
+            segmentOffsets = offsets.stream().mapToLong(Long::longValue).toArray();
+        }
+    }
+
+    /**
+     * Find the start of the first record at or after each of the given ascending offsets. The file is scanned from
+     * the given record start with the same quoting rules as the parser, so that the line breaks within quoted fields
+     * are not taken as record boundaries.
+     */
+    private long[] findRecordStarts(FileChannel channel, long start, long[] targets) throws IOException {
+        long[] recordStarts = new long[targets.length];
+        int next = 0;
+        byte[] bytes = new byte[SCAN_BUFFER_SIZE];
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        boolean atFieldStart = true;
+        boolean inQuotes = false;
+        boolean pendingQuote = false;
+        long position = start;
+        while (next < targets.length) {
+            buffer.clear();
+            int read = channel.read(buffer, position);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read && next < targets.length; i++) {
+                byte value = bytes[i];
+                if (inQuotes) {
+                    if (!pendingQuote) {
+                        pendingQuote = value == '"';
+                        continue;
+                    }
+                    pendingQuote = false;
+                    if (value == '"') {
+                        // Escaped quotes are written as two quotes.
+                        continue;
+                    }
+                    inQuotes = false;
+                }
+                if (value == '\n') {
+                    atFieldStart = true;
+                    long recordStart = position + i + 1;
+                    while (next < targets.length && targets[next] <= recordStart) {
+                        recordStarts[next++] = recordStart;
+                    }
+                } else if (atFieldStart && value == '"') {
+                    inQuotes = true;
+                    atFieldStart = false;
+                } else {
+                    atFieldStart = value == delimiter;
+                }
+            }
+            position += read;
+        }
+        long fileSize = channel.size();
+        while (next < targets.length) {
+            recordStarts[next++] = fileSize;
+        }
+        return recordStarts;
+    }
+
+    private static ColumnKind getColumnKind(int sqlType) {
+        switch (sqlType) {
+            case Types.NUMERIC:
+            case Types.DECIMAL:
+            case Types.INTEGER:
+            case Types.SMALLINT:
+            case Types.TINYINT:
+            case Types.BIGINT:
+                return ColumnKind.NUMBER;
+            case Types.FLOAT:
+            case Types.REAL:
+            case Types.DOUBLE:
+            case OracleTypes.BINARY_FLOAT:
+            case OracleTypes.BINARY_DOUBLE:
+                return ColumnKind.FLOATING_POINT;
+            case Types.DATE:
+            case Types.TIMESTAMP:
+                return ColumnKind.DATE_TIME;
+            default:
+                return ColumnKind.STRING;
+        }
+    }
+
+    /**
+     * Insert segments on a connection taken from the pool, leaving the connection open until all the workers are
+     * done. The error of the worker is kept in the worker instead of being thrown.
+     */
+    private Worker insertSegments(SQLDatasource datasource) {
+        Worker worker = new Worker();
+        try {
+            worker.begin(datasource.getSQLConnection());
+            insertSegments(worker.connection, worker.segments);
+        } catch (Throwable th) {
+            aborted = true;
+            worker.error = th;
+        }
+        return worker;
+    }
+
+    private void endWorkers(List<Worker> workers) {
+        Throwable error = workers.stream().map(worker -> worker.error).filter(Objects::nonNull).findFirst()
+                .orElse(null);
+        List<long[]> committedSegments = new ArrayList<>();
+        for (Worker worker : workers) {
+            try {
+                worker.end(error == null);
+                if (error == null) {
+                    committedSegments.addAll(worker.segments);
+                }
+            } catch (SQLException e) {
+                if (error == null) {
+                    error = committedSegments.isEmpty() ? e : new SQLException(String.format("File import failed " +
+                            "while committing, after the records in the byte ranges %s of the file were " +
+                            "committed: %s", formatRanges(committedSegments), e.getMessage()), e.getSQLState(),
+                            e.getErrorCode(), e);
+                }
+            }
+        }
+        if (error != null) {
+            throw new CompletionException(error);
+        }
+    }
+
+    private static String formatRanges(List<long[]> segments) {
+        segments.sort(Comparator.comparingLong(segment -> segment[0]));
+        StringJoiner ranges = new StringJoiner(", ");
+        for (long[] segment : segments) {
+            ranges.add("[" + segment[0] + ", " + segment[1] + ")");
+        }
+        return ranges.toString();
+    }
+
+    private void insertSegments(Connection connection, List<long[]> insertedSegments)
+            throws SQLException, DataError, IOException {
+        String[] placeholders = new String[columns.length];
+        Arrays.fill(placeholders, "?");
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+             PreparedStatement statement = connection.prepareStatement("INSERT INTO " + tableName + " (" +
+                     String.join(", ", columns) + ") VALUES (" + String.join(", ", placeholders) + ")")) {
+            int segment;
+            while (!aborted && (segment = nextSegment.getAndIncrement()) < segmentOffsets.length - 1) {
+                insertSegment(channel, statement, segmentOffsets[segment], segmentOffsets[segment + 1]);
+                insertedSegments.add(new long[]{segmentOffsets[segment], segmentOffsets[segment + 1]});
+            }
+        } catch (SQLException | DataError | IOException | RuntimeException e) {
+            aborted = true;
+            throw e;
+        }
+    }
+
+    private void insertSegment(FileChannel channel, PreparedStatement statement, long start, long end)
+            throws SQLException, DataError, IOException {
+        if (end - start > Integer.MAX_VALUE) {
+            throw new IOException(String.format("Segment at byte offset %d of the file is too large to be mapped.",
+                    start));
+        }
+        // Segments end at record boundaries, so the records of a segment are within its mapping. The mapping is
+        // released when the buffer is garbage collected.
+        insertRecords(channel.map(FileChannel.MapMode.READ_ONLY, start, end - start), statement, start);
+    }
+
+    private void insertRecords(MappedByteBuffer buffer, PreparedStatement statement, long start)
+            throws SQLException, DataError {
+        int limit = buffer.limit();
+        int[] fieldStarts = new int[columns.length];
+        int[] fieldEnds = new int[columns.length];
+        boolean[] quoted = new boolean[columns.length];
+        byte[] scratch = new byte[256];
+        int batchCount = 0;
+        int position = 0;
+        while (position < limit && !aborted) {
+            int recordStart = position;
+            int fieldCount = 0;
+            boolean recordEnded = false;
+            while (!recordEnded) {
+                boolean isQuoted = position < buffer.limit() && buffer.get(position) == '"';
+                int fieldStart = isQuoted ? position + 1 : position;
+                int fieldEnd;
+                if (isQuoted) {
+                    position = fieldStart;
+                    while (position < buffer.limit()) {
+                        if (buffer.get(position) == '"') {
+                            if (position + 1 < buffer.limit() && buffer.get(position + 1) == '"') {
+                                position += 2;
+                                continue;
+                            }
+                            break;
+                        }
+                        position++;
+                    }
+                    fieldEnd = position;
+                    position++;
+                } else {
+                    while (position < buffer.limit() && buffer.get(position) != delimiter
+                            && buffer.get(position) != '\n') {
+                        position++;
+                    }
+                    fieldEnd = position;
+                    if (fieldEnd > fieldStart && buffer.get(fieldEnd - 1) == '\r') {
+                        fieldEnd--;
+                    }
+                }
+                if (position >= buffer.limit() || buffer.get(position) == '\n') {
+                    recordEnded = true;
+                } else if (buffer.get(position) == '\r' && position + 1 < buffer.limit()
+                        && buffer.get(position + 1) == '\n') {
+                    position++;
+                    recordEnded = true;
+                }
+                position++;
+                if (fieldCount < columns.length) {
+                    fieldStarts[fieldCount] = fieldStart;
+                    fieldEnds[fieldCount] = fieldEnd;
+                    quoted[fieldCount] = isQuoted;
+                }
+                fieldCount++;
+            }
+            if (fieldCount == 1 && columns.length > 1 && fieldEnds[0] == fieldStarts[0] && !quoted[0]) {
+                // Empty lines are skipped, unless there is a single column for which they are empty fields.
+                continue;
+            }
+            if (fieldCount != columns.length) {
+                throw new ConversionError(String.format("Record at byte offset %d of the file has %d field(s) " +
+                        "but %d column(s) are provided.", start + recordStart, fieldCount, columns.length));
+            }
+            for (int i = 0; i < columns.length; i++) {
+                scratch = bindField(statement, i, buffer, fieldStarts[i], fieldEnds[i], quoted[i], scratch);
+            }
+            statement.addBatch();
+            if (++batchCount == batchSize) {
+                statement.executeBatch();
+                rowCount.addAndGet(batchCount);
+                batchCount = 0;
+            }
+        }
+        if (batchCount > 0) {
+            statement.executeBatch();
+            rowCount.addAndGet(batchCount);
+        }
+    }
+
+    private byte[] bindField(PreparedStatement statement, int column, ByteBuffer buffer, int start, int end,
+                             boolean quoted, byte[] scratch) throws SQLException, DataError {
+        int index = column + 1;
+        if (start == end && !quoted) {
+            statement.setNull(index, columnTypes[column]);
+            return scratch;
+        }
+        ColumnKind kind = columnKinds[column];
+        if (kind == ColumnKind.NUMBER && !quoted && end - start <= MAX_LONG_DIGITS) {
+            long value = 0;
+            boolean negative = buffer.get(start) == '-';
+            int position = negative || buffer.get(start) == '+' ? start + 1 : start;
+            boolean isLong = position < end;
+            for (; position < end && isLong; position++) {
+                int digit = buffer.get(position) - '0';
+                isLong = digit >= 0 && digit <= 9;
+                value = value * 10 + digit;
+            }
+            if (isLong) {
+                statement.setLong(index, negative ? -value : value);
+                return scratch;
+            }
+        }
+        int length = end - start;
+        if (scratch.length < length) {
+            scratch = new byte[Math.max(length, scratch.length * 2)];
+        }
+        int scratchLength = 0;
+        for (int position = start; position < end; position++) {
+            byte value = buffer.get(position);
+            scratch[scratchLength++] = value;
+            if (quoted && value == '"') {
+                // Escaped quotes are written as two quotes.
+                position++;
+            }
+        }
+        String value = new String(scratch, 0, scratchLength, StandardCharsets.UTF_8);
+        try {
+            switch (kind) {
+                case NUMBER:
+                    statement.setBigDecimal(index, new BigDecimal(value.trim()));
+                    break;
+                case FLOATING_POINT:
+                    statement.setDouble(index, Double.parseDouble(value));
+                    break;
+                case DATE_TIME:
+                    String dateTime = value.trim();
+                    statement.setTimestamp(index, Timestamp.valueOf(dateTime.length() <= 10 ?
+                            LocalDate.parse(dateTime).atStartOfDay() :
+                            LocalDateTime.parse(dateTime.replace(' ', 'T'))));
+                    break;
+                default:
+                    statement.setString(index, value);
+                    break;
+            }
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new ConversionError(String.format("Unsupported value '%s' for column '%s'.", value,
+                    columns[column]), e);
+        }
+        return scratch;
+    }
+
+    /**
+     * Connection on which segments are inserted in a transaction, with the byte ranges of the segments it inserted.
+     */
+    private static class Worker {
+        private final List<long[]> segments = new ArrayList<>();
+        private Connection connection;
+        private boolean autoCommit = false;
+        private Throwable error;
+
+        /**
+         * Start a transaction on the connection, which is returned to the pool when the worker ends.
+         */
+        private void begin(Connection connection) throws SQLException {
+            this.connection = connection;
+            if (connection.getAutoCommit()) {
+                connection.setAutoCommit(false);
+                autoCommit = true;
+            }
+        }
+
+        /**
+         * Commit or roll back the inserted records and return the connection to the pool.
+         */
+        private void end(boolean commit) throws SQLException {
+            if (connection == null) {
+                return;
+            }
+            try {
+                if (commit) {
+                    connection.commit();
+                } else {
+                    connection.rollback();
+                }
+            } finally {
+                try {
+                    if (autoCommit) {
+                        connection.setAutoCommit(true);
+                    }
+                } finally {
+                    connection.close();
+                }
+            }
+        }
+    }
+}
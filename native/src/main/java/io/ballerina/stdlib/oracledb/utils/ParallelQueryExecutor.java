@@ -0,0 +1,445 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.stdlib.oracledb.utils;
+
+import io.ballerina.runtime.api.types.StructureType;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.stdlib.oracledb.Constants;
+import io.ballerina.stdlib.oracledb.parameterprocessor.OracleDBResultParameterProcessor;
+import io.ballerina.stdlib.oracledb.parameterprocessor.OracleDBStatementParameterProcessor;
+import io.ballerina.stdlib.sql.datasource.SQLDatasource;
+import io.ballerina.stdlib.sql.exception.DataError;
+import io.ballerina.stdlib.sql.utils.ColumnDefinition;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This class executes a query as several partitions on separate pooled connections and merges the rows of all
+ * partitions into a single queue consumed by the result stream. A partition is either a ROWID range of one extent of
+ * the scanned table or a range of a numeric partition key. If the scanned table has no extents, such as when it is not
+ * a table of the schema of the user, the query is executed as a single partition.
+ *
+ * The execution can be deferred until the call is admitted, such as by the workload scheduler of the client, in which
+ * case the result stream waits for the rows until the call is admitted and the query is started from a worker thread.
+ *
+ * @since 1.0.2
+ */
+public class ParallelQueryExecutor {
+
+    private static final int ROW_BUFFER_SIZE = 1024;
+    private static final long OFFER_TIMEOUT_MILLIS = 100;
+    private static final Object PARTITION_WORKER_DONE = new Object();
+    private static final String EXTENT_ROWID_RANGES_QUERY =
+            "SELECT DBMS_ROWID.ROWID_CREATE(1, o.DATA_OBJECT_ID, e.RELATIVE_FNO, e.BLOCK_ID, 0), " +
+            "DBMS_ROWID.ROWID_CREATE(1, o.DATA_OBJECT_ID, e.RELATIVE_FNO, e.BLOCK_ID + e.BLOCKS - 1, 32767) " +
+            "FROM USER_EXTENTS e JOIN USER_OBJECTS o ON o.OBJECT_NAME = e.SEGMENT_NAME " +
+            "AND NVL(o.SUBOBJECT_NAME, '-') = NVL(e.PARTITION_NAME, '-') " +
+            "WHERE e.SEGMENT_NAME = ? AND e.SEGMENT_TYPE LIKE 'TABLE%' " +
+            "ORDER BY o.DATA_OBJECT_ID, e.RELATIVE_FNO, e.BLOCK_ID";
+    private static final String CURRENT_SCN_QUERY = "SELECT DBMS_FLASHBACK.GET_SYSTEM_CHANGE_NUMBER FROM DUAL";
+    private static final String ENABLE_FLASHBACK_CALL = "{call DBMS_FLASHBACK.ENABLE_AT_SYSTEM_CHANGE_NUMBER(?)}";
+    private static final String DISABLE_FLASHBACK_CALL = "{call DBMS_FLASHBACK.DISABLE}";
+
+    private final SQLDatasource datasource;
+    private final BObject paramSQLString;
+    private final StructureType recordType;
+    private final BlockingQueue<Object> rows = new ArrayBlockingQueue<>(ROW_BUFFER_SIZE);
+    private final Queue<Partition> partitions = new ConcurrentLinkedQueue<>();
+    private final Queue<Statement> activeStatements = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger runningWorkerCount = new AtomicInteger();
+    private final Runnable onCompletion;
+    private Long snapshotScn;
+    // Written by the thread which starts the workers before they offer any row, and read by the consumer of the rows.
+    private volatile int workerCount;
+    private int finishedWorkerCount = 0;
+    private volatile boolean closed = false;
+
+    /**
+     * Create an executor of a parallel query.
+     * @param datasource datasource of the client
+     * @param paramSQLString SQL string of the query
+     * @param recordType type of the result record
+     * @param onCompletion action run once when the partitions are no longer executed, or when the query fails to start
+     */
+    public ParallelQueryExecutor(SQLDatasource datasource, BObject paramSQLString, StructureType recordType,
+                                 Runnable onCompletion) {
+        this.datasource = datasource;
+        this.paramSQLString = paramSQLString;
+        this.recordType = recordType;
+        this.onCompletion = onCompletion;
+    }
+
+    /**
+     * Split the query into partitions and start executing them on separate pooled connections.
+     * @param partitionColumn column of the query result on which the partitions are defined
+     * @param tableName table whose extents define the ROWID ranges, or null to partition on key ranges
+     * @param lowerBound lower bound of the partition key, or null to compute it from the query
+     * @param upperBound upper bound of the partition key, or null to compute it from the query
+     * @param parallelism number of partitions executed concurrently
+     * @param consistentSnapshot whether all partitions should read the data as of the same SCN
+     * @throws SQLException if the partitions cannot be computed
+     * @throws DataError if the partitioning options are not valid
+     */
+    public void start(String partitionColumn, String tableName, Long lowerBound, Long upperBound, int parallelism,
+                      boolean consistentSnapshot) throws SQLException, DataError {
+        boolean isStarted = false;
+        try {
+            partition(partitionColumn, tableName, lowerBound, upperBound, parallelism, consistentSnapshot);
+            startWorkers(Math.max(1, Math.min(parallelism, partitions.size())));
+            isStarted = true;
+        } finally {
+            if (!isStarted) {
+                onCompletion.run();
+            }
+        }
+    }
+
+    /**
+     * Start executing the query as a single partition on a pooled connection.
+     */
+    public void startSingle() {
+        boolean isStarted = false;
+        try {
+            partitions.add(new Partition(OracleDBStatementParameterProcessor.getInstance()
+                    .getSqlQuery(paramSQLString)));
+            startWorkers(1);
+            isStarted = true;
+        } finally {
+            if (!isStarted) {
+                onCompletion.run();
+            }
+        }
+    }
+
+    /**
+     * Start executing the query from a worker thread once the call is admitted. The result stream waits for the rows
+     * until then, hence the call returns without waiting for its admission.
+     * @param admission stage which is completed with true when the call is admitted, or with false if it was not
+     *                  admitted
+     * @param rejection error returned by the result stream if the call was not admitted
+     * @param starter action which starts the execution, such as `start` or `startSingle`
+     */
+    public void startWhenAdmitted(CompletionStage<Boolean> admission, DataError rejection, Starter starter) {
+        // The admission is counted as a worker which offers no rows, so that the result stream waits for it.
+        workerCount = 1;
+        admission.whenComplete((admitted, error) -> Utils.getWorkerExecutor().execute(() -> {
+            try {
+                if (error != null || !admitted) {
+                    onCompletion.run();
+                    offer(error != null ? error : rejection);
+                } else if (closed) {
+                    onCompletion.run();
+                } else {
+                    starter.start();
+                }
+            } catch (Throwable th) {
+                offer(th);
+            } finally {
+                offer(PARTITION_WORKER_DONE);
+            }
+        }));
+    }
+
+    private void startWorkers(int count) {
+        runningWorkerCount.set(count);
+        workerCount += count;
+        for (int i = 0; i < count; i++) {
+            Utils.getWorkerExecutor().submit(this::executePartitions);
+        }
+    }
+
+    private void partition(String partitionColumn, String tableName, Long lowerBound, Long upperBound,
+                           int parallelism, boolean consistentSnapshot) throws SQLException, DataError {
+        if (!partitionColumn.matches(Constants.Import.COLUMN_NAME_PATTERN)) {
+            throw new DataError(String.format("Invalid partition column name '%s'.", partitionColumn));
+        }
+        if (lowerBound != null && upperBound != null && lowerBound > upperBound) {
+            throw new DataError("Parallel query option 'lowerBound' should not be greater than 'upperBound'.");
+        }
+        String sqlQuery = OracleDBStatementParameterProcessor.getInstance().getSqlQuery(paramSQLString);
+        try (Connection connection = datasource.getSQLConnection()) {
+            if (consistentSnapshot) {
+                try (Statement statement = connection.createStatement();
+                     ResultSet resultSet = statement.executeQuery(CURRENT_SCN_QUERY)) {
+                    resultSet.next();
+                    snapshotScn = resultSet.getLong(1);
+                }
+                enableFlashback(connection);
+            }
+            try {
+                if (tableName != null) {
+                    addRowIdPartitions(connection, sqlQuery, partitionColumn, tableName);
+                } else {
+                    addKeyRangePartitions(connection, sqlQuery, partitionColumn, lowerBound, upperBound,
+                            parallelism);
+                }
+            } finally {
+                if (snapshotScn != null) {
+                    disableFlashback(connection);
+                }
+            }
+        }
+    }
+
+    /**
+     * Return the next row of the merged result.
+     * @return next row as a ballerina record, an exception thrown while executing a partition, or null if all
+     *         partitions are completed
+     * @throws InterruptedException if the thread is interrupted while waiting for a row
+     */
+    public Object next() throws InterruptedException {
+        while (finishedWorkerCount < workerCount) {
+            Object row = rows.take();
+            if (row == PARTITION_WORKER_DONE) {
+                finishedWorkerCount++;
+            } else {
+                return row;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Stop executing the partitions and release the connections.
+     */
+    public void close() {
+        closed = true;
+        for (Statement statement : activeStatements) {
+            try {
+                statement.cancel();
+            } catch (SQLException e) {
+                // The statement is closed by its worker.
+            }
+        }
+        rows.clear();
+    }
+
+    private void addRowIdPartitions(Connection connection, String sqlQuery, String partitionColumn,
+                                    String tableName) throws SQLException {
+        String partitionQuery = "SELECT * FROM (" + sqlQuery + ") WHERE " + partitionColumn +
+                " BETWEEN CHARTOROWID(?) AND CHARTOROWID(?)";
+        try (PreparedStatement statement = connection.prepareStatement(EXTENT_ROWID_RANGES_QUERY)) {
+            statement.setString(1, tableName);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    partitions.add(new Partition(partitionQuery, resultSet.getString(1), resultSet.getString(2)));
+                }
+            }
+        }
+        if (partitions.isEmpty()) {
+            // The table is not a table of the schema of the user, or has no segment yet, hence it is not split.
+            partitions.add(new Partition("SELECT * FROM (" + sqlQuery + ")"));
+        }
+    }
+
+    private void addKeyRangePartitions(Connection connection, String sqlQuery, String partitionColumn,
+                                       Long lowerBound, Long upperBound, int parallelism)
+            throws SQLException, DataError {
+        BigInteger lower = lowerBound == null ? null : BigInteger.valueOf(lowerBound);
+        BigInteger upper = upperBound == null ? null : BigInteger.valueOf(upperBound);
+        if (lower == null || upper == null) {
+            try (PreparedStatement statement = connection.prepareStatement("SELECT MIN(" + partitionColumn +
+                    "), MAX(" + partitionColumn + ") FROM (" + sqlQuery + ")")) {
+                OracleDBStatementParameterProcessor.getInstance().setParams(connection, statement, paramSQLString);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    resultSet.next();
+                    if (lower == null) {
+                        lower = getIntegerBound(resultSet.getBigDecimal(1), partitionColumn);
+                    }
+                    if (upper == null) {
+                        upper = getIntegerBound(resultSet.getBigDecimal(2), partitionColumn);
+                    }
+                }
+            }
+        }
+        String unboundedQuery = "SELECT * FROM (" + sqlQuery + ")";
+        if (lower == null || upper == null || parallelism == 1) {
+            // The query has no rows with a partition key, or is executed as a single partition.
+            partitions.add(new Partition(unboundedQuery));
+            return;
+        }
+        // The first and the last partitions have no outer bound, so that the rows outside the bounds and the rows
+        // without a partition key are not left out.
+        List<BigInteger> splitPoints = getSplitPoints(lower, upper, parallelism);
+        if (splitPoints.isEmpty()) {
+            partitions.add(new Partition(unboundedQuery));
+            return;
+        }
+        partitions.add(new Partition(unboundedQuery + " WHERE " + partitionColumn + " < ? OR " + partitionColumn +
+                " IS NULL", toDecimal(splitPoints.get(0))));
+        String rangeQuery = unboundedQuery + " WHERE " + partitionColumn + " >= ? AND " + partitionColumn + " < ?";
+        for (int i = 1; i < splitPoints.size(); i++) {
+            partitions.add(new Partition(rangeQuery, toDecimal(splitPoints.get(i - 1)),
+                    toDecimal(splitPoints.get(i))));
+        }
+        partitions.add(new Partition(unboundedQuery + " WHERE " + partitionColumn + " >= ?",
+                toDecimal(splitPoints.get(splitPoints.size() - 1))));
+    }
+
+    private static List<BigInteger> getSplitPoints(BigInteger lower, BigInteger upper, int parallelism) {
+        // The key values from the lower bound to the upper bound, both inclusive, are split into equal ranges.
+        BigInteger valueCount = upper.subtract(lower).add(BigInteger.ONE);
+        BigInteger partitionCount = BigInteger.valueOf(parallelism);
+        List<BigInteger> splitPoints = new ArrayList<>(parallelism - 1);
+        for (int i = 1; i < parallelism; i++) {
+            BigInteger splitPoint = lower.add(valueCount.multiply(BigInteger.valueOf(i)).divide(partitionCount));
+            if (splitPoint.compareTo(lower) > 0 && splitPoint.compareTo(upper) <= 0 &&
+                    (splitPoints.isEmpty() || splitPoint.compareTo(splitPoints.get(splitPoints.size() - 1)) > 0)) {
+                splitPoints.add(splitPoint);
+            }
+        }
+        return splitPoints;
+    }
+
+    private static BigInteger getIntegerBound(BigDecimal value, String partitionColumn) throws DataError {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return value.toBigIntegerExact();
+        } catch (ArithmeticException e) {
+            throw new DataError(String.format("Parallel query partition column '%s' should have integer values, " +
+                    "but has the value %s.", partitionColumn, value.toPlainString()));
+        }
+    }
+
+    private static BigDecimal toDecimal(BigInteger value) {
+        return new BigDecimal(value);
+    }
+
+    private void executePartitions() {
+        Map<String, PreparedStatement> statements = new HashMap<>();
+        try (Connection connection = datasource.getSQLConnection()) {
+            if (snapshotScn != null) {
+                enableFlashback(connection);
+            }
+            try {
+                int parameterCount = paramSQLString.getArrayValue(Constants.ParameterizedQueryFields.INSERTIONS)
+                        .size();
+                OracleDBResultParameterProcessor resultParameterProcessor =
+                        OracleDBResultParameterProcessor.getInstance();
+                List<ColumnDefinition> columnDefinitions = null;
+                Partition partition;
+                while (!closed && (partition = partitions.poll()) != null) {
+                    PreparedStatement statement = statements.get(partition.query);
+                    if (statement == null) {
+                        statement = connection.prepareStatement(partition.query);
+                        statements.put(partition.query, statement);
+                        activeStatements.add(statement);
+                    }
+                    OracleDBStatementParameterProcessor.getInstance().setParams(connection, statement,
+                            paramSQLString);
+                    for (int i = 0; i < partition.bounds.length; i++) {
+                        statement.setObject(parameterCount + i + 1, partition.bounds[i]);
+                    }
+                    try (ResultSet resultSet = statement.executeQuery()) {
+                        if (columnDefinitions == null) {
+                            columnDefinitions = io.ballerina.stdlib.sql.utils.Utils.getColumnDefinitions(resultSet,
+                                    recordType);
+                        }
+                        while (!closed && resultSet.next()) {
+                            offer(io.ballerina.stdlib.sql.utils.Utils.createRecord(resultSet, columnDefinitions,
+                                    recordType, resultParameterProcessor));
+                        }
+                    }
+                }
+            } finally {
+                for (PreparedStatement statement : statements.values()) {
+                    activeStatements.remove(statement);
+                    statement.close();
+                }
+                if (snapshotScn != null) {
+                    disableFlashback(connection);
+                }
+            }
+        } catch (Throwable th) {
+            if (!closed) {
+                offer(th);
+            }
+        } finally {
+            if (runningWorkerCount.decrementAndGet() == 0) {
+                onCompletion.run();
+            }
+            offer(PARTITION_WORKER_DONE);
+        }
+    }
+
+    private void offer(Object row) {
+        try {
+            while (!rows.offer(row, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (closed) {
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void enableFlashback(Connection connection) throws SQLException {
+        try (CallableStatement statement = connection.prepareCall(ENABLE_FLASHBACK_CALL)) {
+            statement.setLong(1, snapshotScn);
+            statement.execute();
+        }
+    }
+
+    private static void disableFlashback(Connection connection) throws SQLException {
+        try (CallableStatement statement = connection.prepareCall(DISABLE_FLASHBACK_CALL)) {
+            statement.execute();
+        }
+    }
+
+    /**
+     * Action which starts the execution of the query once the call is admitted.
+     */
+    public interface Starter {
+        void start() throws SQLException, DataError;
+    }
+
+    /**
+     * Query of a partition and the values of the bounds bound after the parameters of the query.
+     */
+    private static class Partition {
+        private final String query;
+        private final Object[] bounds;
+
+        private Partition(String query, Object... bounds) {
+            this.query = query;
+            this.bounds = bounds;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.stdlib.oracledb.utils;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+import io.ballerina.stdlib.sql.datasource.SQLDatasource;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This class collects the statistics of a connection pool. It is registered as the metrics tracker of the pool, which
+ * reports the acquisition, creation and timeouts of its connections, and it reads the connection counts from the
+ * statistics of the pool.
+ *
+ * Clients which share a pool share its statistics.
+ *
+ * @since 1.0.2
+ */
+public class PoolMetrics implements IMetricsTracker {
+
+    // Upper bounds of the buckets of the acquire time histogram, in microseconds.
+    private static final long[] ACQUIRE_TIME_BOUNDS = {1000, 5000, 10000, 50000, 100000, 500000, 1000000, 5000000};
+
+    private static final ThreadLocal<PoolMetrics> createdMetrics = new ThreadLocal<>();
+    private static final Map<SQLDatasource, PoolMetrics> datasourceMetrics = new WeakHashMap<>();
+
+    private final PoolStats poolStats;
+    private final LongAdder[] acquireTimeCounts = new LongAdder[ACQUIRE_TIME_BOUNDS.length + 1];
+    private final LongAdder acquireTimeMicros = new LongAdder();
+    private final LongAdder connectionTimeoutCount = new LongAdder();
+    private final LongAdder createdConnectionCount = new LongAdder();
+    private final LongAdder connectionCreationMillis = new LongAdder();
+    private final LongAccumulator maxConnectionCreationMillis = new LongAccumulator(Math::max, 0);
+
+    private PoolMetrics(PoolStats poolStats) {
+        this.poolStats = poolStats;
+        for (int i = 0; i < acquireTimeCounts.length; i++) {
+            acquireTimeCounts[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Factory which the pool instantiates by its class name to create the metrics tracker of the pool. The pool is
+     * created on the thread which initializes the client, hence the tracker is handed over through that thread.
+     */
+    public static class Factory implements MetricsTrackerFactory {
+
+        @Override
+        public IMetricsTracker create(String poolName, PoolStats poolStats) {
+            PoolMetrics metrics = new PoolMetrics(poolStats);
+            createdMetrics.set(metrics);
+            return metrics;
+        }
+    }
+
+    /**
+     * Associate the tracker created by a pool on the current thread, if any, with the datasource of the pool.
+     * @param datasource datasource of the client which was initialized on the current thread
+     */
+    public static void register(SQLDatasource datasource) {
+        PoolMetrics metrics = createdMetrics.get();
+        createdMetrics.remove();
+        if (metrics != null && datasource != null) {
+            synchronized (datasourceMetrics) {
+                datasourceMetrics.put(datasource, metrics);
+            }
+        }
+    }
+
+    /**
+     * Discard the tracker created by a pool on the current thread, if any, when the client could not be initialized.
+     */
+    public static void discard() {
+        createdMetrics.remove();
+    }
+
+    /**
+     * Return the statistics of the pool of the given datasource.
+     * @param datasource datasource of the client
+     * @return statistics of the pool, or null if the pool does not report its statistics
+     */
+    public static PoolMetrics get(SQLDatasource datasource) {
+        synchronized (datasourceMetrics) {
+            return datasourceMetrics.get(datasource);
+        }
+    }
+
+    @Override
+    public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+        long micros = TimeUnit.NANOSECONDS.toMicros(elapsedAcquiredNanos);
+        int bucket = 0;
+        while (bucket < ACQUIRE_TIME_BOUNDS.length && micros > ACQUIRE_TIME_BOUNDS[bucket]) {
+            bucket++;
+        }
+        acquireTimeCounts[bucket].increment();
+        acquireTimeMicros.add(micros);
+    }
+
+    @Override
+    public void recordConnectionCreatedMillis(long connectionCreatedMillis) {
+        createdConnectionCount.increment();
+        connectionCreationMillis.add(connectionCreatedMillis);
+        maxConnectionCreationMillis.accumulate(connectionCreatedMillis);
+    }
+
+    @Override
+    public void recordConnectionTimeout() {
+        connectionTimeoutCount.increment();
+    }
+
+    public PoolStats getPoolStats() {
+        return poolStats;
+    }
+
+    public static long[] getAcquireTimeBounds() {
+        return ACQUIRE_TIME_BOUNDS.clone();
+    }
+
+    public long[] getAcquireTimeCounts() {
+        long[] counts = new long[acquireTimeCounts.length];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = acquireTimeCounts[i].sum();
+        }
+        return counts;
+    }
+
+    public long getAcquireTimeMicros() {
+        return acquireTimeMicros.sum();
+    }
+
+    public long getConnectionTimeoutCount() {
+        return connectionTimeoutCount.sum();
+    }
+
+    public long getCreatedConnectionCount() {
+        return createdConnectionCount.sum();
+    }
+
+    public long getConnectionCreationMillis() {
+        return connectionCreationMillis.sum();
+    }
+
+    public long getMaxConnectionCreationMillis() {
+        return maxConnectionCreationMillis.get();
+    }
+}
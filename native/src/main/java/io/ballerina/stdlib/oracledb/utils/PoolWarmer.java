@@ -0,0 +1,110 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.stdlib.oracledb.utils;
+
+import io.ballerina.stdlib.sql.datasource.SQLDatasource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+/**
+ * This class creates the connections of a pool before they are needed by the requests of the client. The connections
+ * are requested concurrently from the pool, optionally validated, and held until all of them are ready so that the
+ * pool creates each of them instead of handing out the same idle connection again.
+ *
+ * @since 1.0.2
+ */
+public class PoolWarmer {
+
+    private PoolWarmer() {}
+
+    /**
+     * Create and validate the given number of connections and return them to the pool as idle connections.
+     * @param datasource datasource of the client
+     * @param connectionCount number of connections to be created
+     * @param validationQuery query run on each connection, or null
+     * @throws SQLException if a connection cannot be created or validated
+     */
+    public static void warmUp(SQLDatasource datasource, int connectionCount, String validationQuery)
+            throws SQLException {
+        List<Future<Connection>> futures = new ArrayList<>(connectionCount);
+        for (int i = 0; i < connectionCount; i++) {
+            futures.add(Utils.getWorkerExecutor().submit(() -> openConnection(datasource, validationQuery)));
+        }
+        List<Connection> connections = new ArrayList<>(connectionCount);
+        Throwable error = null;
+        try {
+            for (Future<Connection> future : futures) {
+                try {
+                    connections.add(future.get());
+                } catch (ExecutionException e) {
+                    if (error == null) {
+                        error = e.getCause();
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            error = e;
+        } finally {
+            for (Connection connection : connections) {
+                connection.close();
+            }
+        }
+        if (error instanceof SQLException) {
+            throw (SQLException) error;
+        } else if (error != null) {
+            throw new SQLException(error.getMessage(), error);
+        }
+    }
+
+    /**
+     * Create the connections in the background. Failures are ignored, as the pool creates the missing connections
+     * again when they are requested.
+     * @param datasource datasource of the client
+     * @param connectionCount number of connections to be created
+     * @param validationQuery query run on each connection, or null
+     */
+    public static void warmUpInBackground(SQLDatasource datasource, int connectionCount, String validationQuery) {
+        Utils.getWorkerExecutor().submit(() -> {
+            try {
+                warmUp(datasource, connectionCount, validationQuery);
+            } catch (SQLException e) {
+                // The connections are created on demand instead.
+            }
+        });
+    }
+
+    private static Connection openConnection(SQLDatasource datasource, String validationQuery) throws SQLException {
+        Connection connection = datasource.getSQLConnection();
+        if (validationQuery != null) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(validationQuery);
+            } catch (SQLException e) {
+                connection.close();
+                throw e;
+            }
+        }
+        return connection;
+    }
+}
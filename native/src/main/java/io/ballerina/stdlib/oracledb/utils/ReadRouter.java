@@ -0,0 +1,128 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.stdlib.oracledb.utils;
+
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.transactions.TransactionResourceManager;
+import io.ballerina.stdlib.oracledb.Constants;
+import io.ballerina.stdlib.sql.datasource.SQLDatasource;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This class routes the queries of a client to its read replica. Queries are made on the primary database within a
+ * transaction, when they are marked with `oracledb:onPrimary()`, and while the apply lag of the replica exceeds the
+ * maximum lag configured for the replica. The lag is checked on the replica at most once per check interval.
+ *
+ * @since 1.0.2
+ */
+public class ReadRouter {
+
+    private static final String APPLY_LAG_QUERY = "SELECT EXTRACT(DAY FROM lag) * 86400 + EXTRACT(HOUR FROM lag) * " +
+            "3600 + EXTRACT(MINUTE FROM lag) * 60 + EXTRACT(SECOND FROM lag) FROM (SELECT TO_DSINTERVAL(value) lag " +
+            "FROM v$dataguard_stats WHERE name = 'apply lag')";
+
+    private final BObject replicaClient;
+    private final long maxLagMillis;
+    private final long lagCheckIntervalNanos;
+    private final AtomicLong nextLagCheck = new AtomicLong(System.nanoTime());
+    private volatile boolean isReplicaCurrent = true;
+
+    /**
+     * Create a router to the given replica client.
+     * @param replicaClient client of the read replica
+     * @param config read replica options of the client, validated when the client is initialized
+     */
+    public ReadRouter(BObject replicaClient, BMap<BString, Object> config) {
+        Object maxLag = config.get(Constants.ReadReplica.MAX_LAG);
+        long lagCheckInterval = Utils.getTimeoutInMilliSeconds(config.get(Constants.ReadReplica.LAG_CHECK_INTERVAL));
+        this.maxLagMillis = maxLag == null ? -1 : Utils.getTimeoutInMilliSeconds(maxLag);
+        this.replicaClient = replicaClient;
+        this.lagCheckIntervalNanos = TimeUnit.MILLISECONDS.toNanos(lagCheckInterval);
+    }
+
+    /**
+     * Return the client on which a query should be made.
+     * @param client client object
+     * @param paramSQLString parameterized query to be made
+     * @return replica client of the client if the query can be made on the replica, or else the client itself
+     */
+    public static BObject route(BObject client, BObject paramSQLString) {
+        Object nativeRouter = client.getNativeData(Constants.NativeData.READ_ROUTER);
+        if (!(nativeRouter instanceof ReadRouter) || isPrimaryQuery(paramSQLString) ||
+                TransactionResourceManager.getInstance().isInTransaction()) {
+            return client;
+        }
+        ReadRouter router = (ReadRouter) nativeRouter;
+        return router.isReplicaCurrent() ? router.replicaClient : client;
+    }
+
+    /**
+     * Get the client of the read replica.
+     * @return replica client
+     */
+    public BObject getReplicaClient() {
+        return replicaClient;
+    }
+
+    private static boolean isPrimaryQuery(BObject paramSQLString) {
+        Type type = paramSQLString.getType();
+        return Constants.ReadReplica.PRIMARY_QUERY_OBJECT.equals(type.getName()) &&
+                ModuleUtils.getModule().equals(type.getPackage());
+    }
+
+    private boolean isReplicaCurrent() {
+        if (maxLagMillis < 0) {
+            return true;
+        }
+        long nextCheck = nextLagCheck.get();
+        long now = System.nanoTime();
+        // Only one caller checks the lag when it is due, and the others use the result of the previous check.
+        if (now - nextCheck >= 0 && nextLagCheck.compareAndSet(nextCheck, now + lagCheckIntervalNanos)) {
+            isReplicaCurrent = checkLag();
+        }
+        return isReplicaCurrent;
+    }
+
+    private boolean checkLag() {
+        SQLDatasource sqlDatasource = Utils.getSQLDatasource(replicaClient);
+        if (sqlDatasource == null) {
+            return false;
+        }
+        try (Connection connection = sqlDatasource.getSQLConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(APPLY_LAG_QUERY)) {
+            // A replica which does not report its apply lag is not considered current.
+            if (!resultSet.next()) {
+                return false;
+            }
+            double lagSeconds = resultSet.getDouble(1);
+            return !resultSet.wasNull() && lagSeconds * 1000 <= maxLagMillis;
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+}
@@ -19,7 +19,12 @@
 package io.ballerina.stdlib.oracledb.utils;
 
 import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.stdlib.oracledb.Constants;
 import io.ballerina.stdlib.oracledb.parameterprocessor.OracleDBResultParameterProcessor;
+import io.ballerina.stdlib.sql.exception.DataError;
+import io.ballerina.stdlib.sql.utils.ErrorGenerator;
+
+import java.sql.SQLException;
 
 /**
  * This class provides functionality to call `sql:RecordIteratorUtils` with a custom `ResultParameterProcessor` object.
@@ -39,4 +44,57 @@ public class RecordIteratorUtils {
         return io.ballerina.stdlib.sql.utils.RecordIteratorUtils.nextResult(iterator,
                 OracleDBResultParameterProcessor.getInstance());
     }
+
+    /**
+     * Return the next row merged from the partitions of a parallel query.
+     * @param iterator `oracledb:ParallelResultIterator` BObject
+     * @return next row, error or null if all the partitions are completed
+     */
+    public static Object nextParallelResult(BObject iterator) {
+        Object error = iterator.getNativeData(Constants.ParallelQuery.ERROR);
+        if (error != null) {
+            iterator.addNativeData(Constants.ParallelQuery.ERROR, null);
+            return error;
+        }
+        ParallelQueryExecutor executor =
+                (ParallelQueryExecutor) iterator.getNativeData(Constants.ParallelQuery.EXECUTOR);
+        if (executor == null) {
+            return null;
+        }
+        Object row;
+        try {
+            row = executor.next();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            row = e;
+        }
+        if (row == null || row instanceof Throwable) {
+            closeParallelResult(iterator);
+        }
+        if (row instanceof SQLException) {
+            return ErrorGenerator.getSQLDatabaseError((SQLException) row, "Error while executing partition of the " +
+                    "parallel query. ");
+        } else if (row instanceof DataError) {
+            return ErrorGenerator.getSQLApplicationError((DataError) row);
+        } else if (row instanceof Throwable) {
+            return ErrorGenerator.getSQLError((Throwable) row, "Error while executing partition of the " +
+                    "parallel query. ");
+        }
+        return row;
+    }
+
+    /**
+     * Stop the partitions of a parallel query and release their connections.
+     * @param iterator `oracledb:ParallelResultIterator` BObject
+     * @return null
+     */
+    public static Object closeParallelResult(BObject iterator) {
+        ParallelQueryExecutor executor =
+                (ParallelQueryExecutor) iterator.getNativeData(Constants.ParallelQuery.EXECUTOR);
+        if (executor != null) {
+            executor.close();
+            iterator.addNativeData(Constants.ParallelQuery.EXECUTOR, null);
+        }
+        return null;
+    }
 }
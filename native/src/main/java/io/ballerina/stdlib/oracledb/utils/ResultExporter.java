@@ -0,0 +1,438 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.stdlib.oracledb.utils;
+
+import oracle.jdbc.OracleResultSet;
+import oracle.jdbc.OracleTypes;
+import oracle.sql.TIMESTAMP;
+import oracle.sql.TIMESTAMPTZ;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.OffsetDateTime;
+import java.util.Base64;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * This class writes the rows of a result set to a file as CSV or newline delimited JSON. Column values are encoded
+ * from the result set directly into a byte buffer without creating ballerina values.
+ *
+ * @since 1.0.2
+ */
+public class ResultExporter implements AutoCloseable {
+
+    private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] NULL_LITERAL = "null".getBytes(StandardCharsets.US_ASCII);
+    private static final int MAX_UTF8_CHAR_LENGTH = 6;
+    private static final int MAX_DATE_TIME_LENGTH = 48;
+
+    private enum ColumnKind {
+        NUMBER, FLOATING_POINT, DATE_TIME, DATE_TIME_WITH_ZONE, BINARY, STRING
+    }
+
+    private final boolean isJson;
+    private final byte delimiter;
+    private final FileChannel fileChannel;
+    private final OutputStream compressedStream;
+    private final ByteBuffer buffer;
+    private final DateTimeDecoder dateTimeDecoder = new DateTimeDecoder();
+
+    /**
+     * Create an exporter writing to the given file.
+     * @param path path of the file, which is replaced if it exists
+     * @param isJson whether rows are written as newline delimited JSON objects instead of CSV records
+     * @param delimiter field delimiter of the CSV records
+     * @param compress whether the file is compressed with GZIP
+     * @param bufferSize size of the buffer in bytes
+     * @throws IOException if the file cannot be opened
+     */
+    public ResultExporter(Path path, boolean isJson, char delimiter, boolean compress, int bufferSize)
+            throws IOException {
+        this.isJson = isJson;
+        this.delimiter = (byte) delimiter;
+        this.fileChannel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        if (compress) {
+            // The deflater consumes a byte array, so a heap buffer avoids copying the encoded rows out of the buffer.
+            this.compressedStream = new GZIPOutputStream(Channels.newOutputStream(fileChannel), bufferSize);
+            this.buffer = ByteBuffer.allocate(bufferSize);
+        } else {
+            this.compressedStream = null;
+            this.buffer = ByteBuffer.allocateDirect(bufferSize);
+        }
+    }
+
+    /**
+     * Write all the remaining rows of the result set.
+     * @param resultSet result set positioned before the first row to be written
+     * @param includeHeader whether a header record with the column labels is written before the rows of a CSV file
+     * @return number of rows written
+     * @throws SQLException if the rows cannot be read
+     * @throws IOException if the rows cannot be written
+     */
+    public long export(ResultSet resultSet, boolean includeHeader) throws SQLException, IOException {
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        int columnCount = metaData.getColumnCount();
+        ColumnKind[] kinds = new ColumnKind[columnCount];
+        byte[][] jsonKeys = new byte[columnCount][];
+        for (int i = 0; i < columnCount; i++) {
+            kinds[i] = getColumnKind(metaData.getColumnType(i + 1));
+            String label = metaData.getColumnLabel(i + 1);
+            jsonKeys[i] = ("\"" + label.replace("\\", "\\\\").replace("\"", "\\\"") + "\":")
+                    .getBytes(StandardCharsets.UTF_8);
+        }
+        if (includeHeader && !isJson) {
+            for (int i = 0; i < columnCount; i++) {
+                if (i > 0) {
+                    put(delimiter);
+                }
+                writeCsvString(metaData.getColumnLabel(i + 1));
+            }
+            put((byte) '\n');
+        }
+        long rowCount = 0;
+        while (resultSet.next()) {
+            if (isJson) {
+                put((byte) '{');
+            }
+            for (int i = 0; i < columnCount; i++) {
+                if (i > 0) {
+                    put(isJson ? (byte) ',' : delimiter);
+                }
+                if (isJson) {
+                    put(jsonKeys[i]);
+                }
+                writeValue(resultSet, i + 1, kinds[i]);
+            }
+            if (isJson) {
+                put((byte) '}');
+            }
+            put((byte) '\n');
+            rowCount++;
+        }
+        return rowCount;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            drain();
+            if (compressedStream != null) {
+                compressedStream.close();
+            }
+        } finally {
+            fileChannel.close();
+        }
+    }
+
+    private static ColumnKind getColumnKind(int sqlType) {
+        switch (sqlType) {
+            case Types.NUMERIC:
+            case Types.DECIMAL:
+            case Types.INTEGER:
+            case Types.SMALLINT:
+            case Types.TINYINT:
+            case Types.BIGINT:
+                return ColumnKind.NUMBER;
+            case Types.FLOAT:
+            case Types.REAL:
+            case Types.DOUBLE:
+            case OracleTypes.BINARY_FLOAT:
+            case OracleTypes.BINARY_DOUBLE:
+                return ColumnKind.FLOATING_POINT;
+            case Types.DATE:
+            case Types.TIMESTAMP:
+            case OracleTypes.TIMESTAMPLTZ:
+                return ColumnKind.DATE_TIME;
+            case OracleTypes.TIMESTAMPTZ:
+            case Types.TIMESTAMP_WITH_TIMEZONE:
+                return ColumnKind.DATE_TIME_WITH_ZONE;
+            case Types.BINARY:
+            case Types.VARBINARY:
+            case Types.LONGVARBINARY:
+            case Types.BLOB:
+                return ColumnKind.BINARY;
+            default:
+                return ColumnKind.STRING;
+        }
+    }
+
+    private void writeValue(ResultSet resultSet, int columnIndex, ColumnKind kind)
+            throws SQLException, IOException {
+        switch (kind) {
+            case NUMBER:
+                BigDecimal number = resultSet.getBigDecimal(columnIndex);
+                if (number == null) {
+                    writeNull();
+                } else {
+                    writeAscii(number.toPlainString());
+                }
+                break;
+            case FLOATING_POINT:
+                double doubleValue = resultSet.getDouble(columnIndex);
+                if (resultSet.wasNull()) {
+                    writeNull();
+                } else if (Double.isNaN(doubleValue) || Double.isInfinite(doubleValue)) {
+                    writeString(Double.toString(doubleValue));
+                } else {
+                    writeAscii(Double.toString(doubleValue));
+                }
+                break;
+            case DATE_TIME:
+                TIMESTAMP timestamp = resultSet.unwrap(OracleResultSet.class).getTIMESTAMP(columnIndex);
+                if (timestamp == null) {
+                    writeNull();
+                } else {
+                    dateTimeDecoder.decodeTimestamp(timestamp.toBytes());
+                    writeDateTime(false);
+                }
+                break;
+            case DATE_TIME_WITH_ZONE:
+                TIMESTAMPTZ timestampWithZone = resultSet.unwrap(OracleResultSet.class).getTIMESTAMPTZ(columnIndex);
+                if (timestampWithZone == null) {
+                    writeNull();
+                } else if (dateTimeDecoder.decodeTimestampWithTimeZone(timestampWithZone.toBytes())) {
+                    writeDateTime(true);
+                } else {
+                    writeString(resultSet.getObject(columnIndex, OffsetDateTime.class).toString());
+                }
+                break;
+            case BINARY:
+                byte[] bytes = resultSet.getBytes(columnIndex);
+                writeNullableString(bytes == null ? null : Base64.getEncoder().encodeToString(bytes));
+                break;
+            default:
+                writeNullableString(resultSet.getString(columnIndex));
+                break;
+        }
+    }
+
+    /**
+     * Write the value decoded by the date-time decoder in the ISO 8601 format.
+     */
+    private void writeDateTime(boolean withOffset) throws IOException {
+        ensureCapacity(MAX_DATE_TIME_LENGTH);
+        if (isJson) {
+            buffer.put((byte) '"');
+        }
+        writeDigits(dateTimeDecoder.getYear(), 4);
+        buffer.put((byte) '-');
+        writeDigits(dateTimeDecoder.getMonth(), 2);
+        buffer.put((byte) '-');
+        writeDigits(dateTimeDecoder.getDay(), 2);
+        buffer.put((byte) 'T');
+        writeDigits(dateTimeDecoder.getHour(), 2);
+        buffer.put((byte) ':');
+        writeDigits(dateTimeDecoder.getMinute(), 2);
+        buffer.put((byte) ':');
+        writeDigits(dateTimeDecoder.getSecond(), 2);
+        int nanos = dateTimeDecoder.getNanos();
+        if (nanos > 0) {
+            buffer.put((byte) '.');
+            if (nanos % 1000000 == 0) {
+                writeDigits(nanos / 1000000, 3);
+            } else if (nanos % 1000 == 0) {
+                writeDigits(nanos / 1000, 6);
+            } else {
+                writeDigits(nanos, 9);
+            }
+        }
+        if (withOffset) {
+            int offsetSeconds = dateTimeDecoder.getOffsetSeconds();
+            if (offsetSeconds == 0) {
+                buffer.put((byte) 'Z');
+            } else {
+                buffer.put(offsetSeconds < 0 ? (byte) '-' : (byte) '+');
+                int offsetMinutes = Math.abs(offsetSeconds) / 60;
+                writeDigits(offsetMinutes / 60, 2);
+                buffer.put((byte) ':');
+                writeDigits(offsetMinutes % 60, 2);
+            }
+        }
+        if (isJson) {
+            buffer.put((byte) '"');
+        }
+    }
+
+    private void writeDigits(int value, int width) {
+        if (value < 0) {
+            buffer.put((byte) '-');
+        }
+        int magnitude = Math.abs(value);
+        int divisor = 1;
+        for (int i = 1; i < width || divisor * 10L <= magnitude; i++) {
+            divisor *= 10;
+        }
+        for (; divisor > 0; divisor /= 10) {
+            buffer.put((byte) ('0' + magnitude / divisor % 10));
+        }
+    }
+
+    private void writeNull() throws IOException {
+        if (isJson) {
+            put(NULL_LITERAL);
+        }
+    }
+
+    private void writeNullableString(String value) throws IOException {
+        if (value == null) {
+            writeNull();
+        } else {
+            writeString(value);
+        }
+    }
+
+    private void writeString(String value) throws IOException {
+        if (isJson) {
+            writeJsonString(value);
+        } else {
+            writeCsvString(value);
+        }
+    }
+
+    private void writeAscii(String value) throws IOException {
+        ensureCapacity(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            buffer.put((byte) value.charAt(i));
+        }
+    }
+
+    private void writeCsvString(String value) throws IOException {
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == delimiter || c == '"' || c == '\n' || c == '\r';
+        }
+        if (quote) {
+            put((byte) '"');
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                put((byte) '"');
+            }
+            i = writeUtf8(value, i);
+        }
+        if (quote) {
+            put((byte) '"');
+        }
+    }
+
+    private void writeJsonString(String value) throws IOException {
+        put((byte) '"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                put((byte) '\\');
+                put((byte) c);
+            } else if (c == '\n') {
+                put((byte) '\\');
+                put((byte) 'n');
+            } else if (c == '\r') {
+                put((byte) '\\');
+                put((byte) 'r');
+            } else if (c == '\t') {
+                put((byte) '\\');
+                put((byte) 't');
+            } else if (c < 0x20) {
+                ensureCapacity(6);
+                buffer.put((byte) '\\').put((byte) 'u').put((byte) '0').put((byte) '0')
+                        .put(HEX_DIGITS[c >> 4]).put(HEX_DIGITS[c & 0xF]);
+            } else {
+                i = writeUtf8(value, i);
+            }
+        }
+        put((byte) '"');
+    }
+
+    /**
+     * Encode the character at the given index as UTF-8.
+     * @return index of the last character consumed, which is the next index for a surrogate pair
+     */
+    private int writeUtf8(String value, int index) throws IOException {
+        ensureCapacity(MAX_UTF8_CHAR_LENGTH);
+        char c = value.charAt(index);
+        if (c < 0x80) {
+            buffer.put((byte) c);
+        } else if (c < 0x800) {
+            buffer.put((byte) (0xC0 | (c >> 6))).put((byte) (0x80 | (c & 0x3F)));
+        } else if (Character.isHighSurrogate(c) && index + 1 < value.length()
+                && Character.isLowSurrogate(value.charAt(index + 1))) {
+            int codePoint = Character.toCodePoint(c, value.charAt(index + 1));
+            buffer.put((byte) (0xF0 | (codePoint >> 18))).put((byte) (0x80 | ((codePoint >> 12) & 0x3F)))
+                    .put((byte) (0x80 | ((codePoint >> 6) & 0x3F))).put((byte) (0x80 | (codePoint & 0x3F)));
+            return index + 1;
+        } else if (Character.isSurrogate(c)) {
+            buffer.put((byte) '?');
+        } else {
+            buffer.put((byte) (0xE0 | (c >> 12))).put((byte) (0x80 | ((c >> 6) & 0x3F)))
+                    .put((byte) (0x80 | (c & 0x3F)));
+        }
+        return index;
+    }
+
+    private void put(byte value) throws IOException {
+        ensureCapacity(1);
+        buffer.put(value);
+    }
+
+    private void put(byte[] value) throws IOException {
+        if (value.length > buffer.capacity()) {
+            drain();
+            write(ByteBuffer.wrap(value));
+            return;
+        }
+        ensureCapacity(value.length);
+        buffer.put(value);
+    }
+
+    private void ensureCapacity(int length) throws IOException {
+        if (buffer.remaining() < length) {
+            drain();
+        }
+    }
+
+    private void drain() throws IOException {
+        buffer.flip();
+        write(buffer);
+        buffer.clear();
+    }
+
+    private void write(ByteBuffer source) throws IOException {
+        if (compressedStream != null) {
+            compressedStream.write(source.array(), source.arrayOffset() + source.position(), source.remaining());
+            source.position(source.limit());
+        } else {
+            while (source.hasRemaining()) {
+                fileChannel.write(source);
+            }
+        }
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.stdlib.oracledb.utils;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.TypeTags;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.MapType;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTypedesc;
+import io.ballerina.stdlib.oracledb.Constants;
+import io.ballerina.stdlib.oracledb.parameterprocessor.OracleDBStatementParameterProcessor;
+import io.ballerina.stdlib.sql.exception.DataError;
+import oracle.jdbc.OraclePreparedStatement;
+import oracle.jdbc.OracleTypes;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Map;
+
+/**
+ * This class executes DML statements with a `RETURNING ... INTO` clause, whose values are registered as return
+ * parameters of the statement, and collects the returned values of each column into a typed array.
+ *
+ * Oracle does not support return parameters with JDBC batching, hence a batch is executed row by row on a single
+ * statement. This still saves the query that would otherwise be needed to read back the generated values.
+ *
+ * @since 1.0.2
+ */
+public class ReturningExecutor {
+
+    private static final int MAX_STRING_LENGTH = 4000;
+
+    private final String sqlQuery;
+    private final String[] columnNames;
+    private final Type[] columnTypes;
+    private final BArray[] returnedValues;
+    private long affectedRowCount = 0;
+
+    /**
+     * Create an executor of the given DML statement.
+     * @param sqlQuery SQL string of the statement without a `RETURNING` clause
+     * @param returning Ballerina types of the returned values, keyed by the column names
+     * @throws DataError if a column name or a type is not supported
+     */
+    public ReturningExecutor(String sqlQuery, BMap<BString, Object> returning) throws DataError {
+        int columnCount = returning.size();
+        columnNames = new String[columnCount];
+        columnTypes = new Type[columnCount];
+        returnedValues = new BArray[columnCount];
+        StringBuilder columns = new StringBuilder();
+        StringBuilder placeholders = new StringBuilder();
+        int i = 0;
+        for (Map.Entry<BString, Object> column : returning.entrySet()) {
+            String columnName = column.getKey().getValue();
+            if (!columnName.matches(Constants.Import.COLUMN_NAME_PATTERN)) {
+                throw new DataError(String.format("Invalid column name '%s'.", columnName));
+            }
+            Type columnType = ((BTypedesc) column.getValue()).getDescribingType();
+            getSqlType(columnType);
+            columnNames[i] = columnName;
+            columnTypes[i] = columnType;
+            returnedValues[i] = ValueCreator.createArrayValue(TypeCreator.createArrayType(
+                    TypeCreator.createUnionType(columnType, PredefinedTypes.TYPE_NULL)));
+            columns.append(i == 0 ? "" : ", ").append(columnName);
+            placeholders.append(i == 0 ? "?" : ", ?");
+            i++;
+        }
+        this.sqlQuery = sqlQuery + " RETURNING " + columns + " INTO " + placeholders;
+    }
+
+    public String getSqlQuery() {
+        return sqlQuery;
+    }
+
+    public long getAffectedRowCount() {
+        return affectedRowCount;
+    }
+
+    /**
+     * Execute the given parameterized queries, which should all generate the SQL string of this executor.
+     * @param connection connection on which the statements are executed
+     * @param statementParameterProcessor processor which binds the parameters of the queries
+     * @param paramSQLStrings parameterized queries
+     * @throws SQLException if an execution fails
+     * @throws DataError if a parameter cannot be bound
+     */
+    public void execute(Connection connection, OracleDBStatementParameterProcessor statementParameterProcessor,
+                        BObject[] paramSQLStrings) throws SQLException, DataError {
+        int parameterCount = paramSQLStrings[0].getArrayValue(Constants.ParameterizedQueryFields.STRINGS).size() - 1;
+        try (PreparedStatement statement = connection.prepareStatement(sqlQuery)) {
+            OraclePreparedStatement oracleStatement = statement.unwrap(OraclePreparedStatement.class);
+            for (int i = 0; i < columnTypes.length; i++) {
+                int sqlType = getSqlType(columnTypes[i]);
+                if (sqlType == Types.VARCHAR) {
+                    oracleStatement.registerReturnParameter(parameterCount + i + 1, sqlType, MAX_STRING_LENGTH);
+                } else {
+                    oracleStatement.registerReturnParameter(parameterCount + i + 1, sqlType);
+                }
+            }
+            for (BObject paramSQLString : paramSQLStrings) {
+                statementParameterProcessor.setParams(connection, statement, paramSQLString);
+                affectedRowCount += statement.executeUpdate();
+                try (ResultSet resultSet = oracleStatement.getReturnResultSet()) {
+                    while (resultSet.next()) {
+                        for (int i = 0; i < columnTypes.length; i++) {
+                            returnedValues[i].append(getValue(resultSet, i + 1, columnTypes[i]));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Return the returned values of each column as a map of typed arrays.
+     * @param resultRecord record of the result, whose `returnedValues` field type is used for the map
+     * @return map of the returned values keyed by the column names
+     */
+    public BMap<BString, Object> getReturnedValues(BMap<BString, Object> resultRecord) {
+        Type mapType = ((RecordType) resultRecord.getType()).getFields()
+                .get(Constants.ReturningExecution.RETURNED_VALUES).getFieldType();
+        BMap<BString, Object> values = ValueCreator.createMapValue((MapType) mapType);
+        for (int i = 0; i < columnNames.length; i++) {
+            values.put(StringUtils.fromString(columnNames[i]), returnedValues[i]);
+        }
+        return values;
+    }
+
+    private static int getSqlType(Type columnType) throws DataError {
+        switch (columnType.getTag()) {
+            case TypeTags.INT_TAG:
+            case TypeTags.DECIMAL_TAG:
+            case TypeTags.FLOAT_TAG:
+                return OracleTypes.NUMBER;
+            case TypeTags.STRING_TAG:
+                return Types.VARCHAR;
+            case TypeTags.RECORD_TYPE_TAG:
+                if (columnType.getName().equalsIgnoreCase(io.ballerina.stdlib.time.util.Constants.CIVIL_RECORD)) {
+                    return Types.TIMESTAMP;
+                }
+                break;
+            default:
+                break;
+        }
+        throw new DataError(String.format("Unsupported type '%s' for a returned value.", columnType.getName()));
+    }
+
+    private static Object getValue(ResultSet resultSet, int columnIndex, Type columnType) throws SQLException {
+        Object value;
+        switch (columnType.getTag()) {
+            case TypeTags.INT_TAG:
+                value = resultSet.getLong(columnIndex);
+                break;
+            case TypeTags.DECIMAL_TAG:
+                BigDecimal decimal = resultSet.getBigDecimal(columnIndex);
+                value = decimal == null ? null : ValueCreator.createDecimalValue(decimal);
+                break;
+            case TypeTags.FLOAT_TAG:
+                value = resultSet.getDouble(columnIndex);
+                break;
+            case TypeTags.STRING_TAG:
+                String string = resultSet.getString(columnIndex);
+                value = string == null ? null : StringUtils.fromString(string);
+                break;
+            default:
+                Timestamp timestamp = resultSet.getTimestamp(columnIndex);
+                value = timestamp == null ? null :
+                        io.ballerina.stdlib.sql.utils.Utils.createTimestampRecord(timestamp);
+        }
+        return resultSet.wasNull() ? null : value;
+    }
+}
@@ -0,0 +1,504 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.stdlib.oracledb.utils;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.oracledb.Constants;
+import io.ballerina.stdlib.oracledb.parameterprocessor.BindPlan;
+import io.ballerina.stdlib.sql.exception.DataError;
+
+import java.math.BigDecimal;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This class inserts or updates rows of a table with a single `MERGE` statement, which is executed as array DML
+ * batches in chunks. The statement is generated once per table and column set and is reused afterwards.
+ *
+ * The database reports a single count for both branches of a `MERGE`, hence the keys of each chunk that already
+ * exist in the table are counted before the chunk is executed to tell the updated rows from the inserted rows. The
+ * keys are counted with a statement whose SQL string does not depend on the number of rows, either by binding a
+ * single key column as a collection or by padding the `IN` list to a fixed length.
+ *
+ * @since 1.0.2
+ */
+public class UpsertExecutor {
+
+    // Maximum number of expressions of an `IN` list accepted by the database.
+    private static final int MAX_IN_LIST_SIZE = 1000;
+    // Default collection types of `NumberList` and `StringList`, which are VARRAYs of up to 32767 elements.
+    private static final String NUMBER_LIST_TYPE = "SYS.ODCINUMBERLIST";
+    private static final String STRING_LIST_TYPE = "SYS.ODCIVARCHAR2LIST";
+    private static final int MAX_LIST_SIZE = 32767;
+    private static final int MAX_LIST_STRING_LENGTH = 4000;
+    private static final int MAX_CACHE_ENTRIES = 1024;
+    private static final String UNSUPPORTED_VALUE_MESSAGE = "Unsupported value in the rows. Row values should be " +
+            "strings, numbers, booleans, date-times or nil.";
+
+    private static final Map<String, MergeStatement> mergeStatements = new ConcurrentHashMap<>();
+
+    private final String tableName;
+    private final String[] keyColumns;
+    private final String[] columns;
+    private final BArray rows;
+    private final int chunkSize;
+    private final boolean normalizeBinds;
+    private final MergeStatement mergeStatement;
+    private final BindPlan countBindPlan;
+    private long insertedRowCount = 0;
+    private long updatedRowCount = 0;
+
+    /**
+     * Create an executor which upserts the given rows.
+     * @param tableName name of the table
+     * @param keyColumns columns which identify a row of the table
+     * @param rows rows to be inserted or updated, which should all have the same fields
+     * @param chunkSize maximum number of rows sent to the database as a single batch
+     * @param normalizeBinds whether strings are bound with a normalized length and nil values with a stable type
+     * @throws DataError if the table, the columns or the rows are not valid
+     */
+    public UpsertExecutor(String tableName, String[] keyColumns, BArray rows, int chunkSize, boolean normalizeBinds)
+            throws DataError {
+        if (!tableName.matches(Constants.Import.TABLE_NAME_PATTERN)) {
+            throw new DataError(String.format("Invalid table name '%s'.", tableName));
+        }
+        BMap<?, ?> firstRow = (BMap<?, ?>) rows.get(0);
+        columns = new String[firstRow.size()];
+        int i = 0;
+        for (Object field : firstRow.getKeys()) {
+            String column = ((BString) field).getValue();
+            if (!column.matches(Constants.Import.COLUMN_NAME_PATTERN)) {
+                throw new DataError(String.format("Invalid column name '%s'.", column));
+            }
+            columns[i++] = column;
+        }
+        List<String> columnList = Arrays.asList(columns);
+        for (String keyColumn : keyColumns) {
+            if (!columnList.contains(keyColumn)) {
+                throw new DataError(String.format("Key column '%s' is not a field of the rows.", keyColumn));
+            }
+        }
+        this.tableName = tableName;
+        this.keyColumns = keyColumns;
+        this.rows = rows;
+        this.chunkSize = chunkSize;
+        this.normalizeBinds = normalizeBinds;
+        this.mergeStatement = getMergeStatement(tableName, keyColumns, columns);
+        this.countBindPlan = new BindPlan(getInListSize() * keyColumns.length);
+    }
+
+    public String getSqlQuery() {
+        return mergeStatement.sqlQuery;
+    }
+
+    public long getInsertedRowCount() {
+        return insertedRowCount;
+    }
+
+    public long getUpdatedRowCount() {
+        return updatedRowCount;
+    }
+
+    /**
+     * Execute the chunks on the given connection. The connection is committed once after all chunks are executed if
+     * `manageCommit` is set, or the commit is left to the current transaction otherwise.
+     * @param connection connection on which the statements are executed
+     * @param manageCommit whether the rows are committed by this execution
+     * @throws SQLException if a chunk fails
+     * @throws DataError if a row does not match the fields of the first row or a value cannot be bound
+     */
+    public void execute(Connection connection, boolean manageCommit) throws SQLException, DataError {
+        boolean autoCommit = connection.getAutoCommit();
+        if (manageCommit && autoCommit) {
+            connection.setAutoCommit(false);
+        }
+        try (PreparedStatement statement = connection.prepareStatement(mergeStatement.sqlQuery)) {
+            BArray insertions = createInsertions(columns.length);
+            for (int start = 0; start < rows.size(); start += chunkSize) {
+                int end = Math.min(start + chunkSize, rows.size());
+                // Without update columns, the statement has no `WHEN MATCHED` branch and matched rows are skipped.
+                long matchedRowCount = mergeStatement.updatesMatchedRows ? countMatchedRows(connection, start, end) : 0;
+                for (int i = start; i < end; i++) {
+                    BMap<?, ?> row = getRow(i);
+                    for (int j = 0; j < columns.length; j++) {
+                        insertions.add(j, row.get(StringUtils.fromString(columns[j])));
+                    }
+                    bind(mergeStatement.bindPlan, statement, insertions);
+                    statement.addBatch();
+                }
+                long affectedRowCount = 0;
+                for (int updateCount : statement.executeBatch()) {
+                    if (updateCount > 0) {
+                        affectedRowCount += updateCount;
+                    }
+                }
+                long chunkUpdatedRowCount = Math.min(matchedRowCount, affectedRowCount);
+                updatedRowCount += chunkUpdatedRowCount;
+                insertedRowCount += affectedRowCount - chunkUpdatedRowCount;
+            }
+            if (manageCommit) {
+                connection.commit();
+            }
+        } catch (SQLException | DataError | RuntimeException e) {
+            if (manageCommit) {
+                connection.rollback();
+            }
+            throw e;
+        } finally {
+            if (manageCommit && autoCommit) {
+                connection.setAutoCommit(true);
+            }
+        }
+    }
+
+    private long countMatchedRows(Connection connection, int start, int end) throws SQLException, DataError {
+        long count = 0;
+        // Rows whose key occurs earlier in the chunk update the row inserted or updated by that occurrence.
+        Set<List<Object>> keys = new HashSet<>();
+        for (int i = start; i < end; i++) {
+            List<Object> key = getKey(getRow(i));
+            if (key != null && !keys.add(key)) {
+                count++;
+            }
+        }
+        String listType = keyColumns.length == 1 ? getListType(start, end) : null;
+        if (listType != null) {
+            return count + countMatchedRowsWithList(connection, start, end, listType);
+        }
+        int inListSize = getInListSize();
+        try (PreparedStatement statement = connection.prepareStatement(getCountQuery(inListSize))) {
+            BArray insertions = createInsertions(inListSize * keyColumns.length);
+            for (int sliceStart = start; sliceStart < end; sliceStart += inListSize) {
+                int sliceEnd = Math.min(sliceStart + inListSize, end);
+                int index = 0;
+                for (int i = sliceStart; i < sliceEnd; i++) {
+                    BMap<?, ?> row = getRow(i);
+                    for (String keyColumn : keyColumns) {
+                        insertions.add(index++, row.get(StringUtils.fromString(keyColumn)));
+                    }
+                }
+                // The rest of the list is padded with nil values, which do not match any row.
+                while (index < insertions.size()) {
+                    insertions.add(index++, (Object) null);
+                }
+                bind(countBindPlan, statement, insertions);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    resultSet.next();
+                    count += resultSet.getLong(1);
+                }
+            }
+        }
+        return count;
+    }
+
+    private long countMatchedRowsWithList(Connection connection, int start, int end, String listType)
+            throws SQLException, DataError {
+        long count = 0;
+        String query = "SELECT COUNT(*) FROM " + tableName + " WHERE " + keyColumns[0] +
+                " IN (SELECT column_value FROM TABLE(?))";
+        BString keyColumn = StringUtils.fromString(keyColumns[0]);
+        try (PreparedStatement statement = connection.prepareStatement(query)) {
+            for (int sliceStart = start; sliceStart < end; sliceStart += MAX_LIST_SIZE) {
+                int sliceEnd = Math.min(sliceStart + MAX_LIST_SIZE, end);
+                List<Object> values = new ArrayList<>(sliceEnd - sliceStart);
+                for (int i = sliceStart; i < sliceEnd; i++) {
+                    Object value = getRow(i).get(keyColumn);
+                    if (value instanceof BString) {
+                        values.add(((BString) value).getValue());
+                    } else if (value instanceof BDecimal) {
+                        values.add(((BDecimal) value).decimalValue());
+                    } else if (value != null) {
+                        values.add(value);
+                    }
+                }
+                Array list = Utils.getOracleConnection(connection).createOracleArray(listType, values.toArray());
+                try {
+                    statement.setArray(1, list);
+                    try (ResultSet resultSet = statement.executeQuery()) {
+                        resultSet.next();
+                        count += resultSet.getLong(1);
+                    }
+                } finally {
+                    list.free();
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @return collection type with which the keys of the rows can be bound, or null if the keys are not all numbers
+     * or all strings that fit the collection
+     */
+    private String getListType(int start, int end) throws DataError {
+        BString keyColumn = StringUtils.fromString(keyColumns[0]);
+        String listType = null;
+        for (int i = start; i < end; i++) {
+            Object value = getRow(i).get(keyColumn);
+            String valueListType;
+            if (value == null) {
+                continue;
+            } else if (value instanceof Long || value instanceof Double || value instanceof BDecimal) {
+                valueListType = NUMBER_LIST_TYPE;
+            } else if (value instanceof BString && ((BString) value).length() <= MAX_LIST_STRING_LENGTH) {
+                valueListType = STRING_LIST_TYPE;
+            } else {
+                return null;
+            }
+            if (listType != null && !listType.equals(valueListType)) {
+                return null;
+            }
+            listType = valueListType;
+        }
+        return listType == null ? NUMBER_LIST_TYPE : listType;
+    }
+
+    private int getInListSize() {
+        return Math.min(chunkSize, MAX_IN_LIST_SIZE);
+    }
+
+    private String getCountQuery(int rowCount) {
+        StringBuilder keyList = new StringBuilder();
+        for (String keyColumn : keyColumns) {
+            keyList.append(keyList.length() == 0 ? "" : ", ").append(keyColumn);
+        }
+        StringBuilder query = new StringBuilder("SELECT COUNT(*) FROM ").append(tableName).append(" WHERE ");
+        query.append(keyColumns.length == 1 ? keyList : "(" + keyList + ")").append(" IN (");
+        for (int i = 0; i < rowCount; i++) {
+            query.append(i == 0 ? "" : ", ");
+            if (keyColumns.length == 1) {
+                query.append('?');
+            } else {
+                query.append('(');
+                for (int j = 0; j < keyColumns.length; j++) {
+                    query.append(j == 0 ? "?" : ", ?");
+                }
+                query.append(')');
+            }
+        }
+        return query.append(')').toString();
+    }
+
+    private BMap<?, ?> getRow(int index) throws DataError {
+        BMap<?, ?> row = (BMap<?, ?>) rows.get(index);
+        if (row.size() != columns.length) {
+            throw new DataError(String.format("Row %d does not have the same fields as the first row.", index));
+        }
+        for (String column : columns) {
+            if (!row.containsKey(StringUtils.fromString(column))) {
+                throw new DataError(String.format("Row %d does not have the same fields as the first row.",
+                        index));
+            }
+        }
+        return row;
+    }
+
+    private List<Object> getKey(BMap<?, ?> row) {
+        List<Object> key = new ArrayList<>(keyColumns.length);
+        for (String keyColumn : keyColumns) {
+            Object value = row.get(StringUtils.fromString(keyColumn));
+            if (value == null) {
+                // Nil keys do not match any row and are always inserted.
+                return null;
+            } else if (value instanceof BString) {
+                key.add(((BString) value).getValue());
+            } else if (value instanceof BDecimal) {
+                key.add(((BDecimal) value).decimalValue().stripTrailingZeros());
+            } else if (value instanceof BMap || value instanceof BArray) {
+                key.add(value.toString());
+            } else {
+                key.add(value);
+            }
+        }
+        return key;
+    }
+
+    private void bind(BindPlan bindPlan, PreparedStatement statement, BArray insertions)
+            throws SQLException, DataError {
+        if (bindPlan.bind(statement, insertions, normalizeBinds)) {
+            return;
+        }
+        // Values the plan does not bind, such as civil values with a time zone abbreviation or an offset with
+        // seconds, are bound with their JDBC types as the generic parameter processor does.
+        for (int i = 0; i < insertions.size(); i++) {
+            setValue(statement, i + 1, insertions.get(i));
+        }
+    }
+
+    private static void setValue(PreparedStatement statement, int index, Object value)
+            throws SQLException, DataError {
+        if (value == null) {
+            statement.setNull(index, Types.VARCHAR);
+        } else if (value instanceof BString) {
+            statement.setString(index, ((BString) value).getValue());
+        } else if (value instanceof Long) {
+            statement.setLong(index, (Long) value);
+        } else if (value instanceof Double) {
+            statement.setDouble(index, (Double) value);
+        } else if (value instanceof BDecimal) {
+            statement.setBigDecimal(index, ((BDecimal) value).decimalValue());
+        } else if (value instanceof Boolean) {
+            statement.setBoolean(index, (Boolean) value);
+        } else {
+            try {
+                setDateTimeValue(statement, index, value);
+            } catch (DateTimeException | ClassCastException e) {
+                throw new DataError("Invalid date-time value in the rows: " + e.getMessage());
+            }
+        }
+    }
+
+    private static void setDateTimeValue(PreparedStatement statement, int index, Object value)
+            throws SQLException, DataError {
+        if (value instanceof BArray && DatumEncoder.isUtc((BArray) value)) {
+            BArray utc = (BArray) value;
+            BigDecimal fraction = ((BDecimal) utc.get(1)).decimalValue();
+            statement.setTimestamp(index, Timestamp.from(Instant.ofEpochSecond((Long) utc.get(0),
+                    fraction.movePointRight(9).longValue())));
+            return;
+        }
+        if (!(value instanceof BMap)) {
+            throw new DataError(UNSUPPORTED_VALUE_MESSAGE);
+        }
+        BMap<?, ?> record = (BMap<?, ?>) value;
+        String recordName = record.getType().getName();
+        LocalDate date = LocalDate.of(getField(record, Constants.Types.DateTimeFields.YEAR),
+                getField(record, Constants.Types.DateTimeFields.MONTH),
+                getField(record, Constants.Types.DateTimeFields.DAY));
+        if (recordName.equalsIgnoreCase(io.ballerina.stdlib.time.util.Constants.DATE_RECORD)) {
+            statement.setDate(index, java.sql.Date.valueOf(date));
+            return;
+        }
+        if (!recordName.equalsIgnoreCase(io.ballerina.stdlib.time.util.Constants.CIVIL_RECORD)) {
+            throw new DataError(UNSUPPORTED_VALUE_MESSAGE);
+        }
+        Object second = record.get(Constants.Types.DateTimeFields.SECOND);
+        long nanos = second == null ? 0 : ((BDecimal) second).decimalValue().movePointRight(9).longValue();
+        LocalDateTime dateTime = date.atTime(getField(record, Constants.Types.DateTimeFields.HOUR),
+                getField(record, Constants.Types.DateTimeFields.MINUTE)).plusNanos(nanos);
+        Object utcOffset = record.get(Constants.Types.DateTimeFields.UTC_OFFSET);
+        if (utcOffset == null) {
+            // The time zone abbreviation is informational, as in the generic parameter processor.
+            statement.setTimestamp(index, Timestamp.valueOf(dateTime));
+            return;
+        }
+        BMap<?, ?> offset = (BMap<?, ?>) utcOffset;
+        Object offsetMinutes = offset.get(Constants.Types.DateTimeFields.MINUTES);
+        Object offsetSeconds = offset.get(Constants.Types.DateTimeFields.SECONDS);
+        int totalSeconds = getField(offset, Constants.Types.DateTimeFields.HOURS) * 3600
+                + (offsetMinutes == null ? 0 : ((Long) offsetMinutes).intValue() * 60)
+                + (offsetSeconds == null ? 0 : ((BDecimal) offsetSeconds).decimalValue().intValue());
+        statement.setObject(index, OffsetDateTime.of(dateTime, ZoneOffset.ofTotalSeconds(totalSeconds)),
+                Types.TIMESTAMP_WITH_TIMEZONE);
+    }
+
+    private static int getField(BMap<?, ?> record, BString field) {
+        return ((Long) record.get(field)).intValue();
+    }
+
+    private static BArray createInsertions(int size) {
+        BArray insertions = ValueCreator.createArrayValue(TypeCreator.createArrayType(PredefinedTypes.TYPE_ANYDATA));
+        for (int i = 0; i < size; i++) {
+            insertions.append(null);
+        }
+        return insertions;
+    }
+
+    private static MergeStatement getMergeStatement(String tableName, String[] keyColumns, String[] columns) {
+        String cacheKey = tableName + '\u0000' + String.join(",", keyColumns) + '\u0000' + String.join(",", columns);
+        MergeStatement mergeStatement = mergeStatements.get(cacheKey);
+        if (mergeStatement == null) {
+            if (mergeStatements.size() >= MAX_CACHE_ENTRIES) {
+                mergeStatements.clear();
+            }
+            List<String> keyColumnList = Arrays.asList(keyColumns);
+            boolean updatesMatchedRows = !keyColumnList.containsAll(Arrays.asList(columns));
+            mergeStatement = new MergeStatement(createMergeQuery(tableName, keyColumns, columns), columns.length,
+                    updatesMatchedRows);
+            mergeStatements.put(cacheKey, mergeStatement);
+        }
+        return mergeStatement;
+    }
+
+    private static String createMergeQuery(String tableName, String[] keyColumns, String[] columns) {
+        List<String> keyColumnList = Arrays.asList(keyColumns);
+        StringBuilder source = new StringBuilder();
+        StringBuilder condition = new StringBuilder();
+        StringBuilder updates = new StringBuilder();
+        StringBuilder insertColumns = new StringBuilder();
+        StringBuilder insertValues = new StringBuilder();
+        for (String column : columns) {
+            String separator = insertColumns.length() == 0 ? "" : ", ";
+            source.append(separator).append("? ").append(column);
+            insertColumns.append(separator).append(column);
+            insertValues.append(separator).append("s.").append(column);
+            if (keyColumnList.contains(column)) {
+                condition.append(condition.length() == 0 ? "" : " AND ")
+                        .append("t.").append(column).append(" = s.").append(column);
+            } else {
+                updates.append(updates.length() == 0 ? "" : ", ")
+                        .append("t.").append(column).append(" = s.").append(column);
+            }
+        }
+        StringBuilder query = new StringBuilder("MERGE INTO ").append(tableName).append(" t USING (SELECT ")
+                .append(source).append(" FROM dual) s ON (").append(condition).append(")");
+        if (updates.length() > 0) {
+            query.append(" WHEN MATCHED THEN UPDATE SET ").append(updates);
+        }
+        return query.append(" WHEN NOT MATCHED THEN INSERT (").append(insertColumns).append(") VALUES (")
+                .append(insertValues).append(")").toString();
+    }
+
+    private static class MergeStatement {
+
+        private final String sqlQuery;
+        private final BindPlan bindPlan;
+        private final boolean updatesMatchedRows;
+
+        private MergeStatement(String sqlQuery, int parameterCount, boolean updatesMatchedRows) {
+            this.sqlQuery = sqlQuery;
+            this.bindPlan = new BindPlan(parameterCount);
+            this.updatesMatchedRows = updatesMatchedRows;
+        }
+    }
+}
@@ -21,22 +21,47 @@ import io.ballerina.runtime.api.creators.ValueCreator;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BDecimal;
 import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BValue;
 import io.ballerina.stdlib.oracledb.Constants;
+import io.ballerina.stdlib.sql.datasource.SQLDatasource;
 import io.ballerina.stdlib.sql.exception.DataError;
 import io.ballerina.stdlib.sql.exception.UnsupportedTypeError;
 import oracle.jdbc.OracleConnection;
 
 import java.sql.Connection;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.EnumSet;
 import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 /**
  * This class contains utility functions required by the nativeimpl package.
  */
 public class Utils {
 
+    // Workers mostly wait on the database, and their concurrency is also bounded by the connection pools.
+    private static final int MAX_WORKER_THREADS = 64;
+    private static final long WORKER_KEEP_ALIVE_SECONDS = 60;
+    private static final AtomicInteger workerCount = new AtomicInteger();
+    private static final ExecutorService workerExecutor = createWorkerExecutor();
+    private static final Pattern CONNECT_DATA = Pattern.compile("\\(\\s*CONNECT_DATA\\s*=", Pattern.CASE_INSENSITIVE);
+    private static final Pattern SERVER_TYPE = Pattern.compile("\\(\\s*SERVER\\s*=\\s*(\\w+)\\s*\\)",
+            Pattern.CASE_INSENSITIVE);
+    // EZConnect string of the form [//]host[:port]/service[:server], without an instance name.
+    private static final Pattern EZCONNECT = Pattern.compile(
+            "(//)?(\\[[^\\]]+\\]|[^/:()\\[\\]]+)(:\\d+)?/[^/:()]+(:(\\w+))?");
+
     private Utils() {}
 
     /**
@@ -57,7 +82,7 @@ public class Utils {
         return options;
     }
 
-    private static long getTimeoutInMilliSeconds(Object secondsDecimal) {
+    static long getTimeoutInMilliSeconds(Object secondsDecimal) {
         if (secondsDecimal instanceof BDecimal) {
             BDecimal timeoutSec = (BDecimal) secondsDecimal;
             if (timeoutSec.floatValue() >= 0) {
@@ -82,13 +107,52 @@ public class Utils {
         if (autocommit != null) {
             connProperties.put(OracleConnection.CONNECTION_PROPERTY_AUTOCOMMIT, String.valueOf(autocommit));
         }
+        Long statementCacheSize = clientOptions.getIntValue(Constants.Options.STATEMENT_CACHE_SIZE);
+        if (statementCacheSize != null && statementCacheSize > 0) {
+            connProperties.put(OracleConnection.CONNECTION_PROPERTY_IMPLICIT_STATEMENT_CACHE_SIZE,
+                    String.valueOf(statementCacheSize));
+        }
+        BString commitMode = clientOptions.getStringValue(Constants.Options.COMMIT_MODE);
+        if (commitMode != null && !Constants.CommitMode.IMMEDIATE_WAIT.equals(commitMode.getValue())) {
+            connProperties.put(OracleConnection.CONNECTION_PROPERTY_COMMIT_OPTION,
+                    getCommitOptions(commitMode.getValue()).stream().map(Enum::name)
+                            .collect(Collectors.joining(",")));
+        }
         BMap secureSocket = clientOptions.getMapValue(Constants.Options.SSL);
         if (secureSocket != null) {
             setSSLConProperties(secureSocket, connProperties);
         }
+        BMap drcp = clientOptions.getMapValue(Constants.Options.DRCP);
+        if (drcp != null) {
+            connProperties.put(OracleConnection.CONNECTION_PROPERTY_CONNECTION_CLASS,
+                    drcp.getStringValue(Constants.Drcp.CONNECTION_CLASS).getValue().trim());
+            connProperties.put(OracleConnection.CONNECTION_PROPERTY_CONNECTION_PURITY,
+                    drcp.getStringValue(Constants.Drcp.PURITY).getValue());
+        }
+        BMap network = clientOptions.getMapValue(Constants.Options.NETWORK);
+        if (network != null) {
+            connProperties.put(OracleConnection.CONNECTION_PROPERTY_THIN_TCP_NO_DELAY,
+                    String.valueOf(network.getBooleanValue(Constants.Network.TCP_NO_DELAY)));
+            connProperties.put(OracleConnection.CONNECTION_PROPERTY_NETWORK_COMPRESSION,
+                    network.getStringValue(Constants.Network.COMPRESSION).getValue());
+            connProperties.put(OracleConnection.CONNECTION_PROPERTY_NETWORK_COMPRESSION_THRESHOLD,
+                    String.valueOf(network.getIntValue(Constants.Network.COMPRESSION_THRESHOLD)));
+        }
         return connProperties;
     }
 
+    /**
+     * Get the commit options of the driver for a commit mode.
+     * @param commitMode `oracledb:CommitMode` value
+     * @return commit options
+     */
+    public static EnumSet<OracleConnection.CommitOption> getCommitOptions(String commitMode) {
+        if (Constants.CommitMode.BATCH_NOWAIT.equals(commitMode)) {
+            return EnumSet.of(OracleConnection.CommitOption.WRITEBATCH, OracleConnection.CommitOption.NOWAIT);
+        }
+        return EnumSet.of(OracleConnection.CommitOption.WRITEIMMED, OracleConnection.CommitOption.WAIT);
+    }
+
     /**
      * Generate a Properties object of pool properties.
      * @param clientOptions pool options provided by the user
@@ -104,12 +168,179 @@ public class Utils {
         if (autocommit != null) {
             poolProperties.put(Constants.Pool.AUTO_COMMIT, autocommit);
         }
+        BMap warmup = clientOptions.getMapValue(Constants.Options.WARMUP);
+        if (warmup != null && warmup.getBooleanValue(Constants.Warmup.LAZY)) {
+            // The pool is started without opening a connection, and the warm-up creates them in the background.
+            poolProperties.put(Constants.Pool.INITIALIZATION_FAIL_TIMEOUT, -1L);
+        }
         if (poolProperties.size() > 0) {
             return poolProperties;
         }
         return null;
     }
 
+    /**
+     * Generate the JDBC URL of the database. A connect descriptor given in the options is used as it is, except that
+     * the pooled server type is added to it when the DRCP options are given. Otherwise, the URL is built from the
+     * address list in the options, or from the host and port if there is none.
+     * @param host host of the database
+     * @param port port of the database
+     * @param database service name of the database
+     * @param clientOptions options provided by the user, or null
+     * @return JDBC URL of the database
+     * @throws DataError if the address list or the connect descriptor is not valid
+     */
+    public static String generateUrl(String host, int port, String database, BMap clientOptions) throws DataError {
+        String protocol = Constants.PROTOCOL_TCP;
+        BMap<BString, Object> addressList = null;
+        BMap<BString, Object> network = null;
+        boolean isPooledServer = false;
+        if (clientOptions != null) {
+            network = clientOptions.getMapValue(Constants.Options.NETWORK);
+            if (network != null) {
+                validateNetworkOptions(network);
+            }
+            BMap<BString, Object> drcp = clientOptions.getMapValue(Constants.Options.DRCP);
+            if (drcp != null) {
+                if (drcp.getStringValue(Constants.Drcp.CONNECTION_CLASS).getValue().trim().isEmpty()) {
+                    throw new DataError("DRCP option 'connectionClass' cannot be empty.");
+                }
+                isPooledServer = true;
+            }
+            BString connectDescriptor = clientOptions.getStringValue(Constants.Options.CONNECT_DESCRIPTOR);
+            if (connectDescriptor != null) {
+                String descriptor = connectDescriptor.getValue().trim();
+                if (descriptor.isEmpty()) {
+                    throw new DataError("Option 'connectDescriptor' cannot be empty.");
+                }
+                if (descriptor.startsWith(Constants.DRIVER)) {
+                    descriptor = descriptor.substring(Constants.DRIVER.length());
+                }
+                return Constants.DRIVER + (isPooledServer ? addPooledServer(descriptor) : descriptor);
+            }
+            if (clientOptions.getMapValue(Constants.Options.SSL) != null) {
+                protocol = Constants.PROTOCOL_TCPS;
+            }
+            addressList = clientOptions.getMapValue(Constants.Options.ADDRESS_LIST);
+        }
+        StringBuilder url = new StringBuilder(Constants.DRIVER);
+        url.append("(DESCRIPTION=");
+        if (network != null) {
+            appendNetworkParameter(url, "SDU", network.getIntValue(Constants.Network.SESSION_DATA_UNIT));
+            appendNetworkParameter(url, "SEND_BUF_SIZE", network.getIntValue(Constants.Network.SEND_BUFFER_SIZE));
+            appendNetworkParameter(url, "RECV_BUF_SIZE", network.getIntValue(Constants.Network.RECEIVE_BUFFER_SIZE));
+        }
+        if (addressList == null) {
+            appendAddress(url, protocol, host, port);
+        } else {
+            BArray addresses = addressList.getArrayValue(Constants.AddressList.ADDRESSES);
+            long retryCount = addressList.getIntValue(Constants.AddressList.RETRY_COUNT);
+            long retryDelay = addressList.getIntValue(Constants.AddressList.RETRY_DELAY);
+            if (addresses.size() == 0) {
+                throw new DataError("Address list option 'addresses' cannot be empty.");
+            }
+            if (retryCount < 0 || retryDelay < 0) {
+                throw new DataError("Address list options 'retryCount' and 'retryDelay' cannot be negative.");
+            }
+            if (retryCount > 0) {
+                url.append("(RETRY_COUNT=").append(retryCount).append(")");
+                url.append("(RETRY_DELAY=").append(retryDelay).append(")");
+            }
+            url.append("(ADDRESS_LIST=");
+            url.append("(LOAD_BALANCE=").append(getOnOff(addressList, Constants.AddressList.LOAD_BALANCE)).append(")");
+            url.append("(FAILOVER=").append(getOnOff(addressList, Constants.AddressList.FAILOVER)).append(")");
+            for (int i = 0; i < addresses.size(); i++) {
+                BMap address = (BMap) addresses.get(i);
+                appendAddress(url, protocol, address.getStringValue(Constants.AddressList.HOST).getValue(),
+                        address.getIntValue(Constants.AddressList.PORT).intValue());
+            }
+            url.append(")");
+        }
+        url.append("(CONNECT_DATA=(SERVICE_NAME=").append(database).append(")");
+        if (isPooledServer) {
+            url.append("(SERVER=POOLED)");
+        }
+        url.append(")");
+        url.append(")");
+        return url.toString();
+    }
+
+    /**
+     * Add the pooled server type to the connect data of a connect descriptor or an EZConnect string, so that the DRCP
+     * connection class and purity set in the connection properties are used.
+     * @param descriptor connect descriptor or EZConnect string without the driver prefix
+     * @return descriptor which connects to pooled servers
+     * @throws DataError if the descriptor has another server type, or if the server type cannot be added to it
+     */
+    private static String addPooledServer(String descriptor) throws DataError {
+        String serverType;
+        if (descriptor.startsWith("(")) {
+            Matcher server = SERVER_TYPE.matcher(descriptor);
+            if (!server.find()) {
+                Matcher connectData = CONNECT_DATA.matcher(descriptor);
+                if (!connectData.find()) {
+                    throw new DataError("Option 'connectDescriptor' should have a 'CONNECT_DATA' section to be " +
+                            "used with the DRCP options.");
+                }
+                return connectData.replaceAll("$0(SERVER=POOLED)");
+            }
+            serverType = server.group(1);
+        } else {
+            Matcher ezConnect = EZCONNECT.matcher(descriptor);
+            if (!ezConnect.matches()) {
+                throw new DataError("Option 'connectDescriptor' should be a connect descriptor or an EZConnect " +
+                        "string of the form 'host:port/service' to be used with the DRCP options.");
+            }
+            serverType = ezConnect.group(5);
+            if (serverType == null) {
+                return descriptor + ":POOLED";
+            }
+        }
+        if (!serverType.equalsIgnoreCase("POOLED")) {
+            throw new DataError(String.format("Option 'connectDescriptor' with the server type '%s' cannot be used " +
+                    "with the DRCP options.", serverType));
+        }
+        return descriptor;
+    }
+
+    private static void validateNetworkOptions(BMap<BString, Object> network) throws DataError {
+        Long sessionDataUnit = network.getIntValue(Constants.Network.SESSION_DATA_UNIT);
+        if (sessionDataUnit != null && (sessionDataUnit < Constants.Network.MIN_SESSION_DATA_UNIT ||
+                sessionDataUnit > Constants.Network.MAX_SESSION_DATA_UNIT)) {
+            throw new DataError(String.format("Network option 'sessionDataUnit' should be between %d and %d.",
+                    Constants.Network.MIN_SESSION_DATA_UNIT, Constants.Network.MAX_SESSION_DATA_UNIT));
+        }
+        Long sendBufferSize = network.getIntValue(Constants.Network.SEND_BUFFER_SIZE);
+        Long receiveBufferSize = network.getIntValue(Constants.Network.RECEIVE_BUFFER_SIZE);
+        if ((sendBufferSize != null && sendBufferSize <= 0) || (receiveBufferSize != null && receiveBufferSize <= 0)) {
+            throw new DataError("Network options 'sendBufferSize' and 'receiveBufferSize' should be positive " +
+                    "integers.");
+        }
+        if (network.getIntValue(Constants.Network.COMPRESSION_THRESHOLD) <
+                OracleConnection.NETWORK_COMPRESSION_THRESHOLD_MIN) {
+            throw new DataError(String.format("Network option 'compressionThreshold' should be at least %d.",
+                    OracleConnection.NETWORK_COMPRESSION_THRESHOLD_MIN));
+        }
+    }
+
+    private static void appendNetworkParameter(StringBuilder url, String name, Long value) {
+        if (value != null) {
+            url.append("(").append(name).append("=").append(value).append(")");
+        }
+    }
+
+    private static void appendAddress(StringBuilder url, String protocol, String host, int port) {
+        url.append("(ADDRESS=");
+        url.append("(PROTOCOL=").append(protocol).append(")");
+        url.append("(PORT=").append(port).append(")");
+        url.append("(HOST=").append(host).append(")");
+        url.append(")");
+    }
+
+    private static String getOnOff(BMap<BString, Object> options, BString key) {
+        return options.getBooleanValue(key) ? "on" : "off";
+    }
+
     private static void setSSLConProperties(BMap secureSocket, Properties connProperties) {
         BMap keyStore = secureSocket.getMapValue(Constants.SecureSocket.KEYSTORE);
         if (keyStore != null) {
@@ -192,4 +423,70 @@ public class Utils {
         }
         throw new SQLException("Cannot cast connection to Oracle connection");
     }
+
+    /**
+     * Return the datasource of the given client if the client is still active.
+     * @param client ballerina client instance
+     * @return datasource of the client or null if the client is not initialized or already closed
+     */
+    public static SQLDatasource getSQLDatasource(BObject client) {
+        Object dbClient = client.getNativeData(io.ballerina.stdlib.sql.Constants.DATABASE_CLIENT);
+        if (dbClient == null) {
+            return null;
+        }
+        Object activeStatus = client.getNativeData(io.ballerina.stdlib.sql.Constants.DATABASE_CLIENT_ACTIVE_STATUS);
+        if (!(activeStatus instanceof Boolean) || !((Boolean) activeStatus)) {
+            return null;
+        }
+        return (SQLDatasource) dbClient;
+    }
+
+    /**
+     * Return the maximum number of open connections of the given connection pool configuration.
+     * @param connectionPool connection pool configuration of the client, or the global connection pool
+     * @return maximum number of open connections, or -1 if there is no configuration
+     */
+    public static int getMaxOpenConnections(BMap connectionPool) {
+        if (connectionPool == null) {
+            return -1;
+        }
+        return connectionPool.getIntValue(Constants.ConnectionPool.MAX_OPEN_CONNECTIONS).intValue();
+    }
+
+    /**
+     * Close the resources of a statement made outside a transaction, ignoring the errors of closing them.
+     * @param resultSet result set, or null
+     * @param statement statement, or null
+     * @param connection connection, or null
+     */
+    public static void closeResources(ResultSet resultSet, Statement statement, Connection connection) {
+        for (AutoCloseable resource : new AutoCloseable[]{resultSet, statement, connection}) {
+            if (resource != null) {
+                try {
+                    resource.close();
+                } catch (Exception ignored) {
+                    // The result of the statement is already processed.
+                }
+            }
+        }
+    }
+
+    /**
+     * Return the executor used to run database work concurrently on separate pooled connections.
+     * @return shared executor of a bounded number of daemon worker threads
+     */
+    public static ExecutorService getWorkerExecutor() {
+        return workerExecutor;
+    }
+
+    private static ExecutorService createWorkerExecutor() {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(MAX_WORKER_THREADS, MAX_WORKER_THREADS,
+                WORKER_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "oracledb-worker-" + workerCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
 }
@@ -0,0 +1,216 @@
+/*
+ *  Copyright (c) 2021, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.stdlib.oracledb.utils;
+
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.oracledb.Constants;
+import io.ballerina.stdlib.sql.exception.DataError;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class schedules the connection acquisitions of the workload classes of a client. Each class may use a share of
+ * the connections of the pool, and when the pool is contended, the waiting calls of the classes with a higher
+ * priority are admitted before those of the classes with a lower priority, and in arrival order within a class.
+ *
+ * A call holds its slot until it returns, so that a class cannot take more than its share of the pool. Waiting calls
+ * do not block a thread; each waiter is a future which is completed when the call is admitted or times out.
+ *
+ * @since 1.0.2
+ */
+public class WorkloadScheduler {
+
+    private static final ScheduledThreadPoolExecutor timeoutExecutor = createTimeoutExecutor();
+
+    private final int poolSize;
+    private final Map<String, WorkloadClass> workloadClasses = new HashMap<>();
+    private final List<Waiter> waiters = new ArrayList<>();
+    private int activeCount = 0;
+    private long arrivalCount = 0;
+
+    /**
+     * Create the scheduler of the given workload classes.
+     * @param workloadClasses configurations of the workload classes keyed by their names
+     * @param poolSize maximum number of open connections of the pool
+     * @throws DataError if the configuration of a class is not valid
+     */
+    public WorkloadScheduler(BMap<BString, Object> workloadClasses, int poolSize) throws DataError {
+        // Without a pool configuration, the classes are limited by their own shares only.
+        this.poolSize = poolSize > 0 ? poolSize : Integer.MAX_VALUE;
+        for (Map.Entry<BString, Object> entry : workloadClasses.entrySet()) {
+            String name = entry.getKey().getValue();
+            BMap<?, ?> config = (BMap<?, ?>) entry.getValue();
+            double maxShare = ((BDecimal) config.get(Constants.WorkloadClass.MAX_SHARE)).floatValue();
+            long acquireTimeout = Utils.getTimeoutInMilliSeconds(config.get(Constants.WorkloadClass.ACQUIRE_TIMEOUT));
+            if (maxShare <= 0 || maxShare > 1 || acquireTimeout < 0) {
+                throw new DataError(String.format("Workload class '%s' should have a 'maxShare' greater than 0 " +
+                        "and at most 1, and a non-negative 'acquireTimeout'.", name));
+            }
+            int maxConnections = Math.max(1, (int) (maxShare * this.poolSize));
+            long priority = (Long) config.get(Constants.WorkloadClass.PRIORITY);
+            this.workloadClasses.put(name, new WorkloadClass(maxConnections, acquireTimeout, priority));
+        }
+    }
+
+    public boolean hasWorkloadClass(String name) {
+        return workloadClasses.containsKey(name);
+    }
+
+    /**
+     * Queue a call of the given class for admission.
+     * @param name name of the workload class
+     * @return future which is completed with true when the call is admitted, or with false if the call was not
+     *         admitted within the acquire timeout of the class
+     */
+    public synchronized CompletableFuture<Boolean> acquire(String name) {
+        WorkloadClass workloadClass = workloadClasses.get(name);
+        Waiter waiter = new Waiter(workloadClass, arrivalCount++);
+        int index = 0;
+        while (index < waiters.size() && !waiter.isBefore(waiters.get(index))) {
+            index++;
+        }
+        waiters.add(index, waiter);
+        // Only the new waiter can be admitted here, and its future has no dependents yet, hence it can be completed
+        // while the monitor is held.
+        complete(admitWaiters());
+        if (!waiter.admission.isDone()) {
+            if (workloadClass.acquireTimeout == 0) {
+                waiters.remove(waiter);
+                waiter.admission.complete(false);
+            } else {
+                waiter.timeout = timeoutExecutor.schedule(() -> expire(waiter), workloadClass.acquireTimeout,
+                        TimeUnit.MILLISECONDS);
+            }
+        }
+        return waiter.admission;
+    }
+
+    /**
+     * Release the slot of a call of the given class, which was admitted by `acquire`, and admit the waiting calls
+     * which can use the slot.
+     * @param name name of the workload class
+     */
+    public void release(String name) {
+        List<Waiter> admitted;
+        synchronized (this) {
+            workloadClasses.get(name).activeCount--;
+            activeCount--;
+            admitted = admitWaiters();
+        }
+        // The admitted calls continue outside the monitor.
+        complete(admitted);
+    }
+
+    private void expire(Waiter waiter) {
+        synchronized (this) {
+            if (!waiters.remove(waiter)) {
+                return;
+            }
+        }
+        waiter.admission.complete(false);
+    }
+
+    private List<Waiter> admitWaiters() {
+        List<Waiter> admitted = null;
+        Waiter waiter;
+        while ((waiter = getNextAdmitted()) != null) {
+            waiters.remove(waiter);
+            waiter.workloadClass.activeCount++;
+            activeCount++;
+            if (waiter.timeout != null) {
+                waiter.timeout.cancel(false);
+            }
+            if (admitted == null) {
+                admitted = new ArrayList<>();
+            }
+            admitted.add(waiter);
+        }
+        return admitted;
+    }
+
+    private static void complete(List<Waiter> admitted) {
+        if (admitted != null) {
+            for (Waiter waiter : admitted) {
+                waiter.admission.complete(true);
+            }
+        }
+    }
+
+    private Waiter getNextAdmitted() {
+        if (activeCount >= poolSize) {
+            return null;
+        }
+        for (Waiter waiter : waiters) {
+            if (waiter.workloadClass.activeCount < waiter.workloadClass.maxConnections) {
+                return waiter;
+            }
+        }
+        return null;
+    }
+
+    private static ScheduledThreadPoolExecutor createTimeoutExecutor() {
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "oracledb-workload-timeout");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.setRemoveOnCancelPolicy(true);
+        return executor;
+    }
+
+    private static class WorkloadClass {
+
+        private final int maxConnections;
+        private final long acquireTimeout;
+        private final long priority;
+        private int activeCount = 0;
+
+        private WorkloadClass(int maxConnections, long acquireTimeout, long priority) {
+            this.maxConnections = maxConnections;
+            this.acquireTimeout = acquireTimeout;
+            this.priority = priority;
+        }
+    }
+
+    private static class Waiter {
+
+        private final WorkloadClass workloadClass;
+        private final long arrival;
+        private final CompletableFuture<Boolean> admission = new CompletableFuture<>();
+        private ScheduledFuture<?> timeout;
+
+        private Waiter(WorkloadClass workloadClass, long arrival) {
+            this.workloadClass = workloadClass;
+            this.arrival = arrival;
+        }
+
+        private boolean isBefore(Waiter other) {
+            return workloadClass.priority > other.workloadClass.priority
+                    || (workloadClass.priority == other.workloadClass.priority && arrival < other.arrival);
+        }
+    }
+}
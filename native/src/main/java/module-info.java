@@ -20,8 +20,11 @@ module io.ballerina.stdlib.oracledb {
     requires io.ballerina.runtime;
     requires io.ballerina.stdlib.sql;
     requires io.ballerina.stdlib.time;
+    requires com.zaxxer.hikari;
     requires java.sql;
     requires ojdbc8;
     exports io.ballerina.stdlib.oracledb;
     exports io.ballerina.stdlib.oracledb.parameterprocessor;
+    exports io.ballerina.stdlib.oracledb.pool;
+    uses io.ballerina.stdlib.oracledb.pool.PoolProvider;
 }